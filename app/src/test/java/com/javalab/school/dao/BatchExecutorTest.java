@@ -0,0 +1,89 @@
+package com.javalab.school.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 묶음 단위 커밋과 실패한 묶음의 롤백(임베디드 H2 DB 사용)
+ */
+class BatchExecutorTest {
+
+    private static final String INSERT_SQL = "INSERT INTO department (department_id, name) VALUES (?, ?)";
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        TestDatabase.start();
+        TestDatabase.execute("INSERT INTO department (department_id, name) VALUES (2, '기존')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDatabase.stop();
+    }
+
+    @Test
+    void failedRowsAreReportedAndOthersCommitted() throws SQLException {
+        BatchResult<Integer> result = BatchExecutor.execute(INSERT_SQL, Arrays.asList(1, 2, 3, 4), 2,
+                (pstmt, id) -> {
+                    pstmt.setInt(1, id);
+                    pstmt.setString(2, "학과" + id);
+                });
+        assertEquals(3, result.getSuccessCount());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals(4, TestDatabase.queryLong("SELECT COUNT(*) FROM department"));
+    }
+
+    @Test
+    void unexpectedFailureRollsBackOpenChunk() throws SQLException {
+        // 두 번째 묶음(3, 2, 6)은 중복 키로 한 행씩 다시 실행되다가 6을 바인딩할 때 실패한다.
+        // 이미 실행된 3은 커밋되면 안 되고, 첫 번째 묶음(10, 11, 12)의 커밋은 남아야 한다.
+        AtomicInteger binds = new AtomicInteger();
+        List<Integer> ids = Arrays.asList(10, 11, 12, 3, 2, 6);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+                BatchExecutor.execute(INSERT_SQL, ids, 3, (pstmt, id) -> {
+                    if (id == 6 && binds.incrementAndGet() == 2) {
+                        throw new IllegalStateException("바인딩 실패");
+                    }
+                    pstmt.setInt(1, id);
+                    pstmt.setString(2, "학과" + id);
+                }));
+        assertEquals("바인딩 실패", e.getMessage());
+        assertEquals(4, TestDatabase.queryLong("SELECT COUNT(*) FROM department"));
+        assertEquals(0, TestDatabase.queryLong("SELECT COUNT(*) FROM department WHERE department_id = 3"));
+    }
+
+    @Test
+    void unexpectedFailureInUnitRollsBackToChunkStart() throws SQLException {
+        TransactionTemplate template = new TransactionTemplate();
+        assertThrows(IllegalStateException.class, () -> template.execute(unit -> {
+            TestDatabase.execute("INSERT INTO department (department_id, name) VALUES (20, '작업 단위')");
+            AtomicInteger binds = new AtomicInteger();
+            try {
+                BatchExecutor.execute(INSERT_SQL, Arrays.asList(3, 2, 5, 6), 4, (pstmt, id) -> {
+                    if (id == 6 && binds.incrementAndGet() == 2) {
+                        throw new IllegalStateException("바인딩 실패");
+                    }
+                    pstmt.setInt(1, id);
+                    pstmt.setString(2, "학과" + id);
+                });
+            } catch (IllegalStateException expected) {
+                // 묶음만 되돌려졌으므로 작업 단위의 앞선 변경은 남아 있다.
+                assertEquals(1, TestDatabase.queryLong("SELECT COUNT(*) FROM department WHERE department_id = 20"));
+                assertEquals(0, TestDatabase.queryLong("SELECT COUNT(*) FROM department WHERE department_id IN (3, 5)"));
+                throw expected;
+            }
+            return null;
+        }));
+        assertEquals(1, TestDatabase.queryLong("SELECT COUNT(*) FROM department"));
+    }
+}
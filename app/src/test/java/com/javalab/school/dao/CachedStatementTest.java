@@ -0,0 +1,59 @@
+package com.javalab.school.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 캐시에서 다시 꺼낸 문장은 이전 사용자가 바꾼 속성을 물려받지 않는다(임베디드 H2 DB 사용).
+ */
+class CachedStatementTest {
+
+    private static final String SQL = "SELECT 1";
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        PoolConfig config = new PoolConfig();
+        config.setDriverClassName("org.h2.Driver");
+        config.setUrl("jdbc:h2:mem:statement-cache;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMinIdle(0);
+        config.setMaxSize(1);
+        pool = new ConnectionPool(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void recycledStatementHasOriginalProperties() throws SQLException {
+        int fetchSize;
+        int maxRows;
+        int queryTimeout;
+        try (Connection conn = pool.borrow(); PreparedStatement pstmt = conn.prepareStatement(SQL)) {
+            fetchSize = pstmt.getFetchSize();
+            maxRows = pstmt.getMaxRows();
+            queryTimeout = pstmt.getQueryTimeout();
+            pstmt.setFetchSize(fetchSize + 500);
+            pstmt.setMaxRows(maxRows + 10);
+            pstmt.setQueryTimeout(queryTimeout + 30);
+        }
+        try (Connection conn = pool.borrow(); PreparedStatement pstmt = conn.prepareStatement(SQL)) {
+            assertEquals(1, pool.getMetrics().getStatementCacheHits());
+            assertEquals(fetchSize, pstmt.getFetchSize());
+            assertEquals(maxRows, pstmt.getMaxRows());
+            assertEquals(queryTimeout, pstmt.getQueryTimeout());
+        }
+    }
+}
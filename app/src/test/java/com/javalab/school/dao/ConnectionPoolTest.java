@@ -0,0 +1,139 @@
+package com.javalab.school.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ConnectionPool 대여/반환/정리/대기 시간 초과(임베디드 H2 DB 사용)
+ */
+class ConnectionPoolTest {
+
+    private static final AtomicInteger DB_SEQ = new AtomicInteger();
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = new ConnectionPool(config(2));
+        try (Connection conn = pool.borrow(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE item (id INT PRIMARY KEY)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void releasedConnectionIsReused() throws SQLException {
+        Connection first = pool.borrow();
+        assertEquals(1, pool.getActiveCount());
+        first.close();
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(1, pool.getIdleCount());
+
+        try (Connection second = pool.borrow()) {
+            assertTrue(second.isValid(1));
+        }
+        assertEquals(1, pool.getTotalCount());
+        assertEquals(1, pool.getMetrics().getCreatedCount());
+    }
+
+    @Test
+    void closedConnectionRejectsCalls() throws SQLException {
+        Connection conn = pool.borrow();
+        conn.close();
+        conn.close();   // 두 번 닫아도 한 번만 반환된다.
+        assertTrue(conn.isClosed());
+        assertThrows(SQLException.class, conn::createStatement);
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    @Test
+    void releaseRollsBackOpenTransaction() throws SQLException {
+        try (Connection conn = pool.borrow(); Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            stmt.executeUpdate("INSERT INTO item VALUES (1)");
+        }
+        try (Connection conn = pool.borrow();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM item")) {
+            assertTrue(conn.getAutoCommit());
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1));
+        }
+    }
+
+    @Test
+    void releaseRestoresReadOnlyAndIsolation() throws SQLException {
+        int isolation;
+        try (Connection conn = pool.borrow()) {
+            isolation = conn.getTransactionIsolation();
+            conn.setReadOnly(true);
+            conn.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        }
+        try (Connection conn = pool.borrow()) {
+            assertEquals(1, pool.getTotalCount());
+            assertFalse(conn.isReadOnly());
+            assertEquals(isolation, conn.getTransactionIsolation());
+        }
+    }
+
+    @Test
+    void borrowTimesOutWhenPoolIsExhausted() throws SQLException {
+        try (Connection a = pool.borrow(); Connection b = pool.borrow()) {
+            assertTrue(a.isValid(1) && b.isValid(1));
+            assertThrows(SQLTransientConnectionException.class, pool::borrow);
+            assertEquals(1, pool.getMetrics().getTimeoutCount());
+        }
+        try (Connection c = pool.borrow()) {
+            assertTrue(c.isValid(1));
+            assertEquals(1, pool.getActiveCount());
+        }
+    }
+
+    @Test
+    void evictClosesExpiredIdleConnections() throws SQLException {
+        pool.close();
+        PoolConfig config = config(2);
+        config.setIdleTimeoutMillis(0);
+        pool = new ConnectionPool(config);
+        Connection a = pool.borrow();
+        Connection b = pool.borrow();
+        a.close();
+        b.close();
+        assertEquals(2, pool.getIdleCount());
+
+        pool.evict();
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(0, pool.getTotalCount());
+        assertEquals(2, pool.getMetrics().getDestroyedCount());
+    }
+
+    private static PoolConfig config(int maxSize) {
+        PoolConfig config = new PoolConfig();
+        config.setDriverClassName("org.h2.Driver");
+        config.setUrl("jdbc:h2:mem:pool" + DB_SEQ.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMinIdle(0);
+        config.setMaxSize(maxSize);
+        config.setBorrowTimeoutMillis(100);
+        config.setEvictionIntervalMillis(60000);    // 정리는 테스트에서 직접 호출한다.
+        return config;
+    }
+}
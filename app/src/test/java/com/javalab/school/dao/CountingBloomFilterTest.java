@@ -0,0 +1,64 @@
+package com.javalab.school.dao;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카운팅 블룸 필터의 추가/삭제와 카운터 포화
+ */
+class CountingBloomFilterTest {
+
+    @Test
+    void addedKeysAreAlwaysFound() {
+        CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("S" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("S" + i));
+            if (filter.mightContain("X" + i)) {
+                falsePositives++;
+            }
+        }
+        assertEquals(1000, filter.getCount());
+        assertTrue(falsePositives < 50, "오탐 " + falsePositives + "건");
+    }
+
+    @Test
+    void removeDecrementsCounters() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+        filter.add("S1");
+        filter.add("S1");
+        filter.remove("S1");
+        assertTrue(filter.mightContain("S1"));
+        filter.remove("S1");
+        assertFalse(filter.mightContain("S1"));
+        assertEquals(0, filter.getCount());
+    }
+
+    @Test
+    void removingAbsentKeyIsIgnored() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+        filter.add("S1");
+        filter.remove("S2");
+        assertTrue(filter.mightContain("S1"));
+        assertEquals(1, filter.getCount());
+    }
+
+    @Test
+    void saturatedCountersAreNeverDecremented() {
+        CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+        for (int i = 0; i < 20; i++) {
+            filter.add("S1");
+        }
+        // 15에서 멈춘 카운터는 몇 번을 더 셌는지 모르므로 줄이지 않는다.
+        for (int i = 0; i < 20; i++) {
+            filter.remove("S1");
+        }
+        assertTrue(filter.mightContain("S1"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Professor;
+import com.javalab.school.domain.Student;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 읽기 관통 캐시: 없는 키 기억(negative caching), 만료, 무효화
+ * - 학과코드가 NULL인 행은 0이 아니라 null로 읽혀 학과 조회를 하지 않는다(임베디드 H2 DB 사용).
+ */
+class LookupCacheTest {
+
+    @Test
+    void missingKeyIsLoadedOnce() throws SQLException {
+        AtomicInteger loads = new AtomicInteger();
+        LookupCache<Integer, String> cache = new LookupCache<>("test", 60000, 10, key -> {
+            loads.incrementAndGet();
+            return key == 1 ? "학과1" : null;
+        });
+        for (int i = 0; i < 3; i++) {
+            assertEquals("학과1", cache.get(1));
+            assertNull(cache.get(99));
+        }
+        assertEquals(2, loads.get());
+        assertEquals(4, cache.getHitCount());
+    }
+
+    @Test
+    void missingKeyIsReloadedAfterInvalidateOrExpiry() throws SQLException {
+        AtomicInteger loads = new AtomicInteger();
+        String[] stored = {null};
+        LookupCache<Integer, String> cache = new LookupCache<>("test", 60000, 10, key -> {
+            loads.incrementAndGet();
+            return stored[0];
+        });
+        assertNull(cache.get(1));
+        stored[0] = "새 학과";      // 등록하면 DAO가 invalidate()를 호출한다.
+        cache.invalidate(1);
+        assertEquals("새 학과", cache.get(1));
+        assertEquals(2, loads.get());
+
+        LookupCache<Integer, String> expiring = new LookupCache<>("test", 0, 10, key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        expiring.get(1);
+        expiring.get(1);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void nullDepartmentIsNotLookedUp() throws SQLException {
+        TestDatabase.start();
+        try {
+            TestDatabase.execute(
+                    "INSERT INTO student (student_id, name, year) VALUES ('S1', '학과없음', 1)",
+                    "INSERT INTO professor (professor_id, name) VALUES ('P1', '학과없음')");
+            Student student = new StudentDao().findById("S1");
+            Professor professor = new ProfessorDao().findById("P1");
+            assertNull(student.getDepartmentId());
+            assertNull(professor.getDepartmentId());
+
+            LookupCache<Integer, ?> cache = DepartmentDao.getCache();
+            cache.invalidateAll();
+            long misses = cache.getMissCount();
+            assertNull(new DepartmentDao().findById(student.getDepartmentId()));
+            assertEquals(misses, cache.getMissCount());
+        } finally {
+            TestDatabase.stop();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Takes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 성적 쓰기 지연 버퍼의 저널 복구, 실패한 반영의 재시도, 디렉터리 잠금(임베디드 H2 DB 사용)
+ */
+class ScoreWriteBufferTest {
+
+    // 자동 반영이 끼어들지 않도록 크게 잡는다.
+    private static final int FLUSH_SIZE = 1000;
+    private static final long FLUSH_MILLIS = 60_000;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        TestDatabase.start();
+        TestDatabase.execute(
+                "INSERT INTO department (department_id, name) VALUES (1, '컴퓨터공학과')",
+                "INSERT INTO student (student_id, jumin, name, year, address, department_id) "
+                        + "VALUES ('S1', '000101-1000001', '김철수', 1, '서울', 1)",
+                "INSERT INTO student (student_id, jumin, name, year, address, department_id) "
+                        + "VALUES ('S2', '000101-2000002', '이영희', 2, '부산', 1)",
+                "INSERT INTO course (course_id, name, credit) VALUES ('C1', '자료구조', 3)",
+                "INSERT INTO class (class_id, course_id, year, semester, enroll) VALUES ('CL1', 'C1', 2024, '1', 30)",
+                "INSERT INTO takes (student_id, class_id, score) VALUES ('S1', 'CL1', 'C')",
+                "INSERT INTO takes (student_id, class_id, score) VALUES ('S2', 'CL1', 'C')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDatabase.stop();
+    }
+
+    @Test
+    void journalLeftWithoutCloseIsReplayed() throws IOException, SQLException {
+        Path crashed = directory.resolve("crashed");
+        try (ScoreWriteBuffer buffer = new ScoreWriteBuffer(directory.resolve("live"), FLUSH_SIZE, FLUSH_MILLIS)) {
+            buffer.update(new Takes("S1", "CL1", "B"));
+            buffer.update(new Takes("S1", "CL1", "A"));
+            buffer.update(new Takes("S2", "CL1", "B+"));
+            // update()가 반환된 시점의 디스크 상태 그대로 JVM이 죽었다고 본다.
+            copySegments(directory.resolve("live"), crashed);
+            assertEquals("C", score("S1"));
+
+            try (ScoreWriteBuffer recovered = new ScoreWriteBuffer(crashed, FLUSH_SIZE, FLUSH_MILLIS)) {
+                assertEquals(2, recovered.getRecoveredCount());
+                assertEquals("A", score("S1"));
+                assertEquals("B+", score("S2"));
+            }
+        }
+        assertTrue(listSegments(crashed).isEmpty());
+    }
+
+    @Test
+    void corruptOrTruncatedLastLineIsSkipped() throws IOException, SQLException {
+        Path crashed = directory.resolve("crashed");
+        try (ScoreWriteBuffer buffer = new ScoreWriteBuffer(directory.resolve("live"), FLUSH_SIZE, FLUSH_MILLIS)) {
+            buffer.update(new Takes("S1", "CL1", "A"));
+            copySegments(directory.resolve("live"), crashed);
+        }
+        TestDatabase.execute("UPDATE takes SET score = 'C' WHERE student_id = 'S1'");
+
+        Path segment = listSegments(crashed).get(0);
+        String valid = Files.readAllLines(segment, StandardCharsets.UTF_8).get(0);
+        String crc = valid.substring(0, valid.indexOf('\t'));
+        // 검사값이 맞지 않는 줄과, 기록 도중 끊긴 줄(줄바꿈 없음)
+        Files.write(segment, (crc + "\tS2\tCL1\tF\n" + crc + "\tS2\tCL")
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        try (ScoreWriteBuffer recovered = new ScoreWriteBuffer(crashed, FLUSH_SIZE, FLUSH_MILLIS)) {
+            assertEquals(1, recovered.getRecoveredCount());
+        }
+        assertEquals("A", score("S1"));
+        assertEquals("C", score("S2"));
+    }
+
+    @Test
+    void newerValueWrittenDuringFailedFlushWins() throws Exception {
+        try (ScoreWriteBuffer buffer = new ScoreWriteBuffer(directory, FLUSH_SIZE, FLUSH_MILLIS)) {
+            buffer.update(new Takes("S1", "CL1", "B"));
+
+            // 풀의 커넥션을 모두 빌려 두면 반영이 대여를 기다리다가 시간 초과로 실패한다.
+            List<Connection> held = new ArrayList<>();
+            CompletableFuture<BatchResult<Takes>> flush;
+            try {
+                for (int i = 0; i < 4; i++) {
+                    held.add(DatabaseConnection.borrow());
+                }
+                flush = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return buffer.flush();
+                    } catch (SQLException e) {
+                        throw new DataAccessException(e);
+                    }
+                });
+                while (buffer.getPendingCount() != 0) {
+                    Thread.sleep(1);
+                }
+                assertTrue(buffer.hasPending("S1"));    // 반영 중
+                buffer.update(new Takes("S1", "CL1", "A"));
+
+                ExecutionException e = assertThrows(ExecutionException.class, flush::get);
+                assertInstanceOf(DataAccessException.class, e.getCause());
+            } finally {
+                for (Connection conn : held) {
+                    conn.close();
+                }
+            }
+            assertEquals(1, buffer.getPendingCount());
+            assertEquals(1, buffer.flush().getSuccessCount());
+        }
+        assertEquals("A", score("S1"));
+    }
+
+    @Test
+    void secondBufferOnSameDirectoryFails() throws IOException, SQLException {
+        try (ScoreWriteBuffer buffer = new ScoreWriteBuffer(directory, FLUSH_SIZE, FLUSH_MILLIS)) {
+            buffer.update(new Takes("S1", "CL1", "A"));
+            assertThrows(IOException.class, () -> new ScoreWriteBuffer(directory, FLUSH_SIZE, FLUSH_MILLIS));
+            assertEquals(1, buffer.getPendingCount());  // 남의 저널을 반영하지 않았다.
+        }
+        assertEquals("A", score("S1"));
+        // 닫은 뒤에는 같은 디렉터리를 다시 쓸 수 있다.
+        new ScoreWriteBuffer(directory, FLUSH_SIZE, FLUSH_MILLIS).close();
+    }
+
+    private static String score(String studentId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT score FROM takes WHERE class_id = 'CL1' AND student_id = '" + studentId + "'")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private static void copySegments(Path from, Path to) throws IOException {
+        Files.createDirectories(to);
+        for (Path segment : listSegments(from)) {
+            Files.copy(segment, to.resolve(segment.getFileName()));
+        }
+    }
+
+    private static List<Path> listSegments(Path dir) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "score-journal-*.log")) {
+            stream.forEach(segments::add);
+        }
+        segments.sort(null);
+        return segments;
+    }
+}
@@ -0,0 +1,98 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 학번/주민번호 중복 사전 검사(임베디드 H2 DB 사용)
+ */
+class StudentKeyFilterTest {
+
+    private StudentKeyFilter filter;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        TestDatabase.start();
+        TestDatabase.execute(
+                "INSERT INTO student (student_id, jumin, name, year) VALUES ('S1', '000101-1000001', '김철수', 1)",
+                "INSERT INTO student (student_id, jumin, name, year) VALUES ('S2', '000101-2000002', '이영희', 2)",
+                "INSERT INTO student (student_id, jumin, name, year) VALUES ('S3', NULL, '박민수', 3)");
+        filter = new StudentKeyFilter(0.01);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDatabase.stop();
+    }
+
+    @Test
+    void candidatesAreConfirmedWithPaddedInList() throws SQLException {
+        // DB 확인 후보 3건은 IN 목록 4자리로 채워지고, 남는 자리는 마지막 행(주민번호 없음)으로 채워진다.
+        boolean[] duplicates = filter.findDuplicates(Arrays.asList(
+                student("S1", "991231-1999999"),    // 학번 중복
+                student("N1", "000101-2000002"),    // 주민번호 중복
+                student("N2", "991231-2888888"),    // 새 학생
+                student("S3", null)));              // 학번 중복, 주민번호 없음
+        assertArrayEquals(new boolean[] {true, true, false, true}, duplicates);
+        assertEquals(3, filter.getCandidateCount());
+        assertEquals(3, filter.getDuplicateCount());
+    }
+
+    @Test
+    void duplicatesInsideBatchAreFoundWithoutDb() throws SQLException {
+        boolean[] duplicates = filter.findDuplicates(Arrays.asList(
+                student("N1", "991231-1111111"),
+                student("N1", "991231-2222222"),    // 앞 행과 학번이 같다.
+                student("N2", "991231-1111111"),    // 앞 행과 주민번호가 같다.
+                student("N3", null),
+                student("N4", null)));              // 주민번호가 없는 행끼리는 겹치지 않는다.
+        assertArrayEquals(new boolean[] {false, true, true, false, false}, duplicates);
+        assertEquals(0, filter.getCandidateCount());
+    }
+
+    @Test
+    void studentDeletedElsewhereIsOnlyFalsePositive() throws SQLException {
+        filter.rebuild();
+        TestDatabase.execute("DELETE FROM student WHERE student_id = 'S2'");
+        assertFalse(filter.isDuplicate(student("S2", "000101-2000002")));
+        assertEquals(1, filter.getCandidateCount());
+    }
+
+    @Test
+    void removedStudentIsNoLongerCandidate() throws SQLException {
+        filter.rebuild();
+        assertTrue(filter.isDuplicate(student("S2", null)));
+        TestDatabase.execute("DELETE FROM student WHERE student_id = 'S2'");
+        filter.removed("S2", "000101-2000002");
+        assertFalse(filter.isDuplicate(student("S2", "000101-2000002")));
+        assertEquals(1, filter.getCandidateCount());
+        assertEquals(2, filter.size());
+    }
+
+    @Test
+    void filterIsRebuiltWhenKeysOutgrowIt() throws SQLException {
+        filter.rebuild();
+        // 만들 때의 예상 크기(최소 1024)를 넘도록 DB를 거치지 않고 필터에만 넣는다.
+        for (int i = 0; i < 1100; i++) {
+            filter.added(student("G" + i, null));
+        }
+        assertEquals(1103, filter.size());
+        filter.isDuplicate(student("N1", null));
+        assertEquals(3, filter.size());
+        assertFalse(filter.isDuplicate(student("G0", null)));
+    }
+
+    private static Student student(String studentId, String jumin) {
+        return new Student(studentId, jumin, "학생", 1, null, null);
+    }
+}
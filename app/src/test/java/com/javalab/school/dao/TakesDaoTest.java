@@ -0,0 +1,80 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Takes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 성적 목록 키셋 페이지 조회(임베디드 H2 DB 사용)
+ */
+class TakesDaoTest {
+
+    private final TakesDao takesDao = new TakesDao();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        TestDatabase.start();
+        TestDatabase.execute(
+                "INSERT INTO student (student_id, jumin, name, year) VALUES ('S1', '000101-1000001', '김철수', 1)",
+                "INSERT INTO student (student_id, jumin, name, year) VALUES ('S2', '000101-2000002', '이영희', 2)",
+                "INSERT INTO course (course_id, name, credit) VALUES ('C1', '자료구조', 3)",
+                "INSERT INTO class (class_id, course_id, year, semester, enroll) VALUES ('CL1', 'C1', 2024, '1', 30)",
+                "INSERT INTO class (class_id, course_id, year, semester, enroll) VALUES ('CL2', 'C1', 2024, '2', 30)",
+                "INSERT INTO takes (student_id, class_id, score) VALUES ('S2', 'CL1', 'B')",
+                "INSERT INTO takes (student_id, class_id, score) VALUES ('S1', 'CL2', 'A')",
+                "INSERT INTO takes (student_id, class_id, score) VALUES ('S1', 'CL1', 'C')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDatabase.stop();
+    }
+
+    @Test
+    void pagesFollowPrimaryKeyOrder() throws SQLException {
+        Page<Takes> first = takesDao.findPage(null, 2);
+        assertEquals(Arrays.asList("S1:CL1", "S1:CL2"), keys(first));
+        assertEquals("S1:CL2", first.getNextCursor());
+
+        // 커서가 학생 경계에 걸려도 다음 학생의 첫 수업부터 이어진다.
+        Page<Takes> second = takesDao.findPage(first.getNextCursor(), 2);
+        assertEquals(Arrays.asList("S2:CL1"), keys(second));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void walkingPagesReturnsEveryRowOnce() throws SQLException {
+        List<String> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            Page<Takes> page = takesDao.findPage(cursor, 1);
+            walked.addAll(keys(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(keys(new Page<>(takesDao.findAll(), null)), walked);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> takesDao.findPage("S1", 10));
+        assertThrows(IllegalArgumentException.class, () -> takesDao.findPage(null, 0));
+    }
+
+    private static List<String> keys(Page<Takes> page) {
+        List<String> keys = new ArrayList<>();
+        for (Takes takes : page.getItems()) {
+            keys.add(takes.getId() + ":" + takes.getSubject());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,69 @@
+package com.javalab.school.dao;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 임베디드 DB
+ * - H2 인메모리 DB(오라클 호환 모드)에 schema.sql로 학사 테이블을 만들고 DatabaseConnection의 풀이 바라보게 한다.
+ * - start()마다 새 DB를 만들므로 테스트끼리 데이터가 섞이지 않는다.
+ */
+public final class TestDatabase {
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    private TestDatabase() { }
+
+    /**
+     * 빈 학사 테이블이 있는 새 DB를 만들고 커넥션 풀을 연결한다.
+     */
+    public static void start() throws SQLException {
+        String url = "jdbc:h2:mem:test" + sequence.incrementAndGet()
+                + ";MODE=Oracle;NON_KEYWORDS=YEAR,VALUE;DB_CLOSE_DELAY=-1";
+        try (Connection conn = DriverManager.getConnection(url, "sa", "");
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("RUNSCRIPT FROM 'classpath:/schema.sql' CHARSET 'UTF-8'");
+        }
+        PoolConfig config = new PoolConfig();
+        config.setDriverClassName("org.h2.Driver");
+        config.setUrl(url);
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMinIdle(0);
+        config.setMaxSize(4);
+        config.setBorrowTimeoutMillis(1000);
+        DatabaseConnection.configure(config);
+    }
+
+    /**
+     * SQL 문을 차례로 실행한다(데이터 준비용).
+     */
+    public static void execute(String... sqls) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             Statement stmt = conn.createStatement()) {
+            for (String sql : sqls) {
+                stmt.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * 숫자 하나를 반환하는 조회(검증용, 예: SELECT COUNT(*) ...)
+     */
+    public static long queryLong(String sql) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    public static void stop() {
+        DatabaseConnection.shutdown();
+    }
+}
@@ -0,0 +1,62 @@
+package com.javalab.school.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 한글 음절/자모 처리(입력 중인 글자의 완성 후보, 초성)
+ */
+class HangulTest {
+
+    @Test
+    void openSyllableCompletesWithEveryFinal() {
+        char[] completions = Hangul.completions('처');
+        assertEquals(28, completions.length);
+        assertEquals('처', completions[0]);
+        assertEquals('척', completions[1]);
+        assertEquals('철', completions[8]);
+        assertEquals('첳', completions[27]);
+    }
+
+    @Test
+    void closedSyllableOrOtherCharCompletesToItself() {
+        assertArrayEquals(new char[]{'철'}, Hangul.completions('철'));
+        assertArrayEquals(new char[]{'k'}, Hangul.completions('k'));
+        assertNull(Hangul.completions('ㅊ'));     // 초성만이면 후보가 너무 많다.
+    }
+
+    @Test
+    void matchesPartiallyTypedSyllable() {
+        assertTrue(Hangul.matches('처', '철'));
+        assertTrue(Hangul.matches('처', '처'));
+        assertFalse(Hangul.matches('처', '촐'));   // 중성이 다르다.
+        assertTrue(Hangul.matches('ㅊ', '철'));
+        assertTrue(Hangul.matches('ㅊ', '치'));
+        assertFalse(Hangul.matches('ㅊ', '김'));
+        assertFalse(Hangul.matches('철', '처'));   // 받침이 있으면 그 글자뿐
+    }
+
+    @Test
+    void indexOfFindsBodyFollowedByCompletableChar() {
+        assertEquals(0, Hangul.indexOf("김철수", "김", '처'));
+        assertEquals(0, Hangul.indexOf("김철수", "김", 'ㅊ'));
+        assertEquals(1, Hangul.indexOf("김철수", "", '처'));
+        assertEquals(1, Hangul.indexOf("김철수", "철", 'ㅅ'));
+        assertEquals(-1, Hangul.indexOf("김철수", "김", 'ㅅ'));
+        assertEquals(-1, Hangul.indexOf("김철수", "철수", '가'));
+    }
+
+    @Test
+    void initialsOfSyllables() {
+        assertEquals("ㄱㅊㅅ", Hangul.initials("김철수"));
+        assertEquals("ㅇa1", Hangul.initials("이a1"));
+        assertTrue(Hangul.isInitialsQuery("ㄱㅊ"));
+        assertFalse(Hangul.isInitialsQuery("김ㅊ"));
+        assertFalse(Hangul.isInitialsQuery(""));
+    }
+}
@@ -0,0 +1,103 @@
+package com.javalab.school.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 이름 역색인 검색(입력 중인 한글 검색어, 초성 검색)과 추가/삭제 후의 색인
+ */
+class NameIndexTest {
+
+    private NameIndex index;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        index = new NameIndex();
+        index.rebuild(sink -> {
+            sink.accept("S1", "김철수");
+            sink.accept("S2", "김처녀");
+            sink.accept("S3", "박철민");
+            sink.accept("S4", "이영희");
+            sink.accept("S5", "Kim Chul");
+        });
+    }
+
+    @Test
+    void openFinalSyllableExpandsToCompletions() {
+        assertEquals(Arrays.asList("S2", "S1"), keys(index.search("김처", 10)));
+        assertEquals(Arrays.asList("S1"), keys(index.search("김철", 10)));
+        assertEquals(Arrays.asList("S2", "S1", "S3"), keys(index.search("처", 10)));
+        // 일치 위치가 앞인(접두어 일치) 항목이 먼저 온다.
+        index.put("S8", "철수");
+        assertEquals(Arrays.asList("S8", "S2", "S1", "S3"), keys(index.search("처", 10)));
+        assertEquals(Arrays.asList("S8", "S2"), keys(index.search("처", 2)));
+    }
+
+    @Test
+    void initialsOnlyQuery() {
+        assertEquals(Arrays.asList("S2", "S1"), keys(index.search("ㄱㅊ", 10)));
+        assertEquals(Arrays.asList("S3"), keys(index.search("ㅊㅁ", 10)));
+        assertTrue(index.search("ㅊㄱ", 10).isEmpty());
+    }
+
+    @Test
+    void bodyFollowedByInitial() {
+        assertEquals(Arrays.asList("S2", "S1"), keys(index.search("김ㅊ", 10)));
+        assertEquals(Arrays.asList("S3"), keys(index.search("박ㅊ", 10)));
+        assertTrue(index.search("김ㅅ", 10).isEmpty());
+    }
+
+    @Test
+    void caseAndWhitespaceAreIgnored() {
+        assertEquals(Arrays.asList("S5"), keys(index.search("kimch", 10)));
+        assertEquals(Arrays.asList("S5"), keys(index.search("M C", 10)));
+    }
+
+    @Test
+    void postingsFollowPutAndRemove() {
+        index.put("S1", "최영수");
+        assertEquals(Arrays.asList("S2"), keys(index.search("김처", 10)));
+        assertEquals(Arrays.asList("S1"), keys(index.search("ㅊㅇ", 10)));
+        assertEquals(Arrays.asList("S4", "S1"), keys(index.search("영", 10)));
+
+        index.remove("S2");
+        assertTrue(index.search("김처", 10).isEmpty());
+        assertTrue(index.search("ㄱㅊ", 10).isEmpty());
+        assertEquals(4, index.size());
+
+        // 비워진 번호를 다시 쓰는 새 항목도 기존 항목과 함께 찾아진다.
+        index.put("S6", "김철호");
+        index.put("S7", "김철수");
+        assertEquals(Arrays.asList("S4", "S1"), keys(index.search("영", 10)));
+        assertEquals(Arrays.asList("S7", "S6"), keys(index.search("김처", 10)));
+        assertEquals(Arrays.asList("S7", "S6"), keys(index.search("ㄱㅊ", 10)));
+    }
+
+    @Test
+    void repeatedPutsReuseSlots() {
+        for (int i = 0; i < 1000; i++) {
+            index.put("S1", i % 2 == 0 ? "김철수" : "김철호");
+            index.remove("S6");
+            index.put("S6", "정" + (char) ('가' + i));
+        }
+        assertEquals(6, index.size());
+        assertEquals(6, index.getSlotCount());
+        assertEquals(Arrays.asList("S1"), keys(index.search("김철호", 10)));
+    }
+
+    private static List<String> keys(List<NameIndex.Match> matches) {
+        List<String> keys = new ArrayList<>();
+        for (NameIndex.Match match : matches) {
+            keys.add(match.getKey());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,118 @@
+package com.javalab.school.snapshot;
+
+import com.javalab.school.dao.TestDatabase;
+import com.javalab.school.domain.Student;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 학생 명부 파일 만들기와 매핑 조회(임베디드 H2 DB 사용)
+ */
+class StudentDirectoryTest {
+
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE = 152;
+    private static final int INDEX_ENTRY_SIZE = 14;
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        TestDatabase.start();
+        TestDatabase.execute(
+                "INSERT INTO department (department_id, name) VALUES (101, '컴퓨터공학과')",
+                "INSERT INTO student (student_id, jumin, name, year, address, department_id) "
+                        + "VALUES ('S2', '000101-1000001', '김철수', 1, '서울시 강남구', 101)",
+                "INSERT INTO student (student_id, jumin, name, year, address, department_id) "
+                        + "VALUES ('S10', '000101-2000002', '이영희', 2, NULL, 101)",
+                "INSERT INTO student (student_id, jumin, name, year, address, department_id) "
+                        + "VALUES ('S1', '000101-1000003', '박민수', 3, '부산', 101)",
+                // 이름 11자 = UTF-8 33바이트로 필드 폭(30바이트)을 넘는다.
+                "INSERT INTO student (student_id, jumin, name, year, address, department_id) "
+                        + "VALUES ('S3', '000101-2000004', '가나다라마바사아자차카', 4, '대구', 101)");
+        file = directory.resolve("student-directory.bin");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDatabase.stop();
+    }
+
+    @Test
+    void refreshedFileRoundTrips() throws IOException, SQLException {
+        StudentDirectory.RefreshResult result = StudentDirectory.refresh(file);
+        assertEquals(3, result.getCount());
+        assertEquals(1, result.getRejected().size());
+        assertTrue(result.getRejected().get(0).startsWith("S3: 이름 33바이트"));
+        // 헤더 + 고정 길이 레코드 + 인덱스, 임시 파일은 남지 않는다.
+        assertEquals(HEADER_SIZE + 3 * RECORD_SIZE + 3 * INDEX_ENTRY_SIZE, Files.size(file));
+        assertFalse(Files.exists(directory.resolve("student-directory.bin.tmp")));
+
+        try (StudentDirectory students = StudentDirectory.open(file)) {
+            assertEquals(3, students.size());
+            Student student = students.get("S2");
+            assertEquals("S2", student.getStudentId());
+            assertEquals("김철수", student.getName());
+            assertEquals(1, student.getYear());
+            assertEquals("서울시 강남구", student.getAddress());
+            assertEquals(101, student.getDepartmentId());
+            assertNull(student.getJumin());
+            assertNull(students.get("S10").getAddress());
+
+            assertNull(students.get("S3"));             // 명부에서 뺀 학생
+            assertNull(students.get("S4"));
+            assertEquals(-1, students.indexOf("S12345678901"));
+
+            // 행 번호는 학번 바이트순 인덱스 슬롯이다.
+            List<String> ids = new ArrayList<>();
+            students.forEach(row -> ids.add(students.studentId(row)));
+            assertEquals(Arrays.asList("S1", "S10", "S2"), ids);
+            assertEquals(2, students.indexOf("S2"));
+            assertThrows(IndexOutOfBoundsException.class, () -> students.name(3));
+        }
+    }
+
+    @Test
+    void openDirectoryKeepsReadingOldFileAfterRefresh() throws IOException, SQLException {
+        StudentDirectory.refresh(file);
+        try (StudentDirectory before = StudentDirectory.open(file)) {
+            TestDatabase.execute("UPDATE student SET name = '김영수' WHERE student_id = 'S2'",
+                    "DELETE FROM student WHERE student_id = 'S1'");
+            StudentDirectory.refresh(file);
+
+            assertEquals("김철수", before.get("S2").getName());
+            assertEquals(3, before.size());
+            try (StudentDirectory after = StudentDirectory.open(file)) {
+                assertEquals("김영수", after.get("S2").getName());
+                assertNull(after.get("S1"));
+                assertEquals(2, after.size());
+            }
+        }
+    }
+
+    @Test
+    void otherFileIsRejected() throws IOException {
+        Files.write(file, new byte[HEADER_SIZE]);
+        IOException e = assertThrows(IOException.class, () -> StudentDirectory.open(file));
+        assertTrue(e.getMessage().startsWith("학생 명부 파일이 아닙니다"));
+    }
+}
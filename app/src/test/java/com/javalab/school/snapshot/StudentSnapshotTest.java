@@ -0,0 +1,128 @@
+package com.javalab.school.snapshot;
+
+import com.javalab.school.dao.TestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 학생 열 스냅샷의 적재, 조건 검사, 학년/학과별 집계(임베디드 H2 DB 사용)
+ */
+class StudentSnapshotTest {
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        TestDatabase.start();
+        TestDatabase.execute(
+                "INSERT INTO department (department_id, name) VALUES (101, '컴퓨터공학과')",
+                "INSERT INTO department (department_id, name) VALUES (102, '경영학과')",
+                student("S4", "최유리", 2, "'서울시 마포구'", "102"),
+                student("S1", "김철수", 1, "'서울시 강남구'", "101"),
+                student("S3", "박민수", 3, "'부산시 해운대구'", "101"),
+                student("S2", "이영희", 1, "'서울시 강남구'", "102"),
+                student("S5", "정하늘", 4, "NULL", "NULL"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDatabase.stop();
+    }
+
+    @Test
+    void loadKeepsRowsInStudentIdOrder() throws SQLException {
+        StudentSnapshot snapshot = StudentSnapshot.load(2);
+        assertEquals(5, snapshot.size());
+        assertEquals(0, snapshot.indexOf("S1"));
+        assertEquals(-1, snapshot.indexOf("S9"));
+
+        int row = snapshot.indexOf("S4");
+        assertEquals("최유리", snapshot.name(row));
+        assertEquals(2, snapshot.year(row));
+        assertEquals(102, snapshot.departmentId(row));
+        assertEquals("서울시 마포구", snapshot.address(row));
+        assertEquals("경영학과", snapshot.departmentName(row));
+
+        row = snapshot.indexOf("S5");
+        assertNull(snapshot.address(row));
+        assertNull(snapshot.departmentName(row));
+    }
+
+    @Test
+    void filtersAndGroupBy() throws SQLException {
+        StudentSnapshot snapshot = StudentSnapshot.load();
+        RowFilter seoul = snapshot.addressStartsWith("서울");
+        assertEquals(3, snapshot.count(seoul));
+        assertEquals(2, snapshot.count(seoul.and(RowFilter.yearBetween(1, 1))));
+        assertEquals(1, snapshot.count(seoul.and(RowFilter.departmentIs(101))));
+        assertEquals(2, snapshot.count(snapshot.departmentNameIs("컴퓨터공학과")));
+        assertEquals(0, snapshot.count(snapshot.departmentNameIs("없는학과")));
+
+        List<String> ids = new ArrayList<>();
+        snapshot.forEach(seoul, row -> ids.add(snapshot.studentId(row)));
+        assertEquals(Arrays.asList("S1", "S2", "S4"), ids);
+
+        assertArrayEquals(new int[] {0, 2, 1, 0, 0}, snapshot.countByYear(seoul));
+        assertArrayEquals(new int[] {0, 2, 1, 1, 1}, snapshot.countByYear(RowFilter.ALL));
+
+        // 학과가 없는 학생(S5)은 학과별 집계에서 빠진다.
+        int[] byDepartment = snapshot.countByDepartment(RowFilter.ALL);
+        assertEquals(2, snapshot.departmentCount());
+        Map<String, Integer> counts = new HashMap<>();
+        for (int code = 0; code < byDepartment.length; code++) {
+            counts.put(snapshot.departmentLabel(code), byDepartment[code]);
+        }
+        assertEquals(Integer.valueOf(2), counts.get("컴퓨터공학과"));
+        assertEquals(Integer.valueOf(2), counts.get("경영학과"));
+
+        int[] seoulByDepartment = snapshot.countByDepartment(seoul);
+        assertEquals(1, seoulByDepartment[codeOf(snapshot, "컴퓨터공학과")]);
+        assertEquals(2, seoulByDepartment[codeOf(snapshot, "경영학과")]);
+    }
+
+    @Test
+    void filtersCanBeReusedOnAnotherSnapshot() throws SQLException {
+        StudentSnapshot first = StudentSnapshot.load();
+        RowFilter seoul = first.addressStartsWith("서울");
+        RowFilter business = first.departmentNameIs("경영학과");
+
+        // 사전 코드가 달라지도록 주소와 학과를 바꾼 뒤 새로 적재한다.
+        TestDatabase.execute(
+                "UPDATE student SET address = '서울시 종로구', department_id = 102 WHERE student_id = 'S3'",
+                "UPDATE student SET address = '대전시 유성구' WHERE student_id = 'S1'",
+                student("S0", "한지민", 2, "'광주시 북구'", "101"));
+        StudentSnapshot second = StudentSnapshot.load();
+
+        List<String> ids = new ArrayList<>();
+        second.forEach(seoul, row -> ids.add(second.studentId(row)));
+        assertEquals(Arrays.asList("S2", "S3", "S4"), ids);
+        assertEquals(3, second.count(business));
+        assertEquals(second.count(second.addressStartsWith("서울")), second.count(seoul));
+        assertEquals(3, first.count(seoul));
+    }
+
+    private static int codeOf(StudentSnapshot snapshot, String departmentName) {
+        for (int code = 0; code < snapshot.departmentCount(); code++) {
+            if (departmentName.equals(snapshot.departmentLabel(code))) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    private static String student(String studentId, String name, int year, String address, String departmentId) {
+        return "INSERT INTO student (student_id, jumin, name, year, address, department_id) VALUES ('"
+                + studentId + "', '000101-" + studentId + "', '" + name + "', " + year + ", "
+                + address + ", " + departmentId + ")";
+    }
+}
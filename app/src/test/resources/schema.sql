@@ -0,0 +1,43 @@
+-- 테스트용 임베디드(H2, 오라클 호환 모드) 학사 스키마(benchmarks의 schema.sql과 같다)
+CREATE TABLE department (
+    department_id NUMBER(5) PRIMARY KEY,
+    name          VARCHAR2(50) NOT NULL,
+    office        VARCHAR2(50)
+);
+CREATE TABLE student (
+    student_id    VARCHAR2(10) PRIMARY KEY,
+    jumin         VARCHAR2(14) UNIQUE,
+    name          VARCHAR2(30) NOT NULL,
+    year          NUMBER(1),
+    address       VARCHAR2(100),
+    department_id NUMBER(5) REFERENCES department(department_id)
+);
+CREATE TABLE professor (
+    professor_id  VARCHAR2(10) PRIMARY KEY,
+    jumin         VARCHAR2(14) UNIQUE,
+    name          VARCHAR2(30) NOT NULL,
+    department_id NUMBER(5) REFERENCES department(department_id),
+    grade         VARCHAR2(20),
+    hiredate      DATE
+);
+CREATE TABLE course (
+    course_id     VARCHAR2(10) PRIMARY KEY,
+    name          VARCHAR2(50) NOT NULL,
+    credit        NUMBER(2),
+    description   VARCHAR2(200)
+);
+CREATE TABLE class (
+    class_id      VARCHAR2(10) PRIMARY KEY,
+    course_id     VARCHAR2(10) REFERENCES course(course_id),
+    year          NUMBER(4),
+    semester      VARCHAR2(10),
+    professor_id  VARCHAR2(10) REFERENCES professor(professor_id),
+    classroom     VARCHAR2(20),
+    enroll        NUMBER(4)
+);
+CREATE TABLE takes (
+    student_id    VARCHAR2(10) REFERENCES student(student_id),
+    class_id      VARCHAR2(10) REFERENCES class(class_id),
+    score         VARCHAR2(5),
+    PRIMARY KEY (student_id, class_id)
+);
@@ -0,0 +1,114 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.AsyncSchoolDao;
+import com.javalab.school.dao.ClassDao;
+import com.javalab.school.dao.CourseDao;
+import com.javalab.school.dao.DepartmentDao;
+import com.javalab.school.dao.ProfessorDao;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.domain.Course;
+import com.javalab.school.domain.CourseClass;
+import com.javalab.school.domain.Department;
+import com.javalab.school.domain.Professor;
+import com.javalab.school.domain.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대시보드(학생, 학과, 교수, 강좌, 수업 목록) 조회: 차례로 조회 vs AsyncSchoolDao로 동시에 조회
+ * - 임베디드 DB는 왕복 지연이 없으므로 latencyMillis만큼 조회마다 잠시 멈춰 원격 DB의 응답 대기를 흉내 낸다.
+ *   (0이면 순수 CPU 비용만 비교한다)
+ * - 조회 다섯 건이 겹치면 지연 시간이 합이 아니라 가장 긴 조회 정도로 줄어드는 것을 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncDashboardBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Dashboard {
+
+        @Param({"0", "2"})
+        public long latencyMillis;
+
+        final StudentDao studentDao = new StudentDao();
+        final DepartmentDao departmentDao = new DepartmentDao();
+        final ProfessorDao professorDao = new ProfessorDao();
+        final CourseDao courseDao = new CourseDao();
+        final ClassDao classDao = new ClassDao();
+        AsyncSchoolDao async;
+
+        @Setup(Level.Trial)
+        public void start(SchoolDatabase db) {
+            async = new AsyncSchoolDao(db.poolSize, 100);
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            async.close();
+        }
+
+        /**
+         * 원격 DB 왕복 지연 흉내
+         */
+        <T> T delayed(AsyncSchoolDao.Query<T> query) throws SQLException {
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return query.run();
+        }
+    }
+
+    @Benchmark
+    public void sequential(SchoolDatabase db, Dashboard dashboard, Blackhole bh) throws SQLException {
+        List<Student> students = dashboard.delayed(dashboard.studentDao::findAll);
+        List<Department> departments = dashboard.delayed(dashboard.departmentDao::findAll);
+        List<Professor> professors = dashboard.delayed(dashboard.professorDao::findAll);
+        List<Course> courses = dashboard.delayed(dashboard.courseDao::findAll);
+        List<CourseClass> classes = dashboard.delayed(dashboard.classDao::findAll);
+        bh.consume(students);
+        bh.consume(departments);
+        bh.consume(professors);
+        bh.consume(courses);
+        bh.consume(classes);
+    }
+
+    @Benchmark
+    public void overlapped(SchoolDatabase db, Dashboard dashboard, Blackhole bh) {
+        AsyncSchoolDao async = dashboard.async;
+        CompletableFuture<List<Student>> students = async.submit(() -> dashboard.delayed(dashboard.studentDao::findAll));
+        CompletableFuture<List<Department>> departments = async.submit(() -> dashboard.delayed(dashboard.departmentDao::findAll));
+        CompletableFuture<List<Professor>> professors = async.submit(() -> dashboard.delayed(dashboard.professorDao::findAll));
+        CompletableFuture<List<Course>> courses = async.submit(() -> dashboard.delayed(dashboard.courseDao::findAll));
+        CompletableFuture<List<CourseClass>> classes = async.submit(() -> dashboard.delayed(dashboard.classDao::findAll));
+        CompletableFuture.allOf(students, departments, professors, courses, classes).join();
+        bh.consume(students.join());
+        bh.consume(departments.join());
+        bh.consume(professors.join());
+        bh.consume(courses.join());
+        bh.consume(classes.join());
+    }
+}
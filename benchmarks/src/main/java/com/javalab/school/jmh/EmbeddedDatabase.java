@@ -0,0 +1,152 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.dao.DepartmentDao;
+import com.javalab.school.dao.PoolConfig;
+import com.javalab.school.dao.ProfessorDao;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.dao.TakesDao;
+import com.javalab.school.domain.Department;
+import com.javalab.school.domain.Professor;
+import com.javalab.school.domain.Student;
+import com.javalab.school.domain.Takes;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 성능 측정용 임베디드 데이터베이스
+ * - H2 인메모리 DB(오라클 호환 모드)에 schema.sql로 학사 테이블을 만들고 데이터를 채운다.
+ * - DatabaseConnection의 커넥션 풀이 이 DB를 바라보도록 설정하므로 DAO를 그대로 측정할 수 있다.
+ * - 학생 수(students)만 정하면 나머지 테이블 크기는 고정 비율로 정해진다.
+ */
+public final class EmbeddedDatabase {
+
+    public static final int DEPARTMENTS = 20;
+    public static final int PROFESSORS = 100;
+    public static final int COURSES = 100;
+    public static final int CLASSES = 400;
+    public static final int TAKES_PER_STUDENT = 5;
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    private final String url;
+    private final int students;
+
+    private EmbeddedDatabase(String url, int students) {
+        this.url = url;
+        this.students = students;
+    }
+
+    /**
+     * 새 인메모리 DB를 만들고 학생 students명 분량의 데이터를 채운 뒤 커넥션 풀을 연결한다.
+     */
+    public static EmbeddedDatabase start(int students, int poolSize) throws SQLException {
+        String url = "jdbc:h2:mem:school" + sequence.incrementAndGet()
+                + ";MODE=Oracle;NON_KEYWORDS=YEAR,VALUE;DB_CLOSE_DELAY=-1";
+        EmbeddedDatabase db = new EmbeddedDatabase(url, students);
+        try (Connection conn = DriverManager.getConnection(url, "sa", "");
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("RUNSCRIPT FROM 'classpath:/schema.sql' CHARSET 'UTF-8'");
+        }
+        PoolConfig config = new PoolConfig();
+        config.setDriverClassName("org.h2.Driver");
+        config.setUrl(url);
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMinIdle(Math.min(2, poolSize));
+        config.setMaxSize(poolSize);
+        DatabaseConnection.configure(config);
+        db.seed();
+        return db;
+    }
+
+    /**
+     * 커넥션 풀을 종료하고 인메모리 DB를 삭제한다.
+     */
+    public void stop() throws SQLException {
+        DatabaseConnection.shutdown();
+        try (Connection conn = DriverManager.getConnection(url, "sa", "");
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("SHUTDOWN");
+        }
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public static String studentId(int i) {
+        return String.format("S%08d", i);
+    }
+
+    public static Student newStudent(String studentId, int i) {
+        return new Student(studentId, String.format("%06d-%07d", i / 10000000, i % 10000000),
+                "학생" + i, i % 4 + 1, "서울시 강남구 테헤란로 " + i, 100 + i % DEPARTMENTS);
+    }
+
+    private void seed() throws SQLException {
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENTS; i++) {
+            departments.add(new Department(100 + i, "학과" + i, "A" + i));
+        }
+        new DepartmentDao().insertAll(departments, 1000);
+
+        List<Professor> professors = new ArrayList<>();
+        for (int i = 0; i < PROFESSORS; i++) {
+            professors.add(new Professor(String.format("P%04d", i), String.format("700101-%07d", i), "교수" + i,
+                    100 + i % DEPARTMENTS, "교수", "2010-03-01"));
+        }
+        new ProfessorDao().insertAll(professors, 1000);
+
+        try (Connection conn = DatabaseConnection.borrow()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO course (course_id, name, credit, description) VALUES (?, ?, ?, ?)")) {
+                for (int i = 0; i < COURSES; i++) {
+                    pstmt.setString(1, String.format("C%04d", i));
+                    pstmt.setString(2, "강좌" + i);
+                    pstmt.setInt(3, i % 3 + 1);
+                    pstmt.setString(4, "강좌 설명 " + i);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement("INSERT INTO class " +
+                    "(class_id, course_id, year, semester, professor_id, classroom, enroll) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < CLASSES; i++) {
+                    pstmt.setString(1, String.format("CL%04d", i));
+                    pstmt.setString(2, String.format("C%04d", i % COURSES));
+                    pstmt.setInt(3, 2024);
+                    pstmt.setString(4, String.valueOf(i % 2 + 1));
+                    pstmt.setString(5, String.format("P%04d", i % PROFESSORS));
+                    pstmt.setString(6, "R" + i);
+                    pstmt.setInt(7, 100);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+        }
+
+        List<Student> studentList = new ArrayList<>();
+        for (int i = 0; i < students; i++) {
+            studentList.add(newStudent(studentId(i), i));
+        }
+        new StudentDao().insertAll(studentList, 1000);
+
+        String[] scores = {"A+", "A0", "B+", "B0", "C+", "C0", "D0", "F"};
+        List<Takes> takesList = new ArrayList<>();
+        for (int i = 0; i < students; i++) {
+            for (int j = 0; j < TAKES_PER_STUDENT; j++) {
+                takesList.add(new Takes(studentId(i), String.format("CL%04d", (i + j * 37) % CLASSES),
+                        scores[(i + j) % scores.length]));
+            }
+        }
+        new TakesDao().insertAll(takesList, 1000);
+    }
+}
@@ -0,0 +1,191 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.ClassDao;
+import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.dao.EnrollmentResult;
+import com.javalab.school.dao.SeatCounter;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.dao.TakesDao;
+import com.javalab.school.domain.CourseClass;
+import com.javalab.school.domain.Student;
+import com.javalab.school.domain.Takes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수강 신청 부하 테스트
+ * - 학생 여러 명이 인기 수업 몇 개에 동시에 신청한다(학생마다 모든 수업에 무작위 순서로 신청).
+ * - 정원을 보지 않는 등록(TakesDao.insert)과 정원을 지키는 등록(SeatCounter.enroll)을 차례로 실행하여
+ *   처리량과 수업별 수강 인원(정원 초과 여부)을 비교한다.
+ * - 정원 초과 여부를 함께 보아야 하므로 JMH 벤치마크가 아니라 main으로 한 번 실행한다.
+ * - 실행 예) java -Dschool.db.url=... -Dschool.db.maxSize=20 -cp benchmarks/target/benchmarks.jar
+ *           com.javalab.school.jmh.EnrollmentLoadTest 2000 5 40 64
+ *   (인자: 학생 수, 수업 수, 수업 정원, 동시 실행 스레드 수, 학과 ID)
+ * - 측정이 끝나면 만든 학생, 수업, 성적은 삭제한다.
+ */
+public class EnrollmentLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int classCount = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int capacity = args.length > 2 ? Integer.parseInt(args[2]) : 40;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : 64;
+        int departmentId = args.length > 4 ? Integer.parseInt(args[4]) : 101;
+
+        List<Student> students = createStudents(studentCount, departmentId);
+        List<String> plainClasses = createClassIds("LTP", classCount);
+        List<String> cappedClasses = createClassIds("LTC", classCount);
+        new StudentDao().insertAll(students);
+        insertClasses(plainClasses, capacity);
+        insertClasses(cappedClasses, capacity);
+        try {
+            TakesDao takesDao = new TakesDao();
+            run("정원 확인 없이 등록(TakesDao.insert)", students, plainClasses, capacity, threads,
+                    takes -> takesDao.insert(takes) > 0 ? EnrollmentResult.ENROLLED : EnrollmentResult.NO_CLASS);
+
+            SeatCounter seatCounter = new SeatCounter();
+            run("정원 확인 후 등록(SeatCounter.enroll)", students, cappedClasses, capacity, threads, seatCounter::enroll);
+            System.out.println(seatCounter);
+        } finally {
+            deleteAll(students, plainClasses, cappedClasses);
+            DatabaseConnection.shutdown();
+        }
+    }
+
+    /**
+     * 수강 신청 한 건
+     */
+    private interface Enrollment {
+        EnrollmentResult enroll(Takes takes) throws SQLException;
+    }
+
+    private static void run(String title, List<Student> students, List<String> classIds, int capacity,
+                            int threads, Enrollment enrollment) throws Exception {
+        AtomicInteger enrolled = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(Math.min(threads, students.size()));
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Random random = new Random(42);
+        for (Student student : students) {
+            List<String> order = new ArrayList<>(classIds);
+            Collections.shuffle(order, random);
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (String classId : order) {
+                    try {
+                        EnrollmentResult result = enrollment.enroll(new Takes(student.getStudentId(), classId, null));
+                        (result == EnrollmentResult.ENROLLED ? enrolled : full).incrementAndGet();
+                    } catch (SQLIntegrityConstraintViolationException e) {
+                        failed.incrementAndGet();
+                    } catch (SQLException | RuntimeException e) {
+                        failed.incrementAndGet();
+                        System.err.println(classId + ": " + e);
+                    }
+                }
+            });
+        }
+        // 모든 작업 스레드가 출발선에 선 뒤 한꺼번에 시작한다.
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+
+        int attempts = students.size() * classIds.size();
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.printf("%-40s %8d건 %8.2f초 %10.0f건/초 (등록 %d, 정원 초과 %d, 실패 %d)%n",
+                title, attempts, seconds, attempts / seconds, enrolled.get(), full.get(), failed.get());
+        int oversubscribed = 0;
+        for (String classId : classIds) {
+            int taken = countTakes(classId);
+            if (taken > capacity) {
+                oversubscribed++;
+            }
+            System.out.printf("  %-10s 수강 인원 %5d / 정원 %5d%s%n", classId, taken, capacity,
+                    taken > capacity ? "  <- 정원 초과" : "");
+        }
+        System.out.println("  정원을 넘긴 수업: " + oversubscribed + "개");
+    }
+
+    private static List<Student> createStudents(int count, int departmentId) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = String.format("LT%07d", i);
+            String jumin = String.format("LT%04d-%07d", i / 10000000, i % 10000000);
+            students.add(new Student(id, jumin, "수강생" + i, i % 4 + 1, "서울시 " + i, departmentId));
+        }
+        return students;
+    }
+
+    private static List<String> createClassIds(String prefix, int count) {
+        List<String> classIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            classIds.add(String.format("%s%03d", prefix, i));
+        }
+        return classIds;
+    }
+
+    private static void insertClasses(List<String> classIds, int capacity) throws SQLException {
+        ClassDao classDao = new ClassDao();
+        for (String classId : classIds) {
+            classDao.insert(new CourseClass(classId, null, 2024, "1학기", null, null, capacity));
+        }
+    }
+
+    private static int countTakes(String classId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement("SELECT COUNT(*) FROM takes WHERE class_id = ?")) {
+            pstmt.setString(1, classId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private static void deleteAll(List<Student> students, List<String> plainClasses, List<String> cappedClasses)
+            throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow()) {
+            List<String> classIds = new ArrayList<>(plainClasses);
+            classIds.addAll(cappedClasses);
+            try (PreparedStatement takes = conn.prepareStatement("DELETE FROM takes WHERE class_id = ?");
+                 PreparedStatement clazz = conn.prepareStatement("DELETE FROM class WHERE class_id = ?")) {
+                for (String classId : classIds) {
+                    takes.setString(1, classId);
+                    takes.executeUpdate();
+                    clazz.setString(1, classId);
+                    clazz.executeUpdate();
+                }
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM student WHERE student_id = ?")) {
+                for (Student student : students) {
+                    pstmt.setString(1, student.getStudentId());
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+        }
+    }
+}
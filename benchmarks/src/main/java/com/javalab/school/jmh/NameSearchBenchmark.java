@@ -0,0 +1,82 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.search.NameSearchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이름 부분 일치 검색 성능 비교: DB의 LIKE '%검색어%' vs 메모리 이름 색인(NameSearchService)
+ * - 검색어 "234"는 이름 중간에 들어 있는 경우(학생 수 10000명이면 20명)
+ * - 검색어 "생12"는 입력 중인 이름 앞부분(111명 중 10명만 반환)
+ * - LIKE '%..%'는 인덱스를 쓸 수 없어 매번 테이블 전체를 훑는다. 색인은 처음 한 번만 만든다(측정 밖).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    private static final String LIKE_SQL =
+            "SELECT * FROM (SELECT student_id, name FROM student WHERE name LIKE ? ORDER BY name, student_id) WHERE ROWNUM <= ?";
+    private static final int LIMIT = 10;
+
+    private final NameSearchService nameSearchService = new NameSearchService();
+
+    @Setup(Level.Trial)
+    public void load(SchoolDatabase db) throws SQLException {
+        nameSearchService.searchStudents("학", 1);
+    }
+
+    @Benchmark
+    public void infixByLike(SchoolDatabase db, Blackhole bh) throws SQLException {
+        like("234", bh);
+    }
+
+    @Benchmark
+    public void infixByIndex(SchoolDatabase db, Blackhole bh) throws SQLException {
+        bh.consume(nameSearchService.searchStudents("234", LIMIT));
+    }
+
+    @Benchmark
+    public void typingByLike(SchoolDatabase db, Blackhole bh) throws SQLException {
+        like("생12", bh);
+    }
+
+    @Benchmark
+    public void typingByIndex(SchoolDatabase db, Blackhole bh) throws SQLException {
+        bh.consume(nameSearchService.searchStudents("생12", LIMIT));
+    }
+
+    private static void like(String query, Blackhole bh) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(LIKE_SQL)) {
+            pstmt.setString(1, "%" + query + "%");
+            pstmt.setInt(2, LIMIT);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    bh.consume(rs.getString(1));
+                    bh.consume(rs.getString(2));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.domain.Student;
+import com.javalab.school.report.ReportFormat;
+import com.javalab.school.report.ReportWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 출력 속도(초당 행 수): 행마다 + 연결과 println/printf vs ReportWriter
+ * - 학생 100000명을 /dev/null에 출력한다(DB는 읽지 않는다).
+ * - 기존 방식은 System.out과 같은 구성(작은 버퍼 + 자동 flush)의 PrintStream에 쓰므로 행마다 시스템 호출이 일어난다.
+ * - ReportWriter는 같은 파일에 64KB 버퍼로 쓴다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportRenderingBenchmark {
+
+    private static final int ROWS = 100000;
+
+    private final List<Student> students = new ArrayList<>(ROWS);
+    private OutputStream sink;
+    private PrintStream console;
+
+    @Setup(Level.Trial)
+    public void open() throws IOException {
+        for (int i = 0; i < ROWS; i++) {
+            students.add(EmbeddedDatabase.newStudent(EmbeddedDatabase.studentId(i), i));
+        }
+        File devNull = new File("/dev/null");
+        sink = devNull.exists() ? new FileOutputStream(devNull) : OutputStream.nullOutputStream();
+        // System.out은 128바이트 버퍼에 자동 flush(println마다 flush)로 만들어진다.
+        console = new PrintStream(new BufferedOutputStream(sink, 128), true, StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        sink.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void println() {
+        console.println("학생ID\t이름\t학년\t주소\t학과ID");
+        for (Student student : students) {
+            console.println(student.getStudentId() + "\t" + student.getName() + "\t" + student.getYear() + "\t"
+                    + student.getAddress() + "\t" + student.getDepartmentId());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void printf() {
+        for (Student student : students) {
+            console.printf("%-10s %-10s %-4d %-20s %-6d\n", student.getStudentId(), student.getName(),
+                    student.getYear(), student.getAddress(), student.getDepartmentId());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void reportAligned() {
+        render(ReportFormat.ALIGNED);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void reportCsv() {
+        render(ReportFormat.CSV);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void reportTsv() {
+        render(ReportFormat.TSV);
+    }
+
+    private void render(ReportFormat format) {
+        ReportWriter report = new ReportWriter(sink, StandardCharsets.UTF_8, format)
+                .column("학생ID", 10).column("이름", 10).column("학년", 4).column("주소", 20).column("학과ID", 6);
+        report.header();
+        for (Student student : students) {
+            report.cell(student.getStudentId()).cell(student.getName()).cell(student.getYear())
+                    .cell(student.getAddress()).cell(student.getDepartmentId()).endRow();
+        }
+        report.flush();
+    }
+}
@@ -0,0 +1,189 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.dao.RowMapper;
+import com.javalab.school.dao.RowMappers;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.dao.TakesDao;
+import com.javalab.school.domain.Student;
+import com.javalab.school.domain.Takes;
+import com.javalab.school.domain.TakesDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 행 매핑(ResultSet -> 도메인 객체) 성능
+ * - 목록 조회: 모든 행을 Student/Takes 객체로 변환
+ * - 단건 조회: 무작위 학생 한 명, 그 학생의 성적 목록
+ * - 컬럼 라벨 조회와 컬럼 번호(RowMapper) 조회 비교: 학생, 성적, 성적 목록 조인(displayTakes) 쿼리의 결과를
+ *   스크롤 가능한 ResultSet으로 한 번만 읽어 두고, 매 호출마다 처음으로 되돌려 전체 행을 객체로 바꾼다.
+ *   쿼리 실행 비용은 빼고 매핑 비용만 잰다.
+ *   · byLabel: rs.getString("student_id")처럼 행마다 라벨로 읽는 방식
+ *   · byIndex: RowMappers의 매퍼를 결과 집합마다 한 번 bind()하고 번호로 읽는 방식
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    private final StudentDao studentDao = new StudentDao();
+    private final TakesDao takesDao = new TakesDao();
+
+    @Benchmark
+    public List<Student> mapAllStudents(SchoolDatabase db) throws SQLException {
+        return studentDao.findAll();
+    }
+
+    @Benchmark
+    public List<Takes> mapAllTakes(SchoolDatabase db) throws SQLException {
+        return takesDao.findAll();
+    }
+
+    @Benchmark
+    public Student mapOneStudent(SchoolDatabase db) throws SQLException {
+        return studentDao.findById(EmbeddedDatabase.studentId(ThreadLocalRandom.current().nextInt(db.students)));
+    }
+
+    @Benchmark
+    public List<Takes> mapStudentTakes(SchoolDatabase db) throws SQLException {
+        return takesDao.findByStudentId(EmbeddedDatabase.studentId(ThreadLocalRandom.current().nextInt(db.students)));
+    }
+
+    @Benchmark
+    public void studentsByLabel(ScrolledResults results, Blackhole bh) throws SQLException {
+        ResultSet students = results.students;
+        students.beforeFirst();
+        while (students.next()) {
+            bh.consume(new Student(
+                    students.getString("student_id"),
+                    students.getString("jumin"),
+                    students.getString("name"),
+                    students.getInt("year"),
+                    students.getString("address"),
+                    students.getInt("department_id")));
+        }
+    }
+
+    @Benchmark
+    public void studentsByIndex(ScrolledResults results, Blackhole bh) throws SQLException {
+        ResultSet students = results.students;
+        students.beforeFirst();
+        RowMapper.Bound<Student> mapper = RowMappers.STUDENT.bind(students);
+        while (students.next()) {
+            bh.consume(mapper.map(students));
+        }
+    }
+
+    @Benchmark
+    public void takesByLabel(ScrolledResults results, Blackhole bh) throws SQLException {
+        ResultSet takes = results.takes;
+        takes.beforeFirst();
+        while (takes.next()) {
+            bh.consume(new Takes(
+                    takes.getString("student_id"),
+                    takes.getString("class_id"),
+                    takes.getString("score")));
+        }
+    }
+
+    @Benchmark
+    public void takesByIndex(ScrolledResults results, Blackhole bh) throws SQLException {
+        ResultSet takes = results.takes;
+        takes.beforeFirst();
+        RowMapper.Bound<Takes> mapper = RowMappers.TAKES.bind(takes);
+        while (takes.next()) {
+            bh.consume(mapper.map(takes));
+        }
+    }
+
+    @Benchmark
+    public void detailsByLabel(ScrolledResults results, Blackhole bh) throws SQLException {
+        ResultSet details = results.details;
+        details.beforeFirst();
+        while (details.next()) {
+            bh.consume(new TakesDetail(
+                    details.getString("student_id"),
+                    details.getString("student_name"),
+                    details.getString("course_id"),
+                    details.getString("class_id"),
+                    details.getInt("year"),
+                    details.getInt("semester"),
+                    details.getString("professor_id"),
+                    details.getString("professor_name")));
+        }
+    }
+
+    @Benchmark
+    public void detailsByIndex(ScrolledResults results, Blackhole bh) throws SQLException {
+        ResultSet details = results.details;
+        details.beforeFirst();
+        RowMapper.Bound<TakesDetail> mapper = RowMappers.TAKES_DETAIL.bind(details);
+        while (details.next()) {
+            bh.consume(mapper.map(details));
+        }
+    }
+
+    /**
+     * 라벨/번호 비교용으로 미리 읽어 둔 결과 집합(스레드마다 커넥션 하나)
+     */
+    @State(Scope.Thread)
+    public static class ScrolledResults {
+
+        private static final String STUDENT_SQL = "SELECT student_id, jumin, name, year, address, department_id FROM student";
+        private static final String TAKES_SQL = "SELECT student_id, class_id, score FROM takes";
+        private static final String DETAIL_SQL = "SELECT t.student_id, s.name student_name, c.course_id, " +
+                "t.class_id, c.year, c.semester, c.professor_id, p.name professor_name " +
+                "FROM takes t " +
+                "LEFT OUTER JOIN class c ON t.class_id = c.class_id " +
+                "INNER JOIN student s ON t.student_id = s.student_id " +
+                "INNER JOIN professor p ON c.professor_id = p.professor_id";
+
+        private Connection conn;
+        ResultSet students;
+        ResultSet takes;
+        ResultSet details;
+
+        @Setup(Level.Trial)
+        public void open(SchoolDatabase db) throws SQLException {
+            conn = DatabaseConnection.borrow();
+            students = scrollable(STUDENT_SQL);
+            takes = scrollable(TAKES_SQL);
+            details = scrollable(DETAIL_SQL);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            for (ResultSet rs : new ResultSet[] {students, takes, details}) {
+                rs.getStatement().close();
+            }
+            conn.close();
+        }
+
+        private ResultSet scrollable(String sql) throws SQLException {
+            PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+            return pstmt.executeQuery();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.javalab.school.jmh;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.SQLException;
+
+/**
+ * 벤치마크 전체가 공유하는 DB 상태
+ * - 측정(trial)마다 학생 수(students)만큼 데이터를 채운 임베디드 DB를 새로 만든다.
+ * - 실행 시 -p students=100000 처럼 데이터 양을 바꿀 수 있다.
+ */
+@State(Scope.Benchmark)
+public class SchoolDatabase {
+
+    @Param({"1000", "10000"})
+    public int students;
+
+    @Param({"4"})
+    public int poolSize;
+
+    private EmbeddedDatabase db;
+
+    @Setup(Level.Trial)
+    public void start() throws SQLException {
+        db = EmbeddedDatabase.start(students, poolSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws SQLException {
+        db.stop();
+    }
+}
@@ -0,0 +1,125 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.ScoreWriteBuffer;
+import com.javalab.school.dao.TakesDao;
+import com.javalab.school.domain.Takes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 학기말 일괄 채점(점수 수정 1000건, 그중 같은 성적을 두 번 고치는 것 포함): 건마다 UPDATE vs ScoreWriteBuffer
+ * - direct: TakesDao.update() 1000번(건마다 자동 커밋)
+ * - writeBehind: 저널 기록(fsync) 1000번 + 같은 성적끼리 합친 뒤 일괄 UPDATE 한 번
+ * - 임베디드 DB는 왕복 지연이 없으므로 latencyMillis만큼 DB 왕복마다 잠시 멈춰 원격 DB를 흉내 낸다.
+ *   (direct는 수정마다 한 번, writeBehind는 반영할 때 일괄 실행과 커밋 두 번)
+ *   0이면 DB 처리 비용과 저널 fsync 비용만 비교한다. fsync 비용은 디스크에 따라 크게 달라진다(임시 디렉터리 사용).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreUpdateBenchmark {
+
+    private static final int UPDATES = 1000;
+    private static final String[] SCORES = {"A+", "A0", "B+", "B0", "C+", "C0", "D0", "F"};
+
+    @Param({"0", "1"})
+    public long latencyMillis;
+
+    private final TakesDao takesDao = new TakesDao();
+    private final List<Takes> grading = new ArrayList<>(UPDATES);
+    private Path journalDir;
+    private ScoreWriteBuffer buffer;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void open(SchoolDatabase db) throws IOException, SQLException {
+        // 학생 i의 첫 번째 성적은 (학생 i, 수업 i % CLASSES)이다. 학생 750명 중 앞의 250명은 두 번씩 고친다.
+        int students = Math.min(db.students, UPDATES * 3 / 4);
+        for (int i = 0; i < UPDATES; i++) {
+            int student = i < students ? i : i - students;
+            grading.add(new Takes(EmbeddedDatabase.studentId(student),
+                    String.format("CL%04d", student % EmbeddedDatabase.CLASSES), null));
+        }
+        journalDir = Files.createTempDirectory("score-journal");
+        buffer = new ScoreWriteBuffer(journalDir, UPDATES * 2, TimeUnit.HOURS.toMillis(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException, SQLException {
+        buffer.close();
+        try (Stream<Path> files = Files.list(journalDir)) {    // 남은 잠금 파일
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.deleteIfExists(journalDir);
+    }
+
+    @Benchmark
+    public int direct() throws SQLException {
+        int rows = 0;
+        String[] scores = nextScores();
+        for (int i = 0; i < grading.size(); i++) {
+            Takes takes = grading.get(i);
+            delay(1);
+            rows += takesDao.update(new Takes(takes.getId(), takes.getSubject(), scores[i % scores.length]));
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public long writeBehind() throws SQLException {
+        String[] scores = nextScores();
+        for (int i = 0; i < grading.size(); i++) {
+            Takes takes = grading.get(i);
+            buffer.update(new Takes(takes.getId(), takes.getSubject(), scores[i % scores.length]));
+        }
+        delay(2);
+        return buffer.flush().getSuccessCount();
+    }
+
+    /**
+     * 원격 DB 왕복 지연 흉내
+     */
+    private void delay(int roundTrips) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis * roundTrips);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private String[] nextScores() {
+        round++;
+        String[] scores = new String[SCORES.length];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = SCORES[(i + round) % SCORES.length];
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,75 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.BatchResult;
+import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.domain.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학생 등록 성능 비교: 한 건씩 insert() vs insertAll() 배치
+ * - 두 벤치마크 모두 결과를 "학생 1명 등록"당 처리량으로 보고한다.
+ * - 측정 구간(iteration)이 끝날 때마다 등록한 학생을 지운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentInsertBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String ID_PREFIX = "I";
+
+    private final StudentDao studentDao = new StudentDao();
+    private int sequence;
+
+    private Student nextStudent() {
+        int n = ++sequence;
+        // 시드 데이터와 겹치지 않도록 주민번호 앞자리를 1억 이후로 잡는다.
+        return EmbeddedDatabase.newStudent(ID_PREFIX + String.format("%09d", n), 100000000 + n);
+    }
+
+    @Benchmark
+    public int insertSingle(SchoolDatabase db) throws SQLException {
+        return studentDao.insert(nextStudent());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BatchResult<Student> insertBatched(SchoolDatabase db) throws SQLException {
+        List<Student> students = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            students.add(nextStudent());
+        }
+        return studentDao.insertAll(students, BATCH_SIZE);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInserted() throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement("DELETE FROM student WHERE student_id LIKE ?")) {
+            pstmt.setString(1, ID_PREFIX + "%");
+            pstmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.Page;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.domain.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 학생 전체 목록 조회 성능 비교
+ * - findAll(): 전체를 List로 한 번에 읽기
+ * - findPage(): 키셋 페이지 단위로 끝까지 읽기(콘솔 목록 조회와 같은 방식)
+ * - stream(): 커서를 열어 두고 한 행씩 읽기
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentListingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final StudentDao studentDao = new StudentDao();
+
+    @Benchmark
+    public List<Student> findAll(SchoolDatabase db) throws SQLException {
+        return studentDao.findAll();
+    }
+
+    @Benchmark
+    public void findAllPages(SchoolDatabase db, Blackhole bh) throws SQLException {
+        String cursor = null;
+        do {
+            Page<Student> page = studentDao.findPage(cursor, PAGE_SIZE);
+            bh.consume(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+    }
+
+    @Benchmark
+    public void stream(SchoolDatabase db, Blackhole bh) throws SQLException {
+        try (Stream<Student> students = studentDao.stream()) {
+            students.forEach(bh::consume);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.dao.Page;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.dao.StudentSearch;
+import com.javalab.school.domain.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학생 검색 성능 비교: 전체 목록을 페이지로 끝까지 읽으며 걸러 내기 vs StudentDao.search()
+ * - 조건 1) 학과 + 학년 범위: 학과 하나(전체의 1/20)의 2~3학년
+ * - 조건 2) 이름 접두어: "학생12"로 시작하는 학생(학생 수 10000명이면 111명)
+ * - indexed=true면 StudentSearch.INDEX_DDL의 인덱스를 만든 뒤 측정한다(인덱스 범위 검색).
+ *   false면 같은 SQL이 테이블 전체를 훑는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentSearchBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int DEPARTMENT_ID = 105;
+    private static final String NAME_PREFIX = "학생12";
+
+    @State(Scope.Benchmark)
+    public static class Indexes {
+
+        @Param({"false", "true"})
+        public boolean indexed;
+
+        @Setup(Level.Trial)
+        public void create(SchoolDatabase db) throws SQLException {
+            if (!indexed) {
+                return;
+            }
+            try (Connection conn = DatabaseConnection.borrow();
+                 Statement stmt = conn.createStatement()) {
+                for (String ddl : StudentSearch.INDEX_DDL) {
+                    stmt.execute(ddl);
+                }
+            }
+        }
+    }
+
+    private final StudentDao studentDao = new StudentDao();
+    private final StudentSearch departmentYear = new StudentSearch().departmentId(DEPARTMENT_ID).yearBetween(2, 3);
+    private final StudentSearch namePrefix = new StudentSearch().namePrefix(NAME_PREFIX);
+
+    @Benchmark
+    public void departmentYearByListing(SchoolDatabase db, Indexes indexes, Blackhole bh) throws SQLException {
+        String cursor = null;
+        do {
+            Page<Student> page = studentDao.findPage(cursor, PAGE_SIZE);
+            for (Student student : page.getItems()) {
+                if (student.getDepartmentId() == DEPARTMENT_ID && student.getYear() >= 2 && student.getYear() <= 3) {
+                    bh.consume(student);
+                }
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+    }
+
+    @Benchmark
+    public void departmentYearBySearch(SchoolDatabase db, Indexes indexes, Blackhole bh) throws SQLException {
+        searchAll(departmentYear, bh);
+    }
+
+    @Benchmark
+    public void namePrefixByListing(SchoolDatabase db, Indexes indexes, Blackhole bh) throws SQLException {
+        String cursor = null;
+        do {
+            Page<Student> page = studentDao.findPage(cursor, PAGE_SIZE);
+            for (Student student : page.getItems()) {
+                if (student.getName().startsWith(NAME_PREFIX)) {
+                    bh.consume(student);
+                }
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+    }
+
+    @Benchmark
+    public void namePrefixBySearch(SchoolDatabase db, Indexes indexes, Blackhole bh) throws SQLException {
+        searchAll(namePrefix, bh);
+    }
+
+    private void searchAll(StudentSearch search, Blackhole bh) throws SQLException {
+        String cursor = null;
+        do {
+            Page<Student> page = studentDao.search(search, cursor, PAGE_SIZE);
+            bh.consume(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+    }
+}
@@ -0,0 +1,85 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.domain.Student;
+import com.javalab.school.snapshot.RowFilter;
+import com.javalab.school.snapshot.StudentSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리에 올려 둔 학생 목록의 조건 집계 성능 비교
+ * - 집계: 주소가 "서울"로 시작하고 학과코드가 100인 학생의 학년별 인원
+ * - list*: studentDao.findAll()로 읽어 둔 List<Student>를 객체마다 검사
+ * - snapshot*: StudentSnapshot의 열 배열을 행 번호로 검사(주소는 사전 코드 표로 검사)
+ * - load*: 두 방식의 적재 비용(DB 읽기 포함)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentSnapshotBenchmark {
+
+    private static final String PREFIX = "서울";
+    private static final int DEPARTMENT_ID = 100;
+
+    private final StudentDao studentDao = new StudentDao();
+    private List<Student> students;
+    private StudentSnapshot snapshot;
+    private RowFilter filter;
+
+    @Setup(Level.Trial)
+    public void load(SchoolDatabase db) throws SQLException {
+        students = studentDao.findAll();
+        snapshot = StudentSnapshot.load();
+        filter = snapshot.addressStartsWith(PREFIX).and(RowFilter.departmentIs(DEPARTMENT_ID));
+    }
+
+    @Benchmark
+    public int[] listCountByYear() {
+        int max = 0;
+        for (Student student : students) {
+            max = Math.max(max, student.getYear());
+        }
+        int[] counts = new int[max + 1];
+        for (Student student : students) {
+            String address = student.getAddress();
+            Integer departmentId = student.getDepartmentId();
+            if (address != null && address.startsWith(PREFIX)
+                    && departmentId != null && departmentId == DEPARTMENT_ID && student.getYear() >= 0) {
+                counts[student.getYear()]++;
+            }
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public int[] snapshotCountByYear() {
+        return snapshot.countByYear(filter);
+    }
+
+    @Benchmark
+    public List<Student> loadList(SchoolDatabase db) throws SQLException {
+        return studentDao.findAll();
+    }
+
+    @Benchmark
+    public StudentSnapshot loadSnapshot(SchoolDatabase db) throws SQLException {
+        return StudentSnapshot.load();
+    }
+}
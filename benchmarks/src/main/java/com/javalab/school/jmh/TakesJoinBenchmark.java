@@ -0,0 +1,98 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.CourseDao;
+import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.domain.Course;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 성적 목록 조회(displayTakes) 조인 매핑 성능
+ * - fiveWayJoin: 강좌(course)까지 다섯 테이블을 조인하던 원래 쿼리
+ * - courseCache: 강좌를 조인에서 빼고 CourseDao 캐시로 강좌명/학점을 찾는 현재 방식
+ * - 두 경우 모두 콘솔 출력 대신 읽은 열 값을 Blackhole로 소비한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TakesJoinBenchmark {
+
+    private static final String FIVE_WAY_SQL = "SELECT t.student_id, s.name student_name, r.course_id, r.name course_name, " +
+            "t.class_id, r.credit, c.year, c.semester, c.professor_id, p.name professor_name " +
+            "FROM takes t " +
+            "LEFT OUTER JOIN class c ON t.class_id=c.class_id " +
+            "LEFT OUTER JOIN course r ON c.course_id=r.course_id " +
+            "INNER JOIN student s ON t.student_id=s.student_id " +
+            "INNER JOIN professor p ON c.professor_id=p.professor_id ";
+    private static final String FOUR_WAY_SQL = "SELECT t.student_id, s.name student_name, c.course_id, " +
+            "t.class_id, c.year, c.semester, c.professor_id, p.name professor_name " +
+            "FROM takes t " +
+            "LEFT OUTER JOIN class c ON t.class_id=c.class_id " +
+            "INNER JOIN student s ON t.student_id=s.student_id " +
+            "INNER JOIN professor p ON c.professor_id=p.professor_id ";
+
+    private final CourseDao courseDao = new CourseDao();
+
+    @Benchmark
+    public int fiveWayJoin(SchoolDatabase db, Blackhole bh) throws SQLException {
+        int rows = 0;
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(FIVE_WAY_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getString("student_id"));
+                bh.consume(rs.getString("student_name"));
+                bh.consume(rs.getString("course_id"));
+                bh.consume(rs.getString("course_name"));
+                bh.consume(rs.getString("class_id"));
+                bh.consume(rs.getInt("credit"));
+                bh.consume(rs.getInt("year"));
+                bh.consume(rs.getInt("semester"));
+                bh.consume(rs.getString("professor_id"));
+                bh.consume(rs.getString("professor_name"));
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public int courseCache(SchoolDatabase db, Blackhole bh) throws SQLException {
+        int rows = 0;
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(FOUR_WAY_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getString("student_id"));
+                bh.consume(rs.getString("student_name"));
+                Course course = courseDao.findById(rs.getString("course_id"));
+                bh.consume(course == null ? null : course.getName());
+                bh.consume(rs.getString("class_id"));
+                bh.consume(course == null ? 0 : course.getCredit());
+                bh.consume(rs.getInt("year"));
+                bh.consume(rs.getInt("semester"));
+                bh.consume(rs.getString("professor_id"));
+                bh.consume(rs.getString("professor_name"));
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
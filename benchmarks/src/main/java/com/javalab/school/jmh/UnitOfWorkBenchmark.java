@@ -0,0 +1,93 @@
+package com.javalab.school.jmh;
+
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.dao.TakesDao;
+import com.javalab.school.dao.TransactionTemplate;
+import com.javalab.school.domain.Student;
+import com.javalab.school.domain.Takes;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학과 이동 업무의 커밋 횟수 비교: 자동 커밋 vs 작업 단위(TransactionTemplate)
+ * - 업무 한 건: 학생 조회, 학과 변경, 수강 중인 성적을 모두 지우고 다시 등록(학생당 5건)
+ *   → 쓰기 문장 11개
+ * - 자동 커밋에서는 쓰기 문장마다 커밋되고, 작업 단위에서는 한 번만 커밋된다.
+ * - commits 보조 카운터로 업무 한 건당 커밋 횟수를 함께 보고한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnitOfWorkBenchmark {
+
+    /**
+     * 스레드별 커밋 수(JMH가 초당 값으로 보고한다)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Commits {
+        public long commits;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            commits = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Workflow {
+        final StudentDao studentDao = new StudentDao();
+        final TakesDao takesDao = new TakesDao();
+        final TransactionTemplate template = new TransactionTemplate();
+
+        /**
+         * 학과를 옮기고 성적을 다시 등록한다. 실행한 쓰기 문장 수를 반환한다.
+         */
+        int transfer(SchoolDatabase db) throws SQLException {
+            String studentId = EmbeddedDatabase.studentId(ThreadLocalRandom.current().nextInt(db.students));
+            Student student = studentDao.findById(studentId);
+            student.setDepartmentId(100 + (student.getDepartmentId() - 99) % EmbeddedDatabase.DEPARTMENTS);
+            int statements = studentDao.update(student);
+            List<Takes> takesList = takesDao.findByStudentId(studentId);
+            for (Takes takes : takesList) {
+                statements += takesDao.delete(takes.getId(), takes.getSubject());
+            }
+            for (Takes takes : takesList) {
+                statements += takesDao.insert(takes);
+            }
+            return statements;
+        }
+    }
+
+    @Benchmark
+    public int autoCommit(SchoolDatabase db, Workflow workflow, Commits counter) throws SQLException {
+        int statements = workflow.transfer(db);
+        counter.commits += statements;     // 자동 커밋: 쓰기 문장마다 커밋
+        return statements;
+    }
+
+    @Benchmark
+    public int unitOfWork(SchoolDatabase db, Workflow workflow, Commits counter) throws SQLException {
+        long before = workflow.template.getCommitCount();
+        int statements = workflow.template.execute(unit -> workflow.transfer(db));
+        counter.commits += workflow.template.getCommitCount() - before;
+        return statements;
+    }
+}
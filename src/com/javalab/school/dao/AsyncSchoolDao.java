@@ -0,0 +1,172 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Course;
+import com.javalab.school.domain.CourseClass;
+import com.javalab.school.domain.Department;
+import com.javalab.school.domain.Professor;
+import com.javalab.school.domain.Student;
+import com.javalab.school.domain.Takes;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DAO 조회를 별도 스레드에서 실행하고 CompletableFuture로 결과를 돌려주는 비동기 창구
+ * - 서로 관계없는 조회(학생 목록, 학과 목록 등)를 동시에 시작해 대기 시간을 겹칠 수 있다.
+ * - 작업 스레드 수는 기본으로 커넥션 풀의 최대 크기와 같게 하여 스레드가 커넥션을 기다리며 쌓이지 않게 한다.
+ * - 실행 중 + 대기 중인 작업이 threads + queueSize개로 차면 호출 스레드가 자리가 날 때까지 기다리고(backpressure),
+ *   풀의 대여 대기 시간(borrowTimeoutMillis)을 넘기면 SQLTransientConnectionException으로 실패한 future를 반환한다.
+ * - 실패한 future는 DataAccessException(원래 SQLException은 getCause())으로 완료된다.
+ * - 작업 스레드에서는 호출 스레드의 작업 단위(UnitOfWork)에 참여하지 않는다.
+ *
+ * 예) CompletableFuture<List<Student>> students = async.findAllStudents();
+ *     CompletableFuture<List<Department>> departments = async.findAllDepartments();
+ *     CompletableFuture.allOf(students, departments).join();
+ */
+public class AsyncSchoolDao implements AutoCloseable {
+
+    /**
+     * 작업 스레드에서 실행할 DAO 호출
+     */
+    @FunctionalInterface
+    public interface Query<T> {
+        T run() throws SQLException;
+    }
+
+    private final StudentDao studentDao = new StudentDao();
+    private final DepartmentDao departmentDao = new DepartmentDao();
+    private final ProfessorDao professorDao = new ProfessorDao();
+    private final CourseDao courseDao = new CourseDao();
+    private final ClassDao classDao = new ClassDao();
+    private final TakesDao takesDao = new TakesDao();
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final long submitTimeoutMillis;
+
+    /**
+     * 커넥션 풀 크기만큼의 작업 스레드, 대기 작업 최대 100개
+     */
+    public AsyncSchoolDao() {
+        this(DatabaseConnection.getPool().getConfig().getMaxSize(), 100);
+    }
+
+    public AsyncSchoolDao(int threads, int queueSize) {
+        this(threads, queueSize, DatabaseConnection.getPool().getConfig().getBorrowTimeoutMillis());
+    }
+
+    public AsyncSchoolDao(int threads, int queueSize, long submitTimeoutMillis) {
+        if (threads <= 0 || queueSize < 0) {
+            throw new IllegalArgumentException("threads는 1 이상, queueSize는 0 이상이어야 합니다.");
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "school-async-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        this.permits = new Semaphore(threads + queueSize);
+        this.submitTimeoutMillis = submitTimeoutMillis;
+    }
+
+    public CompletableFuture<List<Student>> findAllStudents() {
+        return submit(studentDao::findAll);
+    }
+    public CompletableFuture<Page<Student>> findStudentPage(String cursor, int pageSize) {
+        return submit(() -> studentDao.findPage(cursor, pageSize));
+    }
+    public CompletableFuture<Student> findStudent(String studentId) {
+        return submit(() -> studentDao.findById(studentId));
+    }
+    public CompletableFuture<List<Department>> findAllDepartments() {
+        return submit(departmentDao::findAll);
+    }
+    public CompletableFuture<Department> findDepartment(int departmentId) {
+        return submit(() -> departmentDao.findById(departmentId));
+    }
+    public CompletableFuture<List<Professor>> findAllProfessors() {
+        return submit(professorDao::findAll);
+    }
+    public CompletableFuture<Professor> findProfessor(String professorId) {
+        return submit(() -> professorDao.findById(professorId));
+    }
+    public CompletableFuture<List<Course>> findAllCourses() {
+        return submit(courseDao::findAll);
+    }
+    public CompletableFuture<Course> findCourse(String courseId) {
+        return submit(() -> courseDao.findById(courseId));
+    }
+    public CompletableFuture<List<CourseClass>> findAllClasses() {
+        return submit(classDao::findAll);
+    }
+    public CompletableFuture<CourseClass> findClass(String classId) {
+        return submit(() -> classDao.findById(classId));
+    }
+    public CompletableFuture<List<Takes>> findAllTakes() {
+        return submit(takesDao::findAll);
+    }
+    public CompletableFuture<List<Takes>> findTakesByStudent(String studentId) {
+        return submit(() -> takesDao.findByStudentId(studentId));
+    }
+
+    /**
+     * 임의의 DAO 호출을 작업 스레드에서 실행한다.
+     * - 자리가 없으면 submitTimeoutMillis까지 호출 스레드를 세워 둔다.
+     */
+    public <T> CompletableFuture<T> submit(Query<T> query) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            if (!permits.tryAcquire(submitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                future.completeExceptionally(new DataAccessException(new SQLTransientConnectionException(
+                        "비동기 조회 대기열이 가득 찼습니다(" + submitTimeoutMillis + "ms)")));
+                return future;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(new DataAccessException(new SQLException("비동기 조회 대기 중 인터럽트 발생", e)));
+            return future;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(query.run());
+                } catch (SQLException e) {
+                    future.completeExceptionally(new DataAccessException(e));
+                } catch (RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            // 종료된 뒤 호출된 경우(RejectedExecutionException)
+            permits.release();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 대기 중인 작업은 마저 실행하고 새 작업은 받지 않는다.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.javalab.school.dao;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DAO의 일괄 등록(insertAll) 공통 처리 클래스
+ * - addBatch()/executeBatch()로 batchSize개씩 묶어서 실행하고 묶음마다 커밋한다.
+ * - 묶음 실행이 실패하면 그 묶음을 롤백한 뒤 한 행씩 다시 실행하여
+ *   실패한 행만 BatchResult에 기록하고 나머지는 계속 처리한다.
+ * - 작업 단위(UnitOfWork) 안에서 호출되면 커밋은 작업 단위에 맡기고, 묶음 롤백은 묶음 시작 savepoint로 한다.
+ * - 행 단위로 다시 실행할 수 없는 실패(BatchUpdateException이 아닌 SQLException, 런타임 예외)는
+ *   그 묶음을 롤백한 뒤 예외를 그대로 던진다. 이전 묶음의 커밋은 유지된다.
+ */
+final class BatchExecutor {
+
+    static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * PreparedStatement의 ? 자리에 데이터 한 건을 바인딩하는 함수
+     */
+    @FunctionalInterface
+    interface Binder<T> {
+        void bind(PreparedStatement pstmt, T item) throws SQLException;
+    }
+
+    private BatchExecutor() { }
+
+    static <T> BatchResult<T> execute(String sql, Iterable<T> items, int batchSize, Binder<T> binder) throws SQLException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다: " + batchSize);
+        }
+        BatchResult<T> result = new BatchResult<>();
+        boolean inUnit = UnitOfWork.isActive();
+        try (Connection conn = DatabaseConnection.borrow()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                List<T> chunk = new ArrayList<>(batchSize);
+                long index = 0;     // 현재 묶음의 첫 행 순번
+                for (T item : items) {
+                    chunk.add(item);
+                    if (chunk.size() == batchSize) {
+                        executeChunk(conn, pstmt, chunk, index, binder, result, inUnit);
+                        index += chunk.size();
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    executeChunk(conn, pstmt, chunk, index, binder, result, inUnit);
+                }
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+        return result;
+    }
+
+    private static <T> void executeChunk(Connection conn, PreparedStatement pstmt, List<T> chunk, long startIndex,
+                                         Binder<T> binder, BatchResult<T> result, boolean inUnit) throws SQLException {
+        Savepoint chunkStart = inUnit ? conn.setSavepoint() : null;
+        try {
+            try {
+                for (T item : chunk) {
+                    binder.bind(pstmt, item);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                result.addSuccess(chunk.size());
+            } catch (BatchUpdateException e) {
+                // 드라이버마다 실패 이후 행의 처리 여부가 달라서 묶음 전체를 롤백하고 한 행씩 다시 실행한다.
+                pstmt.clearBatch();
+                rollback(conn, chunkStart);
+                executeRowByRow(conn, pstmt, chunk, startIndex, binder, result);
+            }
+            commit(conn, result, inUnit);
+        } catch (SQLException | RuntimeException e) {
+            // 그 밖의 실패(시간 초과, 연결 끊김, 바인딩 오류 등)는 묶음을 되돌리고 중단한다.
+            // 되돌리지 않으면 자동 커밋을 되살릴 때 이미 실행된 행이 커밋된다.
+            try {
+                pstmt.clearBatch();
+                rollback(conn, chunkStart);
+            } catch (SQLException rollbackFailure) {
+                e.addSuppressed(rollbackFailure);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 묶음을 되돌린다. 작업 단위 안이면 묶음 시작 savepoint까지만 되돌린다.
+     */
+    private static void rollback(Connection conn, Savepoint chunkStart) throws SQLException {
+        if (chunkStart != null) {
+            conn.rollback(chunkStart);
+        } else {
+            conn.rollback();
+        }
+    }
+
+    private static <T> void executeRowByRow(Connection conn, PreparedStatement pstmt, List<T> chunk, long startIndex,
+                                            Binder<T> binder, BatchResult<T> result) throws SQLException {
+        long index = startIndex;
+        for (T item : chunk) {
+            // 행 단위 savepoint로 실패한 행만 되돌린다.
+            Savepoint savepoint = conn.setSavepoint();
+            try {
+                binder.bind(pstmt, item);
+                pstmt.executeUpdate();
+                result.addSuccess(1);
+            } catch (SQLException e) {
+                conn.rollback(savepoint);
+                result.addFailure(index, item, e);
+            }
+            index++;
+        }
+    }
+
+    private static <T> void commit(Connection conn, BatchResult<T> result, boolean inUnit) throws SQLException {
+        if (!inUnit) {
+            conn.commit();
+            result.addCommit();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.javalab.school.dao;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 일괄(batch) 처리 결과 클래스
+ * - 성공한 행의 수와 실패한 행의 목록(원래 순번, 데이터, 예외)을 보관한다.
+ */
+public class BatchResult<T> {
+
+    private long successCount;                              // 성공한 행의 수
+    private int commitCount;                                // 커밋 횟수
+    private final List<Failure<T>> failures = new ArrayList<>();  // 실패한 행 목록
+
+    void addSuccess(long count) {
+        successCount += count;
+    }
+    void addCommit() {
+        commitCount++;
+    }
+    void addFailure(long index, T item, SQLException cause) {
+        failures.add(new Failure<>(index, item, cause));
+    }
+
+    public long getSuccessCount() {
+        return successCount;
+    }
+    public int getCommitCount() {
+        return commitCount;
+    }
+    public List<Failure<T>> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult [successCount=" + successCount + ", failureCount=" + failures.size()
+                + ", commitCount=" + commitCount + "]";
+    }
+
+    /**
+     * 실패한 행 정보
+     */
+    public static class Failure<T> {
+        private final long index;           // 입력 데이터에서의 순번(0부터)
+        private final T item;               // 실패한 데이터
+        private final SQLException cause;  // 실패 원인
+
+        Failure(long index, T item, SQLException cause) {
+            this.index = index;
+            this.item = item;
+            this.cause = cause;
+        }
+
+        public long getIndex() {
+            return index;
+        }
+        public T getItem() {
+            return item;
+        }
+        public SQLException getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure [index=" + index + ", item=" + item + ", cause=" + cause.getMessage() + "]";
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.javalab.school.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * StatementCache에서 꺼낸 PreparedStatement를 감싸는 래퍼
+ * - close()를 호출하면 실제로 닫지 않고 파라미터를 초기화한 뒤 캐시에 되돌려 놓는다.
+ * - 사용하는 동안 바꾼 fetch size, max rows, query timeout은 바꾸기 전 값(준비할 때의 값)으로 되돌린다.
+ * - 호출부는 기존처럼 try-with-resources로 문장을 닫으면 된다.
+ */
+final class CachedStatement implements InvocationHandler {
+
+    private final String sql;
+    private final PreparedStatement target;
+    private final StatementCache cache;
+    private final Connection connection;    // getConnection()이 반환할 풀 커넥션 프록시
+    private boolean closed;
+    // 바꾸기 전 값(바꾸지 않았으면 null). 캐시의 문장은 항상 준비할 때의 값을 가지고 있다.
+    private Integer fetchSize;
+    private Integer maxRows;
+    private Integer queryTimeout;
+
+    private CachedStatement(String sql, PreparedStatement target, StatementCache cache, Connection connection) {
+        this.sql = sql;
+        this.target = target;
+        this.cache = cache;
+        this.connection = connection;
+    }
+
+    static PreparedStatement wrap(String sql, PreparedStatement target, StatementCache cache, Connection connection) {
+        return (PreparedStatement) Proxy.newProxyInstance(CachedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, new CachedStatement(sql, target, cache, connection));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                if (!closed) {
+                    closed = true;
+                    recycle();
+                }
+                return null;
+            case "isClosed":
+                return closed || target.isClosed();
+            case "getConnection":
+                return connection;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "CachedStatement[" + sql + "]";
+            case "setFetchSize":
+                if (!closed && fetchSize == null) {
+                    fetchSize = target.getFetchSize();
+                }
+                break;
+            case "setMaxRows":
+            case "setLargeMaxRows":
+                if (!closed && maxRows == null) {
+                    maxRows = target.getMaxRows();
+                }
+                break;
+            case "setQueryTimeout":
+                if (!closed && queryTimeout == null) {
+                    queryTimeout = target.getQueryTimeout();
+                }
+                break;
+            default:
+                break;
+        }
+        if (closed) {
+            throw new SQLException("이미 닫힌 문장입니다.");
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 결과셋과 파라미터, 배치, 바꾼 속성을 정리한 뒤 캐시에 반환한다. 정리에 실패한 문장은 버린다.
+     */
+    private void recycle() {
+        try {
+            ResultSet rs = target.getResultSet();
+            if (rs != null) {
+                rs.close();
+            }
+            target.clearParameters();
+            target.clearBatch();
+            target.clearWarnings();
+            if (maxRows != null) {
+                target.setMaxRows(maxRows);     // fetch size가 max rows보다 크면 거부하는 드라이버가 있어 먼저 되돌린다.
+            }
+            if (fetchSize != null) {
+                target.setFetchSize(fetchSize);
+            }
+            if (queryTimeout != null) {
+                target.setQueryTimeout(queryTimeout);
+            }
+            cache.checkin(sql, target);
+        } catch (SQLException e) {
+            try {
+                target.close();
+            } catch (SQLException ignored) {
+                // 이미 닫힌 문장이면 무시
+            }
+        }
+    }
+}
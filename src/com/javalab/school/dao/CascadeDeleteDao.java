@@ -0,0 +1,134 @@
+package com.javalab.school.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 학생/학과 일괄 연쇄 삭제 DAO
+ * - 삭제할 키 목록을 받아 자식 테이블부터(takes → class → student → professor → department)
+ *   IN 목록 조건의 DELETE 문으로 한 번에 여러 행씩 지운다.
+ * - 모든 삭제는 한 트랜잭션(TransactionTemplate)으로 실행되므로 중간에 실패하면 아무것도 지워지지 않는다.
+ * - 어느 수업의 성적이 지워졌는지 따로 세지 않으므로 끝나면 SeatCounter의 카운터를 모두 버린다.
+ * - IN 목록은 항상 IN_LIST_SIZE개의 자리로 만들고 남는 자리는 첫 키로 채워서,
+ *   키 개수와 관계없이 같은 SQL(StatementCache 재사용)로 실행한다.
+ */
+public class CascadeDeleteDao {
+
+    static final int IN_LIST_SIZE = 100;
+    private static final String IN_LIST = inList(IN_LIST_SIZE);
+
+    private static final String DELETE_TAKES_OF_STUDENTS_SQL =
+            "DELETE FROM takes WHERE student_id IN " + IN_LIST;
+    private static final String DELETE_STUDENTS_SQL =
+            "DELETE FROM student WHERE student_id IN " + IN_LIST;
+
+    private static final String DEPARTMENT_PROFESSORS =
+            "SELECT professor_id FROM professor WHERE department_id IN " + IN_LIST;
+    private static final String DELETE_TAKES_OF_DEPARTMENT_STUDENTS_SQL =
+            "DELETE FROM takes WHERE student_id IN " +
+            "(SELECT student_id FROM student WHERE department_id IN " + IN_LIST + ")";
+    private static final String DELETE_TAKES_OF_DEPARTMENT_CLASSES_SQL =
+            "DELETE FROM takes WHERE class_id IN " +
+            "(SELECT class_id FROM class WHERE professor_id IN (" + DEPARTMENT_PROFESSORS + "))";
+    private static final String DELETE_DEPARTMENT_CLASSES_SQL =
+            "DELETE FROM class WHERE professor_id IN (" + DEPARTMENT_PROFESSORS + ")";
+    private static final String DELETE_DEPARTMENT_STUDENTS_SQL =
+            "DELETE FROM student WHERE department_id IN " + IN_LIST;
+    private static final String DELETE_DEPARTMENT_PROFESSORS_SQL =
+            "DELETE FROM professor WHERE department_id IN " + IN_LIST;
+    private static final String DELETE_DEPARTMENTS_SQL =
+            "DELETE FROM department WHERE department_id IN " + IN_LIST;
+
+    private final TransactionTemplate template;
+
+    public CascadeDeleteDao() {
+        this(new TransactionTemplate());
+    }
+
+    public CascadeDeleteDao(TransactionTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * 학생들과 그 학생들의 성적을 삭제한다.
+     * @return 테이블별 삭제 건수(takes, student)와 걸린 시간
+     */
+    public DeleteReport deleteStudents(Collection<String> studentIds) throws SQLException {
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        long start = System.nanoTime();
+        try {
+            DeleteReport report = template.execute(unit -> {
+                DeleteReport r = new DeleteReport();
+                try (Connection conn = DatabaseConnection.borrow()) {
+                    r.add("takes", deleteIn(conn, DELETE_TAKES_OF_STUDENTS_SQL, ids));
+                    r.add("student", deleteIn(conn, DELETE_STUDENTS_SQL, ids));
+                }
+                return r;
+            });
+            report.setElapsedNanos(System.nanoTime() - start);
+            return report;
+        } finally {
+            SeatCounter.allClassesChanged();
+        }
+    }
+
+    /**
+     * 학과들과 그 학과에 속한 학생, 교수, 교수의 수업, 관련 성적을 모두 삭제한다.
+     * @return 테이블별 삭제 건수(takes, class, student, professor, department)와 걸린 시간
+     */
+    public DeleteReport deleteDepartments(Collection<Integer> departmentIds) throws SQLException {
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(departmentIds));
+        long start = System.nanoTime();
+        try {
+            DeleteReport report = template.execute(unit -> {
+                DeleteReport r = new DeleteReport();
+                try (Connection conn = DatabaseConnection.borrow()) {
+                    r.add("takes", deleteIn(conn, DELETE_TAKES_OF_DEPARTMENT_STUDENTS_SQL, ids));
+                    r.add("takes", deleteIn(conn, DELETE_TAKES_OF_DEPARTMENT_CLASSES_SQL, ids));
+                    r.add("class", deleteIn(conn, DELETE_DEPARTMENT_CLASSES_SQL, ids));
+                    r.add("student", deleteIn(conn, DELETE_DEPARTMENT_STUDENTS_SQL, ids));
+                    r.add("professor", deleteIn(conn, DELETE_DEPARTMENT_PROFESSORS_SQL, ids));
+                    r.add("department", deleteIn(conn, DELETE_DEPARTMENTS_SQL, ids));
+                }
+                return r;
+            });
+            report.setElapsedNanos(System.nanoTime() - start);
+            return report;
+        } finally {
+            DepartmentDao.getCache().invalidateAll();
+            SeatCounter.allClassesChanged();
+        }
+    }
+
+    /**
+     * 키를 IN_LIST_SIZE개씩 나누어 삭제 문을 실행한다.
+     * @return 삭제된 행의 수
+     */
+    private static long deleteIn(Connection conn, String sql, List<?> ids) throws SQLException {
+        long count = 0;
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int from = 0; from < ids.size(); from += IN_LIST_SIZE) {
+                int to = Math.min(from + IN_LIST_SIZE, ids.size());
+                for (int i = 0; i < IN_LIST_SIZE; i++) {
+                    // 남는 자리는 첫 키로 채운다(IN 조건이므로 결과는 같다).
+                    pstmt.setObject(i + 1, ids.get(from + i < to ? from + i : from));
+                }
+                count += pstmt.executeUpdate();
+            }
+        }
+        return count;
+    }
+
+    private static String inList(int size) {
+        StringBuilder sb = new StringBuilder(size * 2 + 2).append('(');
+        for (int i = 0; i < size; i++) {
+            sb.append(i == 0 ? "?" : ",?");
+        }
+        return sb.append(')').toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.CourseClass;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수업(class) 테이블 DAO
+ */
+public class ClassDao {
+
+    private static final String INSERT_SQL = "INSERT INTO class " +
+            "(class_id, course_id, year, semester, professor_id, classroom, enroll) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT class_id, course_id, year, semester, professor_id, classroom, enroll " +
+            "FROM class ";
+    private static final String UPDATE_SQL = "UPDATE class " +
+            "SET course_id = ?, year = ?, semester = ?, professor_id = ?, classroom = ?, enroll = ? " +
+            "WHERE class_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM class WHERE class_id = ?";
+
+    /**
+     * 수업 등록
+     * @return 등록된 행의 수
+     */
+    public int insert(CourseClass courseClass) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            pstmt.setString(1, courseClass.getClassId());
+            pstmt.setString(2, courseClass.getCourseId());
+            pstmt.setInt(3, courseClass.getYear());
+            pstmt.setString(4, courseClass.getSemester());
+            pstmt.setString(5, courseClass.getProfessorId());
+            pstmt.setString(6, courseClass.getClassroom());
+            pstmt.setInt(7, courseClass.getEnroll());
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * 수업 전체 목록 조회(수업코드순)
+     */
+    public List<CourseClass> findAll() throws SQLException {
+        List<CourseClass> classes = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "ORDER BY class_id");
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                classes.add(toCourseClass(rs));
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * 수업코드로 수업 조회
+     * @return 수업 객체, 없으면 null
+     */
+    public CourseClass findById(String classId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "WHERE class_id = ?")) {
+            pstmt.setString(1, classId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? toCourseClass(rs) : null;
+            }
+        }
+    }
+
+    /**
+     * 수업 정보 수정
+     * - 정원이 바뀌었을 수 있으므로 SeatCounter의 그 수업 카운터를 버린다.
+     * @return 수정된 행의 수
+     */
+    public int update(CourseClass courseClass) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            pstmt.setString(1, courseClass.getCourseId());
+            pstmt.setInt(2, courseClass.getYear());
+            pstmt.setString(3, courseClass.getSemester());
+            pstmt.setString(4, courseClass.getProfessorId());
+            pstmt.setString(5, courseClass.getClassroom());
+            pstmt.setInt(6, courseClass.getEnroll());
+            pstmt.setString(7, courseClass.getClassId());
+            return pstmt.executeUpdate();
+        } finally {
+            SeatCounter.classChanged(courseClass.getClassId());
+        }
+    }
+
+    /**
+     * 수업 삭제
+     * - SeatCounter의 그 수업 카운터를 버린다.
+     * @return 삭제된 행의 수
+     */
+    public int delete(String classId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+            pstmt.setString(1, classId);
+            return pstmt.executeUpdate();
+        } finally {
+            SeatCounter.classChanged(classId);
+        }
+    }
+
+    private CourseClass toCourseClass(ResultSet rs) throws SQLException {
+        return new CourseClass(
+                rs.getString("class_id"),
+                rs.getString("course_id"),
+                rs.getInt("year"),
+                rs.getString("semester"),
+                rs.getString("professor_id"),
+                rs.getString("classroom"),
+                rs.getInt("enroll"));
+    }
+}
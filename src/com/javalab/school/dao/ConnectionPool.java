@@ -0,0 +1,283 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.metrics.Metrics;
+import com.javalab.school.metrics.OperationMetrics;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 크기가 제한된 커넥션 풀
+ * - 최대 maxSize개의 물리 커넥션을 만들고, 대여(borrow)한 커넥션은 close() 호출 시 풀로 반환된다.
+ * - 대여 시 커넥션을 검증(validateOnBorrow)하고, 끊어진 커넥션은 폐기 후 새로 만든다.
+ * - 백그라운드 스레드가 주기적으로 오래된 유휴 커넥션을 정리하고 minIdle개를 유지한다.
+ * - 물리 커넥션마다 StatementCache를 두어 같은 SQL의 PreparedStatement를 재사용한다.
+ * - slowQueryThresholdMillis를 설정하면 기준 시간 이상 걸린 문장을 SlowQueryLog에 기록한다.
+ * - operationMetrics가 켜져 있으면 문장 실행 시간을 호출한 DAO 메서드별로 Metrics에 기록한다(StatementMetrics).
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    // 커넥션 대여 대기 시간(모든 풀 합산, 시간 초과는 오류로 센다)
+    private static final OperationMetrics BORROW = Metrics.operation("connection.borrow");
+
+    private final PoolConfig config;
+    private final PoolMetrics metrics = new PoolMetrics();
+    private final LinkedBlockingDeque<Entry> idle = new LinkedBlockingDeque<>();   // 유휴 커넥션(최근 반환된 것이 앞쪽)
+    private final Semaphore permits;                                               // 동시에 대여 가능한 커넥션 수
+    private final AtomicInteger totalCount = new AtomicInteger();                  // 생성되어 있는 물리 커넥션 수
+    private final ScheduledExecutorService evictor;
+    private final SlowQueryLog slowQueryLog;    // 느린 SQL 기록기(설정하지 않았으면 null)
+    private volatile boolean closed;
+
+    public ConnectionPool(PoolConfig config) {
+        if (config.getMaxSize() <= 0 || config.getMinIdle() < 0 || config.getMinIdle() > config.getMaxSize()) {
+            throw new IllegalArgumentException("잘못된 풀 크기 설정: " + config);
+        }
+        this.config = config;
+        this.permits = new Semaphore(config.getMaxSize(), true);
+        try {
+            // 드라이버 클래스를 동적으로 로드, 로딩된 드라이버는 자동으로 DriverManager에 등록됨.
+            Class.forName(config.getDriverClassName());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("JDBC 드라이버를 찾을 수 없습니다: " + config.getDriverClassName(), e);
+        }
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "connection-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = config.getEvictionIntervalMillis();
+        evictor.scheduleWithFixedDelay(this::evict, 0, interval, TimeUnit.MILLISECONDS);
+        this.slowQueryLog = SlowQueryLog.fromConfig(config, this);
+    }
+
+    /**
+     * 풀에서 커넥션을 대여한다.
+     * - borrowTimeoutMillis 동안 빈 자리가 나지 않으면 SQLTransientConnectionException을 던진다.
+     * - 반환된 커넥션의 close()를 호출하면 물리 커넥션은 닫히지 않고 풀로 돌아간다.
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("커넥션 풀이 종료되었습니다.");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(config.getBorrowTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                metrics.recordTimeout();
+                BORROW.recordError(start);
+                throw new SQLTransientConnectionException("커넥션 대여 대기 시간 초과("
+                        + config.getBorrowTimeoutMillis() + "ms), 사용중=" + getActiveCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 대여 중 인터럽트 발생", e);
+        }
+        try {
+            Entry entry = takeValidEntry();
+            metrics.recordBorrow(System.nanoTime() - start);
+            BORROW.record(start, 0);
+            return PooledConnection.wrap(entry, this);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 유휴 커넥션 중 유효한 것을 꺼내고, 없으면 새 물리 커넥션을 만든다.
+     */
+    private Entry takeValidEntry() throws SQLException {
+        Entry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            if (!config.isValidateOnBorrow() || isValid(entry)) {
+                return entry;
+            }
+            destroy(entry);
+        }
+        return create();
+    }
+
+    private boolean isValid(Entry entry) {
+        try {
+            return entry.connection.isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Entry create() throws SQLException {
+        Connection connection = DriverManager.getConnection(config.getUrl(), config.getUsername(), config.getPassword());
+        Entry entry;
+        try {
+            entry = new Entry(connection, new StatementCache(config.getStatementCacheSize()));
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        totalCount.incrementAndGet();
+        metrics.recordCreated();
+        return entry;
+    }
+
+    private void destroy(Entry entry) {
+        totalCount.decrementAndGet();
+        metrics.recordDestroyed();
+        entry.statementCache.clear();
+        try {
+            entry.connection.close();
+        } catch (SQLException e) {
+            // 이미 끊어진 커넥션이면 무시
+        }
+    }
+
+    /**
+     * PooledConnection.close()에서 호출되어 물리 커넥션을 풀로 돌려놓는다.
+     * - 트랜잭션 도중에 반환된 커넥션은 롤백 후 auto-commit 모드로 되돌린다.
+     * - 대여자가 읽기 전용 여부나 격리 수준을 바꿨으면 만들 때의 값으로 되돌린다.
+     */
+    void release(Entry entry) {
+        try {
+            if (closed || entry.connection.isClosed()) {
+                destroy(entry);
+                return;
+            }
+            if (!entry.connection.getAutoCommit()) {
+                entry.connection.rollback();
+                entry.connection.setAutoCommit(true);
+            }
+            if (entry.sessionChanged) {
+                entry.connection.setReadOnly(entry.defaultReadOnly);
+                entry.connection.setTransactionIsolation(entry.defaultIsolation);
+                entry.sessionChanged = false;
+            }
+            entry.lastUsedNanos = System.nanoTime();
+            idle.offerFirst(entry);
+        } catch (SQLException e) {
+            destroy(entry);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * idleTimeoutMillis 이상 사용되지 않은 유휴 커넥션을 닫고, 부족하면 minIdle개까지 채운다.
+     */
+    void evict() {
+        if (closed) {
+            return;
+        }
+        long now = System.nanoTime();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getIdleTimeoutMillis());
+        List<Entry> expired = new ArrayList<>();
+        // 오래된 것은 덱의 뒤쪽에 모여 있다.
+        Iterator<Entry> it = idle.descendingIterator();
+        while (it.hasNext() && totalCount.get() - expired.size() > config.getMinIdle()) {
+            Entry entry = it.next();
+            if (now - entry.lastUsedNanos >= timeoutNanos && idle.removeLastOccurrence(entry)) {
+                expired.add(entry);
+            }
+        }
+        expired.forEach(this::destroy);
+
+        while (!closed && totalCount.get() < config.getMinIdle() && idle.size() < config.getMinIdle()) {
+            try {
+                Entry entry = create();
+                entry.lastUsedNanos = System.nanoTime();
+                idle.offerLast(entry);
+            } catch (SQLException e) {
+                e.printStackTrace();
+                break;
+            }
+        }
+    }
+
+    /**
+     * 풀을 종료하고 모든 유휴 커넥션을 닫는다. 대여중인 커넥션은 반환될 때 닫힌다.
+     */
+    @Override
+    public void close() {
+        if (slowQueryLog != null) {
+            slowQueryLog.close();   // 남은 기록의 실행 계획 조회에 풀이 필요하므로 먼저 닫는다.
+        }
+        closed = true;
+        evictor.shutdownNow();
+        Entry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            destroy(entry);
+        }
+    }
+
+    public PoolConfig getConfig() {
+        return config;
+    }
+    public PoolMetrics getMetrics() {
+        return metrics;
+    }
+    /**
+     * 느린 SQL 기록기, 설정하지 않았으면 null
+     */
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+    /**
+     * 현재 대여중인 커넥션 수
+     */
+    public int getActiveCount() {
+        return config.getMaxSize() - permits.availablePermits();
+    }
+    /**
+     * 현재 유휴 커넥션 수
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+    /**
+     * 생성되어 있는 전체 물리 커넥션 수
+     */
+    public int getTotalCount() {
+        return totalCount.get();
+    }
+    /**
+     * 커넥션을 기다리고 있는 스레드 수(추정값)
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPool [active=" + getActiveCount() + ", idle=" + getIdleCount() + ", total=" + getTotalCount()
+                + ", waiting=" + getWaitingCount() + ", " + metrics + "]";
+    }
+
+    /**
+     * 풀이 관리하는 물리 커넥션
+     */
+    static final class Entry {
+        final Connection connection;
+        final StatementCache statementCache;    // 이 커넥션에서 준비한 문장 캐시
+        final boolean defaultReadOnly;          // 만들 때의 읽기 전용 여부
+        final int defaultIsolation;             // 만들 때의 트랜잭션 격리 수준
+        volatile long lastUsedNanos;
+        volatile boolean sessionChanged;        // 대여자가 setReadOnly()/setTransactionIsolation()을 호출했는지
+
+        Entry(Connection connection, StatementCache statementCache) throws SQLException {
+            this.connection = connection;
+            this.statementCache = statementCache;
+            this.defaultReadOnly = connection.isReadOnly();
+            this.defaultIsolation = connection.getTransactionIsolation();
+            this.lastUsedNanos = System.nanoTime();
+        }
+    }
+}
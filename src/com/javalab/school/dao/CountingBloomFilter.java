@@ -0,0 +1,123 @@
+package com.javalab.school.dao;
+
+/**
+ * 문자열 키의 카운팅 블룸 필터
+ * - mightContain()이 false면 그 키는 확실히 없고, true면 있을 수도 있다(오탐률 fpp).
+ * - 칸마다 비트 대신 4비트 카운터를 두어(long 하나에 16칸) 삭제도 할 수 있다.
+ *   15에 이른 카운터는 더 세지 않고 줄이지도 않는다(잘못 줄여서 있는 키를 놓치지 않기 위함).
+ * - 해시 두 개를 조합(h1 + i * h2)하여 k개의 칸을 고른다.
+ * - 메소드는 모두 synchronized이다. (칸 k개를 읽고 쓰는 짧은 작업)
+ */
+final class CountingBloomFilter {
+
+    private static final int MAX_COUNT = 15;
+
+    private final long[] counters;
+    private final long size;        // 칸 수
+    private final int hashCount;    // k
+    private long count;             // 추가 - 삭제된 키 수
+
+    /**
+     * @param expectedKeys 담을 키 수
+     * @param fpp 목표 오탐률(0 < fpp < 1)
+     */
+    CountingBloomFilter(long expectedKeys, double fpp) {
+        if (expectedKeys <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("expectedKeys는 1 이상, fpp는 0과 1 사이여야 합니다.");
+        }
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long m = (long) Math.ceil(-expectedKeys * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.size = Math.max(64, (m + 15) / 16 * 16);
+        this.hashCount = Math.max(1, (int) Math.round((double) size / expectedKeys * Math.log(2)));
+        this.counters = new long[Math.toIntExact(size / 16)];
+    }
+
+    synchronized void add(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long slot = Math.floorMod(h1 + i * h2, size);
+            int value = get(slot);
+            if (value < MAX_COUNT) {
+                set(slot, value + 1);
+            }
+        }
+        count++;
+    }
+
+    /**
+     * 키를 뺀다. 들어 있지 않은 것이 확실한 키는 무시한다.
+     */
+    synchronized void remove(String key) {
+        if (!mightContain(key)) {
+            return;
+        }
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long slot = Math.floorMod(h1 + i * h2, size);
+            int value = get(slot);
+            if (value < MAX_COUNT) {
+                set(slot, value - 1);
+            }
+        }
+        count--;
+    }
+
+    synchronized boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (get(Math.floorMod(h1 + i * h2, size)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * 카운터 배열의 크기(바이트)
+     */
+    long getMemoryBytes() {
+        return counters.length * 8L;
+    }
+
+    int getHashCount() {
+        return hashCount;
+    }
+
+    private int get(long slot) {
+        return (int) (counters[(int) (slot >>> 4)] >>> ((slot & 15) << 2)) & 0xF;
+    }
+
+    private void set(long slot, int value) {
+        int index = (int) (slot >>> 4);
+        int shift = (int) ((slot & 15) << 2);
+        counters[index] = (counters[index] & ~(0xFL << shift)) | ((long) value << shift);
+    }
+
+    /**
+     * 64비트 FNV-1a 후 섞기
+     */
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,124 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Course;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 강좌(course) 테이블 DAO
+ * - findById()는 읽기 관통 캐시(LookupCache)를 거치며, 등록/수정/삭제 시 해당 항목을 캐시에서 제거한다.
+ */
+public class CourseDao {
+
+    private static final String INSERT_SQL = "INSERT INTO course (course_id, name, credit, description) " +
+            "VALUES (?, ?, ?, NVL(?, ''))"; // NVL 함수로 NULL 처리
+    private static final String SELECT_SQL = "SELECT course_id, name, credit, description FROM course ";
+    private static final String UPDATE_SQL = "UPDATE course SET name = ?, credit = ?, description = NVL(?, '') " +
+            "WHERE course_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM course WHERE course_id = ?";
+
+    // 강좌 캐시(모든 CourseDao 인스턴스가 공유)
+    private static final LookupCache<String, Course> cache =
+            LookupCache.fromSystemProperties("course", CourseDao::loadById);
+
+    /**
+     * 강좌 등록
+     * @return 등록된 행의 수
+     */
+    public int insert(Course course) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            pstmt.setString(1, course.getCourseId());
+            pstmt.setString(2, course.getName());
+            pstmt.setInt(3, course.getCredit());
+            pstmt.setString(4, course.getDescription());
+            return pstmt.executeUpdate();
+        } finally {
+            cache.invalidate(course.getCourseId());
+        }
+    }
+
+    /**
+     * 강좌 전체 목록 조회(강좌코드순)
+     */
+    public List<Course> findAll() throws SQLException {
+        List<Course> courses = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "ORDER BY course_id");
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                courses.add(toCourse(rs));
+            }
+        }
+        return courses;
+    }
+
+    /**
+     * 강좌코드로 강좌 조회(캐시 우선)
+     * @return 강좌 객체, 없으면 null
+     */
+    public Course findById(String courseId) throws SQLException {
+        return courseId == null ? null : cache.get(courseId);
+    }
+
+    /**
+     * 강좌 정보 수정
+     * @return 수정된 행의 수
+     */
+    public int update(Course course) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            pstmt.setString(1, course.getName());
+            pstmt.setInt(2, course.getCredit());
+            pstmt.setString(3, course.getDescription());
+            pstmt.setString(4, course.getCourseId());
+            return pstmt.executeUpdate();
+        } finally {
+            cache.invalidate(course.getCourseId());
+        }
+    }
+
+    /**
+     * 강좌 삭제
+     * @return 삭제된 행의 수
+     */
+    public int delete(String courseId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+            pstmt.setString(1, courseId);
+            return pstmt.executeUpdate();
+        } finally {
+            cache.invalidate(courseId);
+        }
+    }
+
+    /**
+     * 강좌 캐시(통계 확인, 전체 무효화용)
+     */
+    public static LookupCache<String, Course> getCache() {
+        return cache;
+    }
+
+    private static Course loadById(String courseId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "WHERE course_id = ?")) {
+            pstmt.setString(1, courseId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? toCourse(rs) : null;
+            }
+        }
+    }
+
+    private static Course toCourse(ResultSet rs) throws SQLException {
+        return new Course(
+                rs.getString("course_id"),
+                rs.getString("name"),
+                rs.getInt("credit"),
+                rs.getString("description"));
+    }
+}
@@ -0,0 +1,26 @@
+package com.javalab.school.dao;
+
+import java.sql.SQLException;
+
+/**
+ * SQLException을 감싸는 비검사 예외
+ * - Stream, CompletableFuture처럼 검사 예외를 던질 수 없는 곳에서 사용한다.
+ * - 원래 예외는 getCause()로 꺼낼 수 있다.
+ */
+public class DataAccessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DataAccessException(SQLException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    public DataAccessException(String message, SQLException cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
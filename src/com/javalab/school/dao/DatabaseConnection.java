@@ -1,42 +1,80 @@
 package com.javalab.school.dao;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
+/**
+ * 커넥션 전담 클래스
+ * - 내부에 커넥션 풀(ConnectionPool)을 두고, getConnection()으로 풀에서 커넥션을 대여한다.
+ * - 대여한 커넥션의 close()를 호출하면 물리 커넥션은 닫히지 않고 풀로 반환된다.
+ */
 public class DatabaseConnection {
-    // 자신 타입의 정적 필드 선언
-    private static Connection instance;
+    // 커넥션 풀 정적 필드 선언
+    private static volatile ConnectionPool pool;
 
     // 생성자를 private으로 선언하여 외부에서 인스턴스를 생성하지 못하도록 한다.
     private DatabaseConnection() { }
-    // Connection 객체를 반환하는 정적 메소드
+
+    // 풀에서 Connection 객체를 대여해서 반환하는 정적 메소드
+    // 기존 호출부와 같이 실패하면 스택 트레이스를 출력하고 null을 반환한다.
     public static Connection getConnection() {
-        if (instance == null) {
-            try {
-                // JDBC 드라이버 클래스의 경로
-                String driverClassName = "oracle.jdbc.OracleDriver";
-                // 드라이버 클래스를 동적으로 로드, 로딩된 드라이버는 자동으로 DriverManager에 등록됨.
-                Class.forName(driverClassName);
-
-                // 연결할 데이터베이스의 정보
-                String dbUrl = "jdbc:oracle:thin:@localhost:1521:orcl";
-                String username = "school";
-                String password = "1234";
-
-                // DriverManager를 통해 Connection 객체를 생성
-                // 매개변수로 연결할 데이터베이스의 URL, 사용자 이름, 비밀번호를 전달
-                instance = DriverManager.getConnection(dbUrl, username, password);
-
-                // 연결 성공 메시지 출력
-                System.out.println("데이터베이스 커넥션 객체 생성 성공");
-
-                // 연결종료
-                //connection.close();
-            } catch (ClassNotFoundException | SQLException e) {
-                e.printStackTrace();
+        try {
+            return borrow();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * 풀에서 커넥션을 대여한다. 실패하면 SQLException을 던진다.
+     * - 현재 스레드에서 작업 단위(UnitOfWork)가 진행 중이면 그 트랜잭션의 커넥션을 반환한다.
+     */
+    public static Connection borrow() throws SQLException {
+        UnitOfWork unit = UnitOfWork.current();
+        if (unit != null) {
+            return unit.getConnection();
+        }
+        return getPool().borrow();
+    }
+
+    /**
+     * 커넥션 풀을 반환한다. 처음 호출될 때 시스템 프로퍼티 설정으로 풀을 만든다.
+     */
+    public static ConnectionPool getPool() {
+        ConnectionPool p = pool;
+        if (p == null) {
+            synchronized (DatabaseConnection.class) {
+                p = pool;
+                if (p == null) {
+                    p = new ConnectionPool(PoolConfig.fromSystemProperties());
+                    pool = p;
+                    System.out.println("데이터베이스 커넥션 풀 생성 성공");
+                }
             }
         }
-        return instance;
+        return p;
+    }
+
+    /**
+     * 주어진 설정으로 커넥션 풀을 새로 만든다. (임베디드 DB로 테스트할 때 사용)
+     * - 기존 풀이 있으면 종료한다.
+     */
+    public static synchronized void configure(PoolConfig config) {
+        ConnectionPool old = pool;
+        pool = new ConnectionPool(config);
+        if (old != null) {
+            old.close();
+        }
+    }
+
+    /**
+     * 커넥션 풀을 종료한다.
+     */
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+        }
     }
-}
\ No newline at end of file
+}
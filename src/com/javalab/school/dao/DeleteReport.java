@@ -0,0 +1,48 @@
+package com.javalab.school.dao;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일괄 삭제 결과 클래스
+ * - 테이블별로 삭제된 행의 수(삭제한 순서대로)와 걸린 시간을 보관한다.
+ */
+public class DeleteReport {
+
+    private final Map<String, Long> counts = new LinkedHashMap<>();  // 테이블명 -> 삭제된 행의 수
+    private long elapsedNanos;
+
+    void add(String table, long count) {
+        counts.merge(table, count, Long::sum);
+    }
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * 테이블에서 삭제된 행의 수
+     */
+    public long getCount(String table) {
+        return counts.getOrDefault(table, 0L);
+    }
+    public Map<String, Long> getCounts() {
+        return Collections.unmodifiableMap(counts);
+    }
+    public long getTotalCount() {
+        long total = 0;
+        for (long count : counts.values()) {
+            total += count;
+        }
+        return total;
+    }
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "DeleteReport " + counts + " (" + getElapsedMillis() + "ms)";
+    }
+}
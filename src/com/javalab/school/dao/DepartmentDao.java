@@ -0,0 +1,130 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Department;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 학과(department) 테이블 DAO
+ * - findById()는 읽기 관통 캐시(LookupCache)를 거치며, 등록/수정/삭제 시 해당 항목을 캐시에서 제거한다.
+ */
+public class DepartmentDao {
+
+    private static final String INSERT_SQL = "INSERT INTO department (department_id, name, office) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT department_id, name, office FROM department ";
+    private static final String UPDATE_SQL = "UPDATE department SET name = ?, office = ? WHERE department_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM department WHERE department_id = ?";
+
+    // 학과 캐시(모든 DepartmentDao 인스턴스가 공유)
+    private static final LookupCache<Integer, Department> cache =
+            LookupCache.fromSystemProperties("department", DepartmentDao::loadById);
+
+    /**
+     * 학과 등록
+     * @return 등록된 행의 수
+     */
+    public int insert(Department department) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            bindInsert(pstmt, department);
+            return pstmt.executeUpdate();
+        } finally {
+            cache.invalidate(department.getDepartmentId());
+        }
+    }
+
+    /**
+     * 학과 일괄 등록
+     * - batchSize건씩 묶어서 실행하고 묶음마다 커밋한다. 실패한 행은 결과의 실패 목록에 기록된다.
+     */
+    public BatchResult<Department> insertAll(Iterable<Department> departments, int batchSize) throws SQLException {
+        try {
+            return BatchExecutor.execute(INSERT_SQL, departments, batchSize, DepartmentDao::bindInsert);
+        } finally {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * 학과 전체 목록 조회(학과코드순)
+     */
+    public List<Department> findAll() throws SQLException {
+        List<Department> departments = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "ORDER BY department_id");
+             ResultSet rs = pstmt.executeQuery()) {
+            RowMapper.Bound<Department> mapper = RowMappers.DEPARTMENT.bind(rs);
+            while (rs.next()) {
+                departments.add(mapper.map(rs));
+            }
+        }
+        return departments;
+    }
+
+    /**
+     * 학과코드로 학과 조회(캐시 우선)
+     * - 목록 출력에서 학과명을 찾을 때 조인 대신 사용한다.
+     * @return 학과 객체, 없거나 학과코드가 null이면 null
+     */
+    public Department findById(Integer departmentId) throws SQLException {
+        return departmentId == null ? null : cache.get(departmentId);
+    }
+
+    /**
+     * 학과 캐시(통계 확인, 전체 무효화용)
+     */
+    public static LookupCache<Integer, Department> getCache() {
+        return cache;
+    }
+
+    /**
+     * 학과 정보 수정
+     * @return 수정된 행의 수
+     */
+    public int update(Department department) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            pstmt.setString(1, department.getName());
+            pstmt.setString(2, department.getOffice());
+            pstmt.setInt(3, department.getDepartmentId());
+            return pstmt.executeUpdate();
+        } finally {
+            cache.invalidate(department.getDepartmentId());
+        }
+    }
+
+    /**
+     * 학과 삭제
+     * @return 삭제된 행의 수
+     */
+    public int delete(int departmentId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+            pstmt.setInt(1, departmentId);
+            return pstmt.executeUpdate();
+        } finally {
+            cache.invalidate(departmentId);
+        }
+    }
+
+    private static Department loadById(int departmentId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "WHERE department_id = ?")) {
+            pstmt.setInt(1, departmentId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? RowMappers.DEPARTMENT.bind(rs).map(rs) : null;
+            }
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, Department department) throws SQLException {
+        pstmt.setInt(1, department.getDepartmentId());
+        pstmt.setString(2, department.getName());
+        pstmt.setString(3, department.getOffice());
+    }
+}
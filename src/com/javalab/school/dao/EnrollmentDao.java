@@ -0,0 +1,99 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Takes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 정원(class.enroll)을 지키는 수강 신청 DAO
+ * - 한 트랜잭션 안에서 수업 행 하나만 잠그고(SELECT ... FOR UPDATE) 현재 수강 인원을 센 뒤 자리가 있을 때만 등록한다.
+ *   같은 수업에 대한 신청만 차례로 처리되고 다른 수업의 신청이나 takes 테이블 전체는 막지 않는다.
+ * - 잠금을 얻은 뒤에 세므로 앞서 커밋된 신청이 항상 보여서 동시에 신청해도 정원을 넘지 않는다.
+ * - 정원이 비어 있으면(NULL) 제한 없이 등록한다.
+ * - 이미 신청한 학생이면 기본키 위반(SQLIntegrityConstraintViolationException)이 그대로 전달된다.
+ */
+public class EnrollmentDao {
+
+    private static final String LOCK_CLASS_SQL = "SELECT enroll FROM class WHERE class_id = ? FOR UPDATE";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM takes WHERE class_id = ?";
+    private static final String INSERT_SQL = "INSERT INTO takes (student_id, class_id, score) VALUES (?, ?, ?)";
+    private static final String SEATS_SQL = "SELECT c.enroll, (SELECT COUNT(*) FROM takes t WHERE t.class_id = c.class_id) taken " +
+            "FROM class c WHERE c.class_id = ?";
+
+    /** 정원이 없는 수업의 capacity */
+    public static final int UNLIMITED = -1;
+
+    private final TransactionTemplate template;
+
+    public EnrollmentDao() {
+        this(new TransactionTemplate());
+    }
+
+    public EnrollmentDao(TransactionTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * 정원 안에서 수강 신청(성적 행 등록)
+     */
+    public EnrollmentResult enroll(Takes takes) throws SQLException {
+        return template.execute(unit -> {
+            Connection conn = unit.getConnection();
+            int capacity;
+            try (PreparedStatement pstmt = conn.prepareStatement(LOCK_CLASS_SQL)) {
+                pstmt.setString(1, takes.getSubject());
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (!rs.next()) {
+                        return EnrollmentResult.NO_CLASS;
+                    }
+                    capacity = capacity(rs, 1);
+                }
+            }
+            if (capacity != UNLIMITED && countTaken(conn, takes.getSubject()) >= capacity) {
+                return EnrollmentResult.FULL;
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+                pstmt.setString(1, takes.getId());
+                pstmt.setString(2, takes.getSubject());
+                pstmt.setString(3, takes.getScore());
+                pstmt.executeUpdate();
+            }
+            return EnrollmentResult.ENROLLED;
+        });
+    }
+
+    /**
+     * 수업의 정원과 현재 수강 인원(잠그지 않고 읽는다)
+     * @return {정원(없으면 UNLIMITED), 수강 인원}, 수업이 없으면 null
+     */
+    public int[] findSeats(String classId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SEATS_SQL)) {
+            pstmt.setString(1, classId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                return new int[]{capacity(rs, 1), rs.getInt(2)};
+            }
+        }
+    }
+
+    private static int countTaken(Connection conn, String classId) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(COUNT_SQL)) {
+            pstmt.setString(1, classId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private static int capacity(ResultSet rs, int column) throws SQLException {
+        int enroll = rs.getInt(column);
+        return rs.wasNull() ? UNLIMITED : enroll;
+    }
+}
@@ -0,0 +1,13 @@
+package com.javalab.school.dao;
+
+/**
+ * 수강 신청 결과
+ */
+public enum EnrollmentResult {
+    /** 등록됨 */
+    ENROLLED,
+    /** 정원(class.enroll)이 가득 참 */
+    FULL,
+    /** 수업이 없음 */
+    NO_CLASS
+}
@@ -0,0 +1,284 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.metrics.OperationMetrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * 실행 시간을 재서 DAO 메서드별 지표(StatementMetrics)에 기록하고, 느린 문장을 SlowQueryLog에 넘기는
+ * Statement/PreparedStatement 래퍼
+ * - set*() 호출을 가로채 바인드 값을 기억해 둔다.
+ * - 실행 시간은 execute*() 호출 시간과 결과셋 next() 호출 시간(fetch)의 합이다.
+ *   결과셋을 끝까지 읽거나 닫을 때(또는 문장을 닫거나 다시 실행할 때) 한 번 판정한다.
+ * - 실행이나 next()가 SQLException을 던지면 오류로 기록한다.
+ * - 나머지 호출은 그대로 감싼 문장에 위임한다.
+ */
+final class LoggingStatement implements InvocationHandler {
+
+    private static final Object[] NO_BINDS = new Object[0];
+
+    private final Statement target;
+    private final String sql;               // PreparedStatement의 SQL, Statement면 null
+    private final SlowQueryLog log;         // null이면 느린 SQL을 기록하지 않음
+    private final boolean metricsEnabled;
+    private Object[] binds = NO_BINDS;
+    private int bindCount;                  // 가장 큰 파라미터 번호
+    private int batchSize;
+
+    // 진행 중인 실행(결과셋을 읽는 중)
+    private boolean pending;
+    private String pendingSql;
+    private Object[] pendingBinds;
+    private OperationMetrics pendingMetrics;
+    private long execNanos;
+    private long fetchNanos;
+    private long rows;
+    private ResultSet resultSet;            // 결과셋 프록시
+
+    private LoggingStatement(Statement target, String sql, SlowQueryLog log, boolean metricsEnabled) {
+        this.target = target;
+        this.sql = sql;
+        this.log = log;
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    static PreparedStatement wrap(PreparedStatement target, String sql, SlowQueryLog log, boolean metricsEnabled) {
+        return (PreparedStatement) Proxy.newProxyInstance(LoggingStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, new LoggingStatement(target, sql, log, metricsEnabled));
+    }
+
+    static Statement wrap(Statement target, SlowQueryLog log, boolean metricsEnabled) {
+        return (Statement) Proxy.newProxyInstance(LoggingStatement.class.getClassLoader(),
+                new Class<?>[]{Statement.class}, new LoggingStatement(target, null, log, metricsEnabled));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "executeQuery":
+            case "executeUpdate":
+            case "executeLargeUpdate":
+            case "execute":
+            case "executeBatch":
+            case "executeLargeBatch":
+                return execute(proxy, method, args);
+            case "getResultSet":
+                if (!pending) {
+                    return call(method, args);
+                }
+                return resultSet != null ? resultSet : wrapResultSet(proxy, (ResultSet) call(method, args));
+            case "addBatch":
+                if (args == null) {
+                    batchSize++;
+                }
+                break;
+            case "clearBatch":
+                batchSize = 0;
+                break;
+            case "clearParameters":
+                Arrays.fill(binds, null);
+                bindCount = 0;
+                break;
+            case "close":
+                finish();
+                break;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "LoggingStatement[" + target + "]";
+            default:
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer
+                        && method.getDeclaringClass() == PreparedStatement.class) {
+                    bind((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                }
+                break;
+        }
+        return call(method, args);
+    }
+
+    private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+        finish();
+        boolean batch = method.getName().endsWith("Batch");
+        String executedSql = sql != null ? sql : (args != null && args.length > 0 ? (String) args[0] : null);
+        OperationMetrics metrics = metricsEnabled && executedSql != null ? StatementMetrics.forSql(executedSql) : null;
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = call(method, args);
+        } catch (SQLException e) {
+            if (metrics != null) {
+                metrics.recordError(start);
+            }
+            throw e;
+        }
+        execNanos = System.nanoTime() - start;
+        fetchNanos = 0;
+        rows = 0;
+        pendingSql = executedSql;
+        pendingBinds = batch || bindCount == 0 ? null : Arrays.copyOf(binds, bindCount);
+        pendingMetrics = metrics;
+        int executedBatchSize = batch ? batchSize : 0;
+        if (batch) {
+            batchSize = 0;
+        }
+        if (result instanceof ResultSet) {
+            pending = true;
+            return wrapResultSet(proxy, (ResultSet) result);
+        }
+        if (Boolean.TRUE.equals(result)) {
+            pending = true;     // execute()가 결과셋을 만들었으면 getResultSet()으로 읽을 때까지 판정을 미룬다.
+            return result;
+        }
+        rows = Boolean.FALSE.equals(result) ? Math.max(0, target.getUpdateCount()) : countRows(result);
+        if (metrics != null) {
+            metrics.recordNanos(execNanos, rows);
+        }
+        if (executedSql != null && log != null && log.isSlow(execNanos)) {
+            log.submit(executedSql, pendingBinds, execNanos, 0, rows, executedBatchSize);
+        }
+        return result;
+    }
+
+    private ResultSet wrapResultSet(Object statementProxy, ResultSet rs) {
+        if (rs == null) {
+            return null;
+        }
+        pending = true;
+        resultSet = (ResultSet) Proxy.newProxyInstance(LoggingStatement.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, new ResultSetHandler(rs, statementProxy));
+        return resultSet;
+    }
+
+    /**
+     * 결과셋 읽기가 끝났으면 판정한다.
+     */
+    private void finish() {
+        if (!pending) {
+            return;
+        }
+        pending = false;
+        resultSet = null;
+        if (pendingMetrics != null) {
+            pendingMetrics.recordNanos(execNanos + fetchNanos, rows);
+        }
+        if (pendingSql != null && log != null && log.isSlow(execNanos + fetchNanos)) {
+            log.submit(pendingSql, pendingBinds, execNanos, fetchNanos, rows, 0);
+        }
+    }
+
+    /**
+     * 결과셋을 읽다가 실패하면 지표에는 오류로 기록하고 느린 SQL로는 판정하지 않는다.
+     */
+    private void fail() {
+        pending = false;
+        resultSet = null;
+        if (pendingMetrics != null) {
+            pendingMetrics.recordErrorNanos(execNanos + fetchNanos);
+        }
+    }
+
+    private void bind(int index, Object value) {
+        if (index > binds.length) {
+            binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+        }
+        binds[index - 1] = value;
+        bindCount = Math.max(bindCount, index);
+    }
+
+    private static long countRows(Object result) {
+        if (result instanceof Integer || result instanceof Long) {
+            return Math.max(0, ((Number) result).longValue());
+        }
+        long count = 0;
+        if (result instanceof int[]) {
+            for (int n : (int[]) result) {
+                count += Math.max(0, n);
+            }
+        } else if (result instanceof long[]) {
+            for (long n : (long[]) result) {
+                count += Math.max(0, n);
+            }
+        }
+        return count;
+    }
+
+    private Object call(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 결과셋의 next() 시간과 행 수를 센다.
+     */
+    private final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet rs;
+        private final Object statementProxy;
+
+        ResultSetHandler(ResultSet rs, Object statementProxy) {
+            this.rs = rs;
+            this.statementProxy = statementProxy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next": {
+                    long start = System.nanoTime();
+                    boolean next;
+                    try {
+                        next = rs.next();
+                    } catch (SQLException e) {
+                        if (resultSet == proxy) {
+                            fail();
+                        }
+                        throw e;
+                    }
+                    if (resultSet == proxy) {
+                        fetchNanos += System.nanoTime() - start;
+                        if (next) {
+                            rows++;
+                        } else {
+                            finish();
+                        }
+                    }
+                    return next;
+                }
+                case "close":
+                    if (resultSet == proxy) {
+                        finish();
+                    }
+                    break;
+                case "getStatement":
+                    return statementProxy;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "LoggingResultSet[" + rs + "]";
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(rs, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.javalab.school.dao;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 관통(read-through) 캐시
+ * - get()에서 캐시에 없거나 만료(TTL)된 키는 loader로 DB에서 읽어 채운다.
+ * - DB에 없는 키도 같은 TTL 동안 "없음"으로 기억해 두어, 없는 학과를 가리키는 행마다 DB에 가지 않는다.
+ * - 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다(LRU).
+ * - 학과, 강좌처럼 작고 거의 바뀌지 않는 참조 테이블의 이름 조회에 사용한다.
+ * - 쓰기(등록/수정/삭제) 후에는 DAO가 invalidate()를 호출해야 한다.
+ */
+public class LookupCache<K, V> {
+
+    /**
+     * 캐시에 없는 키의 값을 DB에서 읽어 오는 함수(없으면 null)
+     */
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        V load(K key) throws SQLException;
+    }
+
+    private final String name;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Loader<K, V> loader;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    private long generation;        // invalidate 될 때마다 증가(로딩 중에 무효화된 값을 넣지 않기 위함)
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public LookupCache(String name, long ttlMillis, int maxSize, Loader<K, V> loader) {
+        this.name = name;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxSize = maxSize;
+        this.loader = loader;
+        this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                return size() > LookupCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 시스템 프로퍼티(school.cache.ttlMillis, school.cache.maxSize) 설정으로 캐시를 만든다.
+     * - 기본값: TTL 5분, 최대 1000개
+     */
+    public static <K, V> LookupCache<K, V> fromSystemProperties(String name, Loader<K, V> loader) {
+        return new LookupCache<>(name,
+                Long.getLong("school.cache.ttlMillis", 300000L),
+                Integer.getInteger("school.cache.maxSize", 1000),
+                loader);
+    }
+
+    /**
+     * 키에 해당하는 값을 반환한다. 캐시에 없거나 만료되었으면 DB에서 읽어 캐시에 넣는다.
+     * - DB에도 없으면 null을 반환하고, 없다는 사실(값이 null인 항목)을 캐시에 넣는다.
+     *   그 키로 등록하면 DAO의 invalidate()로 지워진다.
+     */
+    public V get(K key) throws SQLException {
+        long gen;
+        synchronized (this) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.loadedNanos < ttlNanos) {
+                hitCount.incrementAndGet();
+                return entry.value;
+            }
+            gen = generation;
+        }
+        missCount.incrementAndGet();
+        // DB 조회는 잠금 밖에서 한다.
+        V value = loader.load(key);
+        synchronized (this) {
+            if (gen == generation) {
+                entries.put(key, new CacheEntry<>(value, System.nanoTime()));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 키 하나를 캐시에서 제거한다.
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    /**
+     * 캐시를 모두 비운다.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "LookupCache [name=" + name + ", size=" + size() + ", maxSize=" + maxSize
+                + ", hitCount=" + getHitCount() + ", missCount=" + getMissCount() + "]";
+    }
+
+    private static final class CacheEntry<V> {
+        final V value;              // null이면 DB에 없는 키
+        final long loadedNanos;
+
+        CacheEntry(V value, long loadedNanos) {
+            this.value = value;
+            this.loadedNanos = loadedNanos;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.javalab.school.dao;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 페이지 단위 조회 결과
+ * - 키셋(keyset) 페이지네이션: 다음 페이지는 OFFSET 대신 이 페이지 마지막 행의 키(nextCursor) 이후부터 조회한다.
+ * - 마지막 페이지이면 nextCursor는 null이다.
+ */
+public class Page<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public Page(List<T> items, String nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+    /**
+     * 다음 페이지 조회에 넘길 커서, 마지막 페이지이면 null
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "Page [size=" + items.size() + ", nextCursor=" + nextCursor + "]";
+    }
+}
@@ -0,0 +1,164 @@
+package com.javalab.school.dao;
+
+/**
+ * 커넥션 풀 설정 클래스
+ * - 접속 정보와 풀 크기, 대기 시간, 유휴 커넥션 정리 주기 등을 보관한다.
+ * - 기본값은 기존 DatabaseConnection에 하드코딩되어 있던 오라클 접속 정보와 같다.
+ * - 시스템 프로퍼티(school.db.*)로 값을 바꿀 수 있으므로 임베디드 DB(H2 등)로도 테스트할 수 있다.
+ */
+public class PoolConfig {
+
+    private String driverClassName = "oracle.jdbc.OracleDriver";   // JDBC 드라이버 클래스
+    private String url = "jdbc:oracle:thin:@localhost:1521:orcl";   // 접속 URL
+    private String username = "school";                             // 사용자
+    private String password = "1234";                               // 비밀번호
+    private int minIdle = 2;                        // 최소 유휴 커넥션 수
+    private int maxSize = 10;                       // 최대 커넥션 수
+    private long borrowTimeoutMillis = 5000;        // 커넥션 대여 대기 시간
+    private long idleTimeoutMillis = 600000;        // 유휴 커넥션 제거 기준 시간
+    private long evictionIntervalMillis = 30000;    // 유휴 커넥션 정리 주기
+    private boolean validateOnBorrow = true;        // 대여 시 커넥션 검증 여부
+    private int validationTimeoutSeconds = 2;       // 커넥션 검증 대기 시간(초)
+    private int statementCacheSize = 32;            // 커넥션당 PreparedStatement 캐시 크기(0이면 사용 안 함)
+    private long slowQueryThresholdMillis = -1;     // 느린 SQL 기록 기준 시간(음수면 기록 안 함)
+    private String slowQueryLogPath = "logs/slow-query.log";    // 느린 SQL 기록 파일
+    private boolean slowQueryExplain = false;       // 느린 SQL의 실행 계획도 기록할지 여부
+    private boolean operationMetrics = true;        // DAO 메서드별 실행 지표 수집 여부
+
+    public PoolConfig() {
+    }
+
+    /**
+     * 시스템 프로퍼티에서 설정값을 읽어 PoolConfig 객체를 생성한다.
+     * - 예) -Dschool.db.url=jdbc:h2:mem:school -Dschool.db.maxSize=20
+     */
+    public static PoolConfig fromSystemProperties() {
+        PoolConfig config = new PoolConfig();
+        config.setDriverClassName(System.getProperty("school.db.driver", config.getDriverClassName()));
+        config.setUrl(System.getProperty("school.db.url", config.getUrl()));
+        config.setUsername(System.getProperty("school.db.username", config.getUsername()));
+        config.setPassword(System.getProperty("school.db.password", config.getPassword()));
+        config.setMinIdle(Integer.getInteger("school.db.minIdle", config.getMinIdle()));
+        config.setMaxSize(Integer.getInteger("school.db.maxSize", config.getMaxSize()));
+        config.setBorrowTimeoutMillis(Long.getLong("school.db.borrowTimeoutMillis", config.getBorrowTimeoutMillis()));
+        config.setIdleTimeoutMillis(Long.getLong("school.db.idleTimeoutMillis", config.getIdleTimeoutMillis()));
+        config.setEvictionIntervalMillis(Long.getLong("school.db.evictionIntervalMillis", config.getEvictionIntervalMillis()));
+        config.setValidateOnBorrow(Boolean.parseBoolean(
+                System.getProperty("school.db.validateOnBorrow", String.valueOf(config.isValidateOnBorrow()))));
+        config.setValidationTimeoutSeconds(Integer.getInteger("school.db.validationTimeoutSeconds",
+                config.getValidationTimeoutSeconds()));
+        config.setStatementCacheSize(Integer.getInteger("school.db.statementCacheSize", config.getStatementCacheSize()));
+        config.setSlowQueryThresholdMillis(Long.getLong("school.db.slowQueryThresholdMillis",
+                config.getSlowQueryThresholdMillis()));
+        config.setSlowQueryLogPath(System.getProperty("school.db.slowQueryLogPath", config.getSlowQueryLogPath()));
+        config.setSlowQueryExplain(Boolean.parseBoolean(
+                System.getProperty("school.db.slowQueryExplain", String.valueOf(config.isSlowQueryExplain()))));
+        config.setOperationMetrics(Boolean.parseBoolean(
+                System.getProperty("school.db.operationMetrics", String.valueOf(config.isOperationMetrics()))));
+        return config;
+    }
+
+    public String getDriverClassName() {
+        return driverClassName;
+    }
+    public void setDriverClassName(String driverClassName) {
+        this.driverClassName = driverClassName;
+    }
+    public String getUrl() {
+        return url;
+    }
+    public void setUrl(String url) {
+        this.url = url;
+    }
+    public String getUsername() {
+        return username;
+    }
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    public String getPassword() {
+        return password;
+    }
+    public void setPassword(String password) {
+        this.password = password;
+    }
+    public int getMinIdle() {
+        return minIdle;
+    }
+    public void setMinIdle(int minIdle) {
+        this.minIdle = minIdle;
+    }
+    public int getMaxSize() {
+        return maxSize;
+    }
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+    public long getBorrowTimeoutMillis() {
+        return borrowTimeoutMillis;
+    }
+    public void setBorrowTimeoutMillis(long borrowTimeoutMillis) {
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+    }
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+    public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+    public long getEvictionIntervalMillis() {
+        return evictionIntervalMillis;
+    }
+    public void setEvictionIntervalMillis(long evictionIntervalMillis) {
+        this.evictionIntervalMillis = evictionIntervalMillis;
+    }
+    public boolean isValidateOnBorrow() {
+        return validateOnBorrow;
+    }
+    public void setValidateOnBorrow(boolean validateOnBorrow) {
+        this.validateOnBorrow = validateOnBorrow;
+    }
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+    public void setValidationTimeoutSeconds(int validationTimeoutSeconds) {
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+    public long getSlowQueryThresholdMillis() {
+        return slowQueryThresholdMillis;
+    }
+    public void setSlowQueryThresholdMillis(long slowQueryThresholdMillis) {
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+    public String getSlowQueryLogPath() {
+        return slowQueryLogPath;
+    }
+    public void setSlowQueryLogPath(String slowQueryLogPath) {
+        this.slowQueryLogPath = slowQueryLogPath;
+    }
+    public boolean isSlowQueryExplain() {
+        return slowQueryExplain;
+    }
+    public void setSlowQueryExplain(boolean slowQueryExplain) {
+        this.slowQueryExplain = slowQueryExplain;
+    }
+    public boolean isOperationMetrics() {
+        return operationMetrics;
+    }
+    public void setOperationMetrics(boolean operationMetrics) {
+        this.operationMetrics = operationMetrics;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolConfig [url=" + url + ", username=" + username + ", minIdle=" + minIdle + ", maxSize=" + maxSize
+                + ", borrowTimeoutMillis=" + borrowTimeoutMillis + ", idleTimeoutMillis=" + idleTimeoutMillis
+                + ", statementCacheSize=" + statementCacheSize + ", slowQueryThresholdMillis=" + slowQueryThresholdMillis + "]";
+    }
+}
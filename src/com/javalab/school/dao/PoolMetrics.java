@@ -0,0 +1,80 @@
+package com.javalab.school.dao;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커넥션 풀 사용 통계 클래스
+ * - 대여 횟수, 대기 시간, 타임아웃, 커넥션 생성/폐기 횟수, 문장 캐시 적중 횟수를 누적한다.
+ * - 현재 사용중/유휴 커넥션 수는 ConnectionPool에서 조회한다.
+ */
+public class PoolMetrics {
+
+    private final AtomicLong borrowCount = new AtomicLong();        // 대여 횟수
+    private final AtomicLong timeoutCount = new AtomicLong();       // 대여 대기 시간 초과 횟수
+    private final AtomicLong createdCount = new AtomicLong();       // 물리 커넥션 생성 횟수
+    private final AtomicLong destroyedCount = new AtomicLong();     // 물리 커넥션 폐기 횟수
+    private final AtomicLong totalWaitNanos = new AtomicLong();     // 누적 대기 시간
+    private final AtomicLong maxWaitNanos = new AtomicLong();       // 최대 대기 시간
+    private final AtomicLong statementCacheHits = new AtomicLong();     // 문장 캐시 적중 횟수
+    private final AtomicLong statementCacheMisses = new AtomicLong();   // 문장 캐시 실패 횟수
+
+    void recordBorrow(long waitNanos) {
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+    void recordTimeout() {
+        timeoutCount.incrementAndGet();
+    }
+    void recordCreated() {
+        createdCount.incrementAndGet();
+    }
+    void recordDestroyed() {
+        destroyedCount.incrementAndGet();
+    }
+    void recordStatementCache(boolean hit) {
+        (hit ? statementCacheHits : statementCacheMisses).incrementAndGet();
+    }
+
+    public long getBorrowCount() {
+        return borrowCount.get();
+    }
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+    public long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.get();
+    }
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+    /**
+     * 평균 대기 시간(마이크로초)
+     */
+    public double getAverageWaitMicros() {
+        long count = borrowCount.get();
+        return count == 0 ? 0 : totalWaitNanos.get() / 1000.0 / count;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolMetrics [borrowCount=" + getBorrowCount() + ", timeoutCount=" + getTimeoutCount()
+                + ", createdCount=" + getCreatedCount() + ", destroyedCount=" + getDestroyedCount()
+                + ", avgWaitMicros=" + String.format("%.1f", getAverageWaitMicros())
+                + ", maxWaitMicros=" + getMaxWaitNanos() / 1000
+                + ", statementCacheHits=" + getStatementCacheHits()
+                + ", statementCacheMisses=" + getStatementCacheMisses() + "]";
+    }
+}
@@ -0,0 +1,127 @@
+package com.javalab.school.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 풀에서 대여한 커넥션을 감싸는 래퍼
+ * - close()를 호출하면 물리 커넥션을 닫지 않고 풀로 반환한다.
+ * - 반환된 뒤에는 더 이상 사용할 수 없도록 모든 호출에 예외를 던진다.
+ * - 읽기 전용 여부나 격리 수준을 바꾸면 표시해 두어 반환할 때 풀이 원래 값으로 되돌리게 한다.
+ * - prepareStatement(String)은 물리 커넥션의 StatementCache에서 문장을 재사용한다.
+ * - 지표 수집이나 느린 SQL 기록을 설정했으면 만드는 문장을 LoggingStatement로 감싼다.
+ */
+final class PooledConnection implements InvocationHandler {
+
+    private final ConnectionPool.Entry entry;
+    private final ConnectionPool pool;
+    private boolean closed;
+
+    private PooledConnection(ConnectionPool.Entry entry, ConnectionPool pool) {
+        this.entry = entry;
+        this.pool = pool;
+    }
+
+    /**
+     * 물리 커넥션을 java.sql.Connection 프록시로 감싸서 반환한다.
+     */
+    static Connection wrap(ConnectionPool.Entry entry, ConnectionPool pool) {
+        return (Connection) Proxy.newProxyInstance(PooledConnection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new PooledConnection(entry, pool));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                if (!closed) {
+                    closed = true;
+                    pool.release(entry);
+                }
+                return null;
+            case "isClosed":
+                return closed || entry.connection.isClosed();
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "PooledConnection[" + entry.connection + (closed ? ", closed" : "") + "]";
+            case "prepareStatement":
+                if (!closed && args.length == 1 && entry.statementCache.isEnabled()) {
+                    return logged(prepareCached((String) args[0], (Connection) proxy), (String) args[0]);
+                }
+                if (!closed && isInstrumented()) {
+                    return logged((PreparedStatement) invokeTarget(method, args), (String) args[0]);
+                }
+                break;
+            case "setReadOnly":
+            case "setTransactionIsolation":
+                if (!closed) {
+                    entry.sessionChanged = true;
+                }
+                break;
+            case "createStatement":
+                if (!closed && isInstrumented()) {
+                    return LoggingStatement.wrap((Statement) invokeTarget(method, args), pool.getSlowQueryLog(),
+                            pool.getConfig().isOperationMetrics());
+                }
+                break;
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return proxy;
+                }
+                break;
+            case "isWrapperFor":
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+        if (closed) {
+            throw new SQLException("이미 풀로 반환된 커넥션입니다.");
+        }
+        return invokeTarget(method, args);
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(entry.connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private boolean isInstrumented() {
+        return pool.getConfig().isOperationMetrics() || pool.getSlowQueryLog() != null;
+    }
+
+    /**
+     * 지표 수집이나 느린 SQL 기록을 설정했으면 실행 시간을 재는 래퍼로 감싼다.
+     */
+    private PreparedStatement logged(PreparedStatement pstmt, String sql) {
+        return isInstrumented()
+                ? LoggingStatement.wrap(pstmt, sql, pool.getSlowQueryLog(), pool.getConfig().isOperationMetrics())
+                : pstmt;
+    }
+
+    /**
+     * 캐시에 같은 SQL의 문장이 있으면 재사용하고, 없으면 새로 준비한다.
+     */
+    private PreparedStatement prepareCached(String sql, Connection proxy) throws SQLException {
+        PreparedStatement pstmt = entry.statementCache.checkout(sql);
+        pool.getMetrics().recordStatementCache(pstmt != null);
+        if (pstmt == null) {
+            pstmt = entry.connection.prepareStatement(sql);
+        }
+        return CachedStatement.wrap(sql, pstmt, entry.statementCache, proxy);
+    }
+}
@@ -0,0 +1,124 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Professor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 교수(professor) 테이블 DAO
+ * - 입사일(hiredate)은 'YYYY-MM-DD' 형식의 문자열로 주고받는다.
+ */
+public class ProfessorDao {
+
+    private static final String INSERT_SQL = "INSERT INTO professor (professor_id, jumin, name, department_id, grade, hiredate) " +
+            "VALUES (?, ?, ?, ?, ?, TO_DATE(?, 'YYYY-MM-DD'))";
+    private static final String SELECT_SQL = "SELECT professor_id, jumin, name, department_id, grade, hiredate FROM professor ";
+    private static final String UPDATE_SQL = "UPDATE professor " +
+            "SET jumin = ?, name = ?, department_id = ?, grade = ?, hiredate = TO_DATE(?, 'YYYY-MM-DD') " +
+            "WHERE professor_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM professor WHERE professor_id = ?";
+    private static final int DEFAULT_FETCH_SIZE = 500;
+
+    /**
+     * 교수 등록
+     * @return 등록된 행의 수
+     */
+    public int insert(Professor professor) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            bindInsert(pstmt, professor);
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * 교수 일괄 등록
+     * - batchSize건씩 묶어서 실행하고 묶음마다 커밋한다. 실패한 행은 결과의 실패 목록에 기록된다.
+     */
+    public BatchResult<Professor> insertAll(Iterable<Professor> professors, int batchSize) throws SQLException {
+        return BatchExecutor.execute(INSERT_SQL, professors, batchSize, ProfessorDao::bindInsert);
+    }
+
+    /**
+     * 교수 전체를 스트림으로 조회(교수번호순, fetch size 500)
+     * - 스트림을 닫아야(try-with-resources) 커넥션이 풀로 반환된다. 읽는 도중의 오류는 DataAccessException으로 던져진다.
+     */
+    public Stream<Professor> stream() throws SQLException {
+        return ResultSetStream.query(SELECT_SQL + "ORDER BY professor_id", DEFAULT_FETCH_SIZE, RowMappers.PROFESSOR);
+    }
+
+    /**
+     * 교수 전체 목록 조회(교수번호순)
+     */
+    public List<Professor> findAll() throws SQLException {
+        List<Professor> professors = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "ORDER BY professor_id");
+             ResultSet rs = pstmt.executeQuery()) {
+            RowMapper.Bound<Professor> mapper = RowMappers.PROFESSOR.bind(rs);
+            while (rs.next()) {
+                professors.add(mapper.map(rs));
+            }
+        }
+        return professors;
+    }
+
+    /**
+     * 교수번호로 교수 조회
+     * @return 교수 객체, 없으면 null
+     */
+    public Professor findById(String professorId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "WHERE professor_id = ?")) {
+            pstmt.setString(1, professorId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? RowMappers.PROFESSOR.bind(rs).map(rs) : null;
+            }
+        }
+    }
+
+    /**
+     * 교수 정보 수정
+     * @return 수정된 행의 수
+     */
+    public int update(Professor professor) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            pstmt.setString(1, professor.getJumin());
+            pstmt.setString(2, professor.getName());
+            pstmt.setObject(3, professor.getDepartmentId(), Types.INTEGER);
+            pstmt.setString(4, professor.getGrade());
+            pstmt.setString(5, professor.getHiredate());
+            pstmt.setString(6, professor.getProfessorId());
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * 교수 삭제
+     * @return 삭제된 행의 수
+     */
+    public int delete(String professorId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+            pstmt.setString(1, professorId);
+            return pstmt.executeUpdate();
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, Professor professor) throws SQLException {
+        pstmt.setString(1, professor.getProfessorId());
+        pstmt.setString(2, professor.getJumin());
+        pstmt.setString(3, professor.getName());
+        pstmt.setObject(4, professor.getDepartmentId(), Types.INTEGER);
+        pstmt.setString(5, professor.getGrade());
+        pstmt.setString(6, professor.getHiredate());
+    }
+}
@@ -0,0 +1,109 @@
+package com.javalab.school.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 열린 ResultSet을 지연(lazy) 평가되는 Stream으로 감싸는 클래스
+ * - 스트림이 요소를 요청할 때마다 rs.next()로 한 행씩 읽으므로 전체 행 수와 관계없이 메모리 사용량이 일정하다.
+ * - 스트림을 닫거나 마지막 행까지 읽으면 ResultSet, PreparedStatement, Connection을 닫는다.
+ * - 행 매퍼의 컬럼 번호는 스트림을 만들 때 한 번만 찾는다.
+ * - 읽는 도중의 SQLException은 DataAccessException으로 감싸서 던진다.
+ */
+final class ResultSetStream {
+
+    private ResultSetStream() { }
+
+    /**
+     * 커넥션을 대여하여 쿼리를 실행하고 결과를 스트림으로 반환한다.
+     * - 호출부는 반드시 try-with-resources 등으로 스트림을 닫아야 커넥션이 풀로 반환된다.
+     */
+    static <T> Stream<T> query(String sql, int fetchSize, RowMapper<T> mapper) throws SQLException {
+        Connection conn = DatabaseConnection.borrow();
+        PreparedStatement pstmt = null;
+        try {
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setFetchSize(fetchSize);
+            ResultSet rs = pstmt.executeQuery();
+            return of(conn, pstmt, rs, mapper);
+        } catch (SQLException | RuntimeException e) {
+            closeAll(null, pstmt, conn);
+            throw e;
+        }
+    }
+
+    static <T> Stream<T> of(Connection conn, PreparedStatement pstmt, ResultSet rs, RowMapper<T> mapper) throws SQLException {
+        Cursor<T> cursor = new Cursor<>(conn, pstmt, rs, mapper.bind(rs));
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    private static void closeAll(ResultSet rs, PreparedStatement pstmt, Connection conn) {
+        SQLException error = null;
+        try {
+            if (rs != null) rs.close();
+        } catch (SQLException e) {
+            error = e;
+        }
+        try {
+            if (pstmt != null) pstmt.close();
+        } catch (SQLException e) {
+            error = e;
+        }
+        try {
+            if (conn != null) conn.close();
+        } catch (SQLException e) {
+            error = e;
+        }
+        if (error != null) {
+            throw new DataAccessException(error);
+        }
+    }
+
+    private static final class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Connection conn;
+        private final PreparedStatement pstmt;
+        private final ResultSet rs;
+        private final RowMapper.Bound<T> reader;
+        private boolean closed;
+
+        Cursor(Connection conn, PreparedStatement pstmt, ResultSet rs, RowMapper.Bound<T> reader) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.conn = conn;
+            this.pstmt = pstmt;
+            this.rs = rs;
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    close();    // 마지막 행까지 읽었으면 바로 자원을 반환한다.
+                    return false;
+                }
+                action.accept(reader.map(rs));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new DataAccessException(e);
+            }
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                closeAll(rs, pstmt, conn);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.javalab.school.dao;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * 컬럼 번호로 읽는 행 매퍼(ResultSet 한 행 -> 객체)
+ * - rs.getString("name")처럼 라벨로 읽으면 드라이버에 따라 매 행, 매 컬럼마다 대소문자 무시 이름 비교가 일어난다.
+ *   bind()가 ResultSetMetaData에서 컬럼 이름마다 번호를 한 번만 찾아 두고, 이후 행은 번호로 읽는다.
+ * - 번호는 결과 집합마다 찾으므로 컬럼 순서가 다른 여러 쿼리에 같은 매퍼를 써도 된다.
+ *   매퍼는 상태가 없어 여러 스레드가 공유해도 된다(Bound는 결과 집합 하나에서만 쓴다).
+ * - 필요한 컬럼이 결과에 없으면 bind()가 SQLException을 던진다.
+ *
+ * 예) RowMapper<Takes> mapper = RowMapper.of((rs, c) -> new Takes(rs.getString(c[0]), rs.getString(c[1]), rs.getString(c[2])),
+ *         "student_id", "class_id", "score");
+ *     RowMapper.Bound<Takes> bound = mapper.bind(rs);
+ *     while (rs.next()) {
+ *         list.add(bound.map(rs));
+ *     }
+ */
+public final class RowMapper<T> {
+
+    /**
+     * 현재 행을 객체로 변환하는 함수
+     * - columns[i]는 of()에 준 i번째 컬럼 이름의 컬럼 번호(1부터)
+     */
+    @FunctionalInterface
+    public interface ColumnReader<T> {
+        T read(ResultSet rs, int[] columns) throws SQLException;
+    }
+
+    /**
+     * 컬럼 번호를 찾아 둔 매퍼. bind()에 넘긴 결과 집합의 행에만 쓴다.
+     */
+    public static final class Bound<T> {
+        private final ColumnReader<T> reader;
+        private final int[] columns;
+
+        private Bound(ColumnReader<T> reader, int[] columns) {
+            this.reader = reader;
+            this.columns = columns;
+        }
+
+        /**
+         * 현재 행(rs.next() 후)을 객체로 변환한다.
+         */
+        public T map(ResultSet rs) throws SQLException {
+            return reader.read(rs, columns);
+        }
+    }
+
+    private final ColumnReader<T> reader;
+    private final String[] names;
+
+    private RowMapper(ColumnReader<T> reader, String[] names) {
+        this.reader = reader;
+        this.names = names;
+    }
+
+    /**
+     * @param names reader가 읽을 컬럼 이름(라벨). 대소문자는 구분하지 않는다.
+     */
+    public static <T> RowMapper<T> of(ColumnReader<T> reader, String... names) {
+        return new RowMapper<>(reader, names.clone());
+    }
+
+    /**
+     * 결과 집합의 메타데이터에서 컬럼 번호를 찾는다. 같은 라벨이 여럿이면 앞의 것을 쓴다.
+     */
+    public Bound<T> bind(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int[] columns = new int[names.length];
+        for (int i = meta.getColumnCount(); i >= 1; i--) {
+            String label = meta.getColumnLabel(i);
+            for (int j = 0; j < names.length; j++) {
+                if (names[j].equalsIgnoreCase(label)) {
+                    columns[j] = i;
+                }
+            }
+        }
+        for (int j = 0; j < names.length; j++) {
+            if (columns[j] == 0) {
+                throw new SQLException("결과 집합에 컬럼이 없습니다: " + names[j], "42S22");
+            }
+        }
+        return new Bound<>(reader, columns);
+    }
+
+    @Override
+    public String toString() {
+        return "RowMapper " + Arrays.toString(names);
+    }
+}
@@ -0,0 +1,76 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Department;
+import com.javalab.school.domain.Professor;
+import com.javalab.school.domain.Student;
+import com.javalab.school.domain.Takes;
+import com.javalab.school.domain.TakesDetail;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 도메인 객체별 행 매퍼
+ * - 컬럼 이름은 각 DAO의 SELECT 컬럼 라벨과 같다. 쿼리의 컬럼 순서와는 관계없다.
+ */
+public final class RowMappers {
+
+    public static final RowMapper<Student> STUDENT = RowMapper.of((rs, c) -> new Student(
+                    rs.getString(c[0]),
+                    rs.getString(c[1]),
+                    rs.getString(c[2]),
+                    rs.getInt(c[3]),
+                    rs.getString(c[4]),
+                    getInteger(rs, c[5])),
+            "student_id", "jumin", "name", "year", "address", "department_id");
+
+    public static final RowMapper<Professor> PROFESSOR = RowMapper.of((rs, c) -> {
+                Date hiredate = rs.getDate(c[5]);
+                return new Professor(
+                        rs.getString(c[0]),
+                        rs.getString(c[1]),
+                        rs.getString(c[2]),
+                        getInteger(rs, c[3]),
+                        rs.getString(c[4]),
+                        hiredate == null ? null : hiredate.toString());
+            },
+            "professor_id", "jumin", "name", "department_id", "grade", "hiredate");
+
+    public static final RowMapper<Department> DEPARTMENT = RowMapper.of((rs, c) -> new Department(
+                    rs.getInt(c[0]),
+                    rs.getString(c[1]),
+                    rs.getString(c[2])),
+            "department_id", "name", "office");
+
+    public static final RowMapper<Takes> TAKES = RowMapper.of((rs, c) -> new Takes(
+                    rs.getString(c[0]),
+                    rs.getString(c[1]),
+                    rs.getString(c[2])),
+            "student_id", "class_id", "score");
+
+    /**
+     * 성적 목록 조인(TakesDao.streamDetails())의 한 행
+     */
+    public static final RowMapper<TakesDetail> TAKES_DETAIL = RowMapper.of((rs, c) -> new TakesDetail(
+                    rs.getString(c[0]),
+                    rs.getString(c[1]),
+                    rs.getString(c[2]),
+                    rs.getString(c[3]),
+                    rs.getInt(c[4]),
+                    rs.getInt(c[5]),
+                    rs.getString(c[6]),
+                    rs.getString(c[7])),
+            "student_id", "student_name", "course_id", "class_id",
+            "year", "semester", "professor_id", "professor_name");
+
+    private RowMappers() { }
+
+    /**
+     * NULL을 0으로 바꾸지 않고 null로 읽는다(학과코드처럼 비어 있을 수 있는 외래 키).
+     */
+    private static Integer getInteger(ResultSet rs, int column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,547 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Takes;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 성적(score) 수정 쓰기 지연(write-behind) 버퍼
+ * - update()는 DB 대신 로컬 저널 파일에 한 줄을 덧붙여 디스크에 강제 기록(fsync)한 뒤 메모리에 모아 두고 바로 반환한다.
+ *   같은 (학번, 수업코드)를 여러 번 고치면 마지막 점수 하나만 남는다.
+ * - 모인 건수가 flushSize에 이르거나 flushMillis가 지나면 한 번의 일괄 UPDATE(BatchExecutor)로 DB에 반영하고,
+ *   반영이 끝난 저널 파일을 지운다.
+ *   · 동시에 들어온 update()들의 fsync는 한 번으로 묶인다(그룹 커밋).
+ *   · 반영 중 DB 오류가 나면 모은 값을 되돌려 두고 다음 반영 때 다시 시도한다. 저널은 지우지 않는다.
+ *   · 행 단위로 실패한 값(예: 점수 길이 초과)은 버리고 getFailedCount()로 센다.
+ * - 반영 전에 JVM이 죽어도 다음에 같은 디렉터리로 만들 때 남은 저널을 순서대로 다시 읽어 반영한다(recover()).
+ * - 저널 디렉터리는 잠금 파일(score-journal.lock)로 한 버퍼만 쓴다. 다른 프로세스(또는 버퍼)가 쓰고 있으면
+ *   남의 저널을 반영하거나 지우지 않도록 만들 때 바로 실패한다. 잠금은 close()에서 푼다.
+ * - 반영 전까지는 DB에 이전 점수가 보이며, 성적 행이 없는 값은 반영할 때 아무 행도 바꾸지 않는다.
+ *   반영 전 값이 필요하면 hasPending()으로 확인하고 flush()를 먼저 호출한다.
+ *
+ * 설정: -Dschool.score.writeBehind=true -Dschool.score.journalDir=score-journal
+ *       -Dschool.score.flushSize=500 -Dschool.score.flushMillis=1000
+ */
+public final class ScoreWriteBuffer implements AutoCloseable {
+
+    private static final String UPDATE_SQL = "UPDATE takes SET score = ? WHERE student_id = ? AND class_id = ?";
+    private static final String SEGMENT_PREFIX = "score-journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String NULL_VALUE = "\\N";
+    private static final String LOCK_FILE = "score-journal.lock";
+
+    private final Path directory;
+    private final int flushSize;
+    private final ScheduledExecutorService flusher;
+    private final FileChannel lockChannel;
+    private final FileLock directoryLock;
+
+    private final Object lock = new Object();           // pending, 저널 쓰기, 세그먼트 교체
+    private final Object syncLock = new Object();       // fsync 묶기
+    private final Object flushLock = new Object();      // 반영 직렬화
+    private LinkedHashMap<String, Takes> pending = new LinkedHashMap<>();
+    private Map<String, Takes> flushing = Collections.emptyMap();   // 반영 중인 묶음
+    private FileChannel journal;
+    private long segment;                               // 현재 저널 파일 번호
+    private long appendCount;                           // 저널에 쓴 줄 수(누적)
+    private final AtomicLong durableCount = new AtomicLong();   // 디스크에 강제 기록된 줄 수(누적)
+    private boolean closed;
+
+    private final AtomicLong updateCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedRowCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong syncCount = new AtomicLong();
+    private final AtomicLong recoveredCount = new AtomicLong();
+
+    /**
+     * 디렉터리를 잠그고, 남은 저널이 있으면 먼저 DB에 반영한 뒤 새 저널을 연다.
+     * @throws IOException 다른 프로세스가 같은 디렉터리를 쓰고 있을 때도 던진다.
+     * @param flushSize 모인 건수가 이만큼 되면 반영한다.
+     * @param flushMillis 이 간격마다 모인 것을 반영한다.
+     */
+    public ScoreWriteBuffer(Path directory, int flushSize, long flushMillis) throws IOException, SQLException {
+        if (flushSize <= 0 || flushMillis <= 0) {
+            throw new IllegalArgumentException("flushSize와 flushMillis는 1 이상이어야 합니다: "
+                    + flushSize + ", " + flushMillis);
+        }
+        this.directory = directory;
+        this.flushSize = flushSize;
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            this.directoryLock = lockDirectory();
+            recover();
+            synchronized (lock) {
+                openSegment(segment + 1);
+            }
+        } catch (IOException | SQLException | RuntimeException e) {
+            lockChannel.close();    // 잠금도 함께 풀린다.
+            if (journal != null) {
+                journal.close();
+            }
+            throw e;
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "score-write-behind");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * school.score.writeBehind=true면 시스템 프로퍼티 설정으로 버퍼를 만들고, 아니면 null
+     */
+    public static ScoreWriteBuffer fromSystemProperties() throws IOException, SQLException {
+        if (!Boolean.getBoolean("school.score.writeBehind")) {
+            return null;
+        }
+        return new ScoreWriteBuffer(Paths.get(System.getProperty("school.score.journalDir", "score-journal")),
+                Integer.getInteger("school.score.flushSize", 500),
+                Long.getLong("school.score.flushMillis", 1000L));
+    }
+
+    /**
+     * 점수 수정을 저널에 기록하고 모아 둔다. 반환되면 JVM이 죽어도 잃지 않는다.
+     * - 모인 건수가 flushSize에 이르면 호출한 스레드가 바로 반영한다(작업 단위 안이면 반영 스레드에 맡긴다).
+     */
+    public void update(Takes takes) throws SQLException {
+        long sequence;
+        boolean full;
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("닫힌 성적 쓰기 버퍼입니다.");
+            }
+            append(takes);
+            sequence = ++appendCount;
+            pending.put(key(takes.getId(), takes.getSubject()), takes);
+            full = pending.size() >= flushSize;
+        }
+        sync(sequence);
+        updateCount.incrementAndGet();
+        if (full) {
+            // 저널에는 이미 기록되었으므로 반영에 실패해도 이 수정은 실패가 아니다.
+            if (UnitOfWork.isActive()) {
+                flusher.execute(this::flushQuietly);
+            } else {
+                flushQuietly();
+            }
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은(반영 중 포함) 점수 수정이 있는지(학생 한 명)
+     */
+    public boolean hasPending(String studentId) {
+        synchronized (lock) {
+            return contains(pending, studentId) || contains(flushing, studentId);
+        }
+    }
+
+    /**
+     * 아직 반영하지 않은 점수 수정 건수
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * 모인 점수 수정을 DB에 반영하고, 반영이 끝난 저널 파일을 지운다.
+     * - 반영은 자체 트랜잭션으로 커밋되어야 저널을 지울 수 있으므로 작업 단위(UnitOfWork) 안에서는 호출할 수 없다.
+     * @return 반영 결과(모인 것이 없으면 빈 결과)
+     */
+    public BatchResult<Takes> flush() throws SQLException {
+        if (UnitOfWork.isActive()) {
+            throw new IllegalStateException("작업 단위 안에서는 성적 쓰기 버퍼를 반영할 수 없습니다.");
+        }
+        synchronized (flushLock) {
+            Map<String, Takes> batch;
+            long flushedSegment;
+            synchronized (lock) {
+                if (pending.isEmpty()) {
+                    return new BatchResult<>();
+                }
+                batch = pending;
+                pending = new LinkedHashMap<>();
+                flushing = batch;
+                flushedSegment = segment;
+                if (!closed) {
+                    // 이후의 수정은 새 저널 파일에 쓴다. 지금까지의 파일은 반영이 끝나면 지운다.
+                    try {
+                        openSegment(segment + 1);
+                    } catch (IOException e) {
+                        batch.forEach(pending::putIfAbsent);
+                        flushing = Collections.emptyMap();
+                        throw new SQLException("성적 저널 파일을 만들지 못했습니다: " + directory, e);
+                    }
+                }
+            }
+            BatchResult<Takes> result;
+            try {
+                result = BatchExecutor.execute(UPDATE_SQL, batch.values(), BatchExecutor.DEFAULT_BATCH_SIZE,
+                        ScoreWriteBuffer::bindUpdate);
+            } catch (SQLException | RuntimeException e) {
+                // 반영 도중에 추가된 같은 키의 값이 더 새것이므로 그대로 둔다.
+                synchronized (lock) {
+                    batch.forEach(pending::putIfAbsent);
+                    flushing = Collections.emptyMap();
+                }
+                throw e;
+            }
+            synchronized (lock) {
+                flushing = Collections.emptyMap();
+            }
+            flushCount.incrementAndGet();
+            flushedRowCount.addAndGet(result.getSuccessCount());
+            failedCount.addAndGet(result.getFailures().size());
+            deleteSegments(flushedSegment);
+            return result;
+        }
+    }
+
+    public long getUpdateCount() {
+        return updateCount.get();
+    }
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+    public long getFlushedRowCount() {
+        return flushedRowCount.get();
+    }
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+    public long getSyncCount() {
+        return syncCount.get();
+    }
+    public long getRecoveredCount() {
+        return recoveredCount.get();
+    }
+
+    /**
+     * 반영 스레드를 멈추고 모인 것을 모두 반영한 뒤 저널을 닫는다.
+     * - 반영에 실패하면 저널 파일이 남아 다음에 만들 때 반영된다.
+     */
+    @Override
+    public void close() throws SQLException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } finally {
+            synchronized (lock) {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    // 이미 모두 강제 기록되었다.
+                }
+                if (pending.isEmpty()) {
+                    deleteSegments(segment);
+                }
+                // 잠금 파일은 지우지 않는다(지우는 사이에 다른 프로세스가 옛 파일을 잠글 수 있다).
+                try {
+                    directoryLock.release();
+                    lockChannel.close();
+                } catch (IOException e) {
+                    // 채널을 닫으면 잠금도 풀린다.
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ScoreWriteBuffer [directory=" + directory + ", pending=" + getPendingCount()
+                + ", updateCount=" + getUpdateCount() + ", flushCount=" + getFlushCount()
+                + ", flushedRowCount=" + getFlushedRowCount() + ", failedCount=" + getFailedCount()
+                + ", syncCount=" + getSyncCount() + ", recoveredCount=" + getRecoveredCount() + "]";
+    }
+
+    /**
+     * 저널 디렉터리를 배타적으로 잠근다. 이미 잠겨 있으면 기다리지 않고 실패한다.
+     */
+    private FileLock lockDirectory() throws IOException {
+        FileLock fileLock;
+        try {
+            fileLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            fileLock = null;    // 같은 JVM의 다른 버퍼가 잠갔다.
+        }
+        if (fileLock == null) {
+            throw new IOException("다른 프로세스가 사용 중인 성적 저널 디렉터리입니다: " + directory);
+        }
+        return fileLock;
+    }
+
+    /**
+     * 남아 있는 저널 파일을 번호순으로 읽어(같은 키는 나중 값) DB에 반영하고 지운다.
+     * - 끝이 잘린 줄(기록 도중 종료)이나 검사값이 맞지 않는 줄은 건너뛴다. 그런 줄은 update()가 반환되기 전이었다.
+     */
+    private void recover() throws IOException, SQLException {
+        List<Long> segments = listSegments();
+        if (segments.isEmpty()) {
+            return;
+        }
+        LinkedHashMap<String, Takes> recovered = new LinkedHashMap<>();
+        for (long number : segments) {
+            try (BufferedReader reader = Files.newBufferedReader(segmentPath(number), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    Takes takes = parse(line);
+                    if (takes != null) {
+                        recovered.put(key(takes.getId(), takes.getSubject()), takes);
+                    }
+                }
+            }
+        }
+        long last = segments.get(segments.size() - 1);
+        if (!recovered.isEmpty()) {
+            BatchResult<Takes> result = BatchExecutor.execute(UPDATE_SQL, recovered.values(),
+                    BatchExecutor.DEFAULT_BATCH_SIZE, ScoreWriteBuffer::bindUpdate);
+            recoveredCount.addAndGet(result.getSuccessCount());
+            failedCount.addAndGet(result.getFailures().size());
+        }
+        deleteSegments(last);
+        segment = last;
+    }
+
+    /**
+     * 한 줄: CRC32(16진수) \t 학번 \t 수업코드 \t 점수 \n  (끝의 줄바꿈이 없으면 기록 도중 끊긴 줄)
+     */
+    private void append(Takes takes) throws SQLException {
+        String body = escape(takes.getId()) + '\t' + escape(takes.getSubject()) + '\t' + escape(takes.getScore());
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.wrap((Long.toHexString(crc.getValue()) + '\t' + body + '\n')
+                .getBytes(StandardCharsets.UTF_8));
+        long position = -1;
+        try {
+            position = journal.position();
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+        } catch (IOException e) {
+            // 반쯤 쓴 줄 뒤에 다음 줄이 이어 붙지 않도록 잘라 낸다.
+            if (position >= 0) {
+                try {
+                    journal.truncate(position);
+                    journal.position(position);
+                } catch (IOException ignored) {
+                    // 다음 기록도 실패한다.
+                }
+            }
+            throw new SQLException("성적 저널 기록에 실패했습니다: " + segmentPath(segment), e);
+        }
+    }
+
+    /**
+     * sequence번째 줄까지 디스크에 강제 기록한다.
+     * - 기다리는 동안 다른 스레드의 fsync가 이 줄까지 덮었으면 따로 하지 않는다.
+     */
+    private void sync(long sequence) throws SQLException {
+        if (durableCount.get() >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durableCount.get() >= sequence) {
+                return;
+            }
+            long upTo;
+            FileChannel channel;
+            synchronized (lock) {
+                upTo = appendCount;
+                channel = journal;
+            }
+            try {
+                channel.force(false);
+                syncCount.incrementAndGet();
+            } catch (ClosedChannelException e) {
+                // 그 사이에 파일이 교체되었다(교체할 때 강제 기록한다).
+                if (durableCount.get() >= sequence) {
+                    return;
+                }
+                throw new SQLException("성적 저널 강제 기록에 실패했습니다: " + directory, e);
+            } catch (IOException e) {
+                throw new SQLException("성적 저널 강제 기록에 실패했습니다: " + directory, e);
+            }
+            advanceDurable(upTo);
+        }
+    }
+
+    /**
+     * 저널 파일을 새 번호로 바꾼다. 이전 파일은 강제 기록 후 닫는다. lock을 잡고 호출한다.
+     */
+    private void openSegment(long number) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(number),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (journal != null) {
+            journal.force(false);
+            advanceDurable(appendCount);
+            journal.close();
+        }
+        journal = channel;
+        segment = number;
+    }
+
+    private void advanceDurable(long upTo) {
+        long current;
+        while ((current = durableCount.get()) < upTo && !durableCount.compareAndSet(current, upTo)) {
+            // 다시 시도
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (SQLException | RuntimeException e) {
+            // 모은 값과 저널은 남아 있으므로 다음 주기에 다시 시도한다.
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 번호가 upTo 이하인 저널 파일을 지운다.
+     */
+    private void deleteSegments(long upTo) {
+        try {
+            for (long number : listSegments()) {
+                if (number <= upTo) {
+                    Files.deleteIfExists(segmentPath(number));
+                }
+            }
+        } catch (IOException e) {
+            // 남은 파일은 다음에 만들 때 다시 반영된다(같은 값으로 UPDATE하므로 무해하다).
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                try {
+                    segments.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    // 다른 파일
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static Takes parse(String line) {
+        int tab = line.indexOf('\t');
+        if (tab < 0) {
+            return null;
+        }
+        String body = line.substring(tab + 1);
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        if (!Long.toHexString(crc.getValue()).equals(line.substring(0, tab))) {
+            return null;
+        }
+        String[] fields = body.split("\t", -1);
+        if (fields.length != 3) {
+            return null;
+        }
+        return new Takes(unescape(fields[0]), unescape(fields[1]), unescape(fields[2]));
+    }
+
+    private static boolean contains(Map<String, Takes> batch, String studentId) {
+        for (Takes takes : batch.values()) {
+            if (takes.getId().equals(studentId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String key(String studentId, String classId) {
+        return studentId + '\u0000' + classId;
+    }
+
+    private static void bindUpdate(PreparedStatement pstmt, Takes takes) throws SQLException {
+        pstmt.setString(1, takes.getScore());
+        pstmt.setString(2, takes.getId());
+        pstmt.setString(3, takes.getSubject());
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return NULL_VALUE;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String unescape(String value) {
+        if (NULL_VALUE.equals(value)) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                sb.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,211 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Takes;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수업별 남은 자리를 메모리에서 세어 두고 정원이 찬 수업의 신청은 DB에 가기 전에 거절하는 수강 신청 창구
+ * - 카운터는 수업코드마다 따로 있어서(AtomicInteger) 서로 다른 수업의 신청끼리는 경합하지 않는다.
+ * - 카운터에서 자리를 먼저 예약한 신청만 EnrollmentDao로 보내며, 최종 판단은 항상 DB가 한다.
+ *   DB에서 등록되지 않으면 예약을 돌려준다.
+ * - 처음 신청할 때 DB에서 정원과 수강 인원을 읽어 오고, 다음 경우에 다시 읽는다(reconcile).
+ *   · DB가 정원 초과나 수업 없음으로 판단했을 때
+ *   · 카운터로는 정원이 찼는데 마지막으로 읽은 지 reconcileMillis가 지났을 때
+ *     (다른 경로로 취소되었거나 정원이 바뀌었을 수 있다)
+ * - 성적 삭제, 수업 수정/삭제, 연쇄 삭제 DAO는 classChanged()/allClassesChanged()로 살아 있는 모든 창구의
+ *   카운터를 버린다. 다음 신청 때 DB에서 다시 읽는다.
+ */
+public class SeatCounter {
+
+    // 살아 있는 창구(DAO의 삭제 경로에서 카운터를 버릴 수 있도록)
+    private static final Set<SeatCounter> counters = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final EnrollmentDao enrollmentDao;
+    private final long reconcileMillis;
+    private final ConcurrentHashMap<String, Seats> seats = new ConcurrentHashMap<>();
+    private final AtomicLong fastRejectCount = new AtomicLong();
+    private final AtomicLong reconcileCount = new AtomicLong();
+
+    /**
+     * 정원이 찬 카운터는 1초 동안 믿는다.
+     */
+    public SeatCounter() {
+        this(new EnrollmentDao(), 1000);
+    }
+
+    public SeatCounter(EnrollmentDao enrollmentDao, long reconcileMillis) {
+        this.enrollmentDao = enrollmentDao;
+        this.reconcileMillis = reconcileMillis;
+        counters.add(this);
+    }
+
+    /**
+     * 수업의 수강 인원이나 정원이 DB에서 바뀌었음을 모든 창구에 알린다. (성적 삭제, 수업 수정/삭제)
+     */
+    public static void classChanged(String classId) {
+        synchronized (counters) {
+            for (SeatCounter counter : counters) {
+                counter.invalidate(classId);
+            }
+        }
+    }
+
+    /**
+     * 어느 수업이 바뀌었는지 모를 때(학생/학과 연쇄 삭제) 모든 창구의 카운터를 버린다.
+     */
+    public static void allClassesChanged() {
+        synchronized (counters) {
+            for (SeatCounter counter : counters) {
+                counter.invalidateAll();
+            }
+        }
+    }
+
+    /**
+     * 정원 안에서 수강 신청
+     */
+    public EnrollmentResult enroll(Takes takes) throws SQLException {
+        String classId = takes.getSubject();
+        Seats current = seats.get(classId);
+        if (current == null) {
+            current = reconcile(classId);
+        }
+        if (current == null) {
+            return EnrollmentResult.NO_CLASS;
+        }
+        if (!current.tryReserve()) {
+            if (System.currentTimeMillis() - current.loadedAt < reconcileMillis) {
+                fastRejectCount.incrementAndGet();
+                return EnrollmentResult.FULL;
+            }
+            current = reconcile(classId);
+            if (current == null) {
+                return EnrollmentResult.NO_CLASS;
+            }
+            if (!current.tryReserve()) {
+                fastRejectCount.incrementAndGet();
+                return EnrollmentResult.FULL;
+            }
+        }
+        EnrollmentResult result = null;
+        try {
+            result = enrollmentDao.enroll(takes);
+            return result;
+        } finally {
+            if (result != EnrollmentResult.ENROLLED) {
+                current.release();
+            }
+            if (result == EnrollmentResult.FULL || result == EnrollmentResult.NO_CLASS) {
+                seats.remove(classId, current);
+            }
+        }
+    }
+
+    /**
+     * 수강 취소를 알린다(자리 하나를 돌려준다).
+     */
+    public void release(String classId) {
+        Seats current = seats.get(classId);
+        if (current != null) {
+            current.release();
+        }
+    }
+
+    /**
+     * 수업 하나의 카운터를 버린다. 다음 신청 때 DB에서 다시 읽는다. (정원 변경, 수업 삭제 등)
+     */
+    public void invalidate(String classId) {
+        seats.remove(classId);
+    }
+
+    public void invalidateAll() {
+        seats.clear();
+    }
+
+    /**
+     * 카운터로 남은 자리 수(정원이 없으면 EnrollmentDao.UNLIMITED, 아직 읽지 않은 수업이면 null)
+     */
+    public Integer getRemaining(String classId) {
+        Seats current = seats.get(classId);
+        if (current == null) {
+            return null;
+        }
+        return current.capacity == EnrollmentDao.UNLIMITED
+                ? EnrollmentDao.UNLIMITED : Math.max(0, current.capacity - current.taken.get());
+    }
+
+    /**
+     * DB에 가지 않고 거절한 신청 수
+     */
+    public long getFastRejectCount() {
+        return fastRejectCount.get();
+    }
+    public long getReconcileCount() {
+        return reconcileCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SeatCounter [classes=" + seats.size() + ", fastRejectCount=" + getFastRejectCount()
+                + ", reconcileCount=" + getReconcileCount() + "]";
+    }
+
+    /**
+     * DB의 정원과 수강 인원으로 카운터를 새로 만든다.
+     * - 교체 전 카운터로 예약한 신청은 그 카운터에 돌려주므로 새 카운터는 DB 값에서 시작한다.
+     */
+    private Seats reconcile(String classId) throws SQLException {
+        reconcileCount.incrementAndGet();
+        int[] row = enrollmentDao.findSeats(classId);
+        if (row == null) {
+            seats.remove(classId);
+            return null;
+        }
+        Seats loaded = new Seats(row[0], row[1]);
+        seats.put(classId, loaded);
+        return loaded;
+    }
+
+    /**
+     * 수업 하나의 정원과 예약된 자리 수
+     */
+    private static final class Seats {
+
+        final int capacity;
+        final AtomicInteger taken;
+        final long loadedAt = System.currentTimeMillis();
+
+        Seats(int capacity, int taken) {
+            this.capacity = capacity;
+            this.taken = new AtomicInteger(taken);
+        }
+
+        boolean tryReserve() {
+            if (capacity == EnrollmentDao.UNLIMITED) {
+                taken.incrementAndGet();
+                return true;
+            }
+            for (;;) {
+                int current = taken.get();
+                if (current >= capacity) {
+                    return false;
+                }
+                if (taken.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            taken.updateAndGet(n -> Math.max(0, n - 1));
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package com.javalab.school.dao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 느린 SQL 기록기
+ * - 실행 시간(실행 + 결과 읽기)이 기준 시간 이상인 문장을 SQL, 바인드 값, 행 수와 함께 파일에 남긴다.
+ * - 호출 스레드는 큐에 넣기만 하고, 파일 쓰기와 실행 계획 조회는 별도 스레드가 한다.
+ *   큐가 가득 차면 기다리지 않고 버리며 버린 건수만 센다.
+ * - 파일이 maxFileBytes를 넘으면 slow-query.log -> slow-query.log.1 -> ... 순으로 밀어내고 새 파일에 쓴다.
+ * - 주민번호는 앞 8자리(생년월일, 성별)만 남기고 가린다.
+ * - explain을 켜면 SQL마다 처음 한 번 실행 계획을 함께 기록한다.
+ *
+ * 설정: -Dschool.db.slowQueryThresholdMillis=200 -Dschool.db.slowQueryLogPath=logs/slow-query.log
+ *       -Dschool.db.slowQueryExplain=true
+ */
+public final class SlowQueryLog implements AutoCloseable {
+
+    private static final int QUEUE_CAPACITY = 10000;
+    private static final long DEFAULT_MAX_FILE_BYTES = 10L * 1024 * 1024;
+    private static final int DEFAULT_MAX_FILES = 5;
+    private static final int MAX_EXPLAINED_SQL = 1000;
+    private static final int MAX_BIND_LENGTH = 200;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    // 주민번호 형태의 값(하이픈 생략 가능)
+    private static final Pattern JUMIN_VALUE = Pattern.compile("\\d{6}-?\\d{7}");
+    // INSERT INTO 테이블(컬럼, ...) VALUES(값, ...)
+    private static final Pattern INSERT = Pattern.compile(
+            "insert\\s+into\\s+[\\w.]+\\s*\\(([^)]*)\\)\\s*values\\s*\\(([^)]*)\\)", Pattern.CASE_INSENSITIVE);
+    // ? 바로 앞의 "컬럼 =", "컬럼 LIKE", "컬럼 IN (?, " 등
+    private static final Pattern COLUMN_BEFORE_PARAMETER = Pattern.compile(
+            "([\\w.]+)\\s*(?:=|<>|!=|<=|>=|<|>|\\s+like|\\s+in\\s*\\((?:\\s*\\?\\s*,)*)\\s*$",
+            Pattern.CASE_INSENSITIVE);
+
+    private final long thresholdNanos;
+    private final Path path;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final ConnectionPool explainPool;   // 실행 계획을 조회할 풀(null이면 조회하지 않음)
+    private final BlockingQueue<SlowQuery> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Map<String, Boolean> explained = Collections.synchronizedMap(
+            new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > MAX_EXPLAINED_SQL;
+                }
+            });
+    private final AtomicLong loggedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean closed;
+    private BufferedWriter out;
+    private long fileBytes;
+
+    public SlowQueryLog(long thresholdMillis, Path path) {
+        this(thresholdMillis, path, DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_FILES, null);
+    }
+
+    /**
+     * @param thresholdMillis 기록 기준 시간(0이면 모든 문장을 기록)
+     * @param explainPool 실행 계획을 조회할 커넥션 풀, null이면 실행 계획을 남기지 않는다.
+     */
+    public SlowQueryLog(long thresholdMillis, Path path, long maxFileBytes, int maxFiles, ConnectionPool explainPool) {
+        if (thresholdMillis < 0 || maxFileBytes <= 0 || maxFiles <= 0) {
+            throw new IllegalArgumentException("잘못된 느린 SQL 기록 설정: threshold=" + thresholdMillis
+                    + ", maxFileBytes=" + maxFileBytes + ", maxFiles=" + maxFiles);
+        }
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.path = path;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.explainPool = explainPool;
+        this.writer = new Thread(this::run, "slow-query-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 풀 설정에 따라 기록기를 만든다. 기준 시간이 음수면 null(기록하지 않음)
+     */
+    static SlowQueryLog fromConfig(PoolConfig config, ConnectionPool pool) {
+        if (config.getSlowQueryThresholdMillis() < 0) {
+            return null;
+        }
+        return new SlowQueryLog(config.getSlowQueryThresholdMillis(), Paths.get(config.getSlowQueryLogPath()),
+                DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_FILES, config.isSlowQueryExplain() ? pool : null);
+    }
+
+    /**
+     * 기록 대상인지 판단한다. 기록기 스레드 자신이 실행한 문장(실행 계획 조회)은 기록하지 않는다.
+     */
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos && Thread.currentThread() != writer;
+    }
+
+    /**
+     * 느린 문장 한 건을 큐에 넣는다. 큐가 가득 찼거나 닫혔으면 버린다.
+     * @param binds 바인드 값(1번 파라미터가 0번 칸), 배치 실행이면 null
+     */
+    void submit(String sql, Object[] binds, long execNanos, long fetchNanos, long rows, int batchSize) {
+        if (closed || !queue.offer(new SlowQuery(sql, binds, execNanos, fetchNanos, rows, batchSize,
+                Thread.currentThread().getName(), LocalDateTime.now()))) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    public long getLoggedCount() {
+        return loggedCount.get();
+    }
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 큐에 남은 기록을 모두 쓴 뒤(최대 5초) 파일을 닫는다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQueryLog [path=" + path + ", thresholdMillis=" + TimeUnit.NANOSECONDS.toMillis(thresholdNanos)
+                + ", loggedCount=" + getLoggedCount() + ", droppedCount=" + getDroppedCount() + "]";
+    }
+
+    private void run() {
+        try {
+            while (!closed) {
+                SlowQuery query;
+                try {
+                    // 인터럽트로 깨우면 파일 채널이 닫히므로 짧게 기다리며 closed를 확인한다.
+                    query = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (query == null) {
+                    continue;
+                }
+                write(query);
+                // 몰려 들어온 기록은 모아서 쓰고 한 번만 flush한다.
+                while ((query = queue.poll()) != null) {
+                    write(query);
+                }
+                flush();
+            }
+            SlowQuery query;
+            while ((query = queue.poll()) != null) {
+                write(query);
+            }
+            flush();
+        } finally {
+            closeFile();
+        }
+    }
+
+    private void write(SlowQuery query) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(query.time.format(TIME_FORMAT)).append(" [").append(query.threadName).append("] ")
+                .append(String.format(Locale.ROOT, "%.1fms (exec %.1fms, fetch %.1fms) rows=%d",
+                        (query.execNanos + query.fetchNanos) / 1e6, query.execNanos / 1e6, query.fetchNanos / 1e6,
+                        query.rows));
+        if (query.batchSize > 0) {
+            sb.append(" batch=").append(query.batchSize);
+        }
+        sb.append(System.lineSeparator()).append("  sql: ").append(query.sql.replaceAll("\\s+", " ").trim());
+        if (query.binds != null) {
+            sb.append(System.lineSeparator()).append("  binds: ").append(formatBinds(query.sql, query.binds));
+        }
+        if (explainPool != null && explained.putIfAbsent(query.sql, Boolean.TRUE) == null) {
+            sb.append(System.lineSeparator()).append("  plan:");
+            for (String line : explain(query.sql, query.binds)) {
+                sb.append(System.lineSeparator()).append("    ").append(line);
+            }
+        }
+        sb.append(System.lineSeparator());
+        try {
+            String text = sb.toString();
+            openFileIfNeeded();
+            out.write(text);
+            fileBytes += text.getBytes(StandardCharsets.UTF_8).length;
+            loggedCount.incrementAndGet();
+            if (fileBytes >= maxFileBytes) {
+                roll();
+            }
+        } catch (IOException e) {
+            droppedCount.incrementAndGet();
+            closeFile();    // 다음 기록 때 다시 연다.
+        }
+    }
+
+    /**
+     * 바인드 값 목록. 주민번호 컬럼이나 주민번호 형태의 값은 가린다.
+     */
+    static String formatBinds(String sql, Object[] binds) {
+        boolean[] sensitive = sensitiveParameters(sql, binds.length);
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < binds.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            Object value = binds[i];
+            if (value == null) {
+                sb.append("null");
+            } else if (value instanceof Number || value instanceof Boolean) {
+                sb.append(value);
+            } else {
+                String text = String.valueOf(value);
+                if (sensitive[i] || JUMIN_VALUE.matcher(text).matches()) {
+                    text = maskJumin(text);
+                } else if (text.length() > MAX_BIND_LENGTH) {
+                    text = text.substring(0, MAX_BIND_LENGTH) + "...";
+                }
+                sb.append('\'').append(text).append('\'');
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * 앞 8자리(하이픈 포함)만 남기고 *로 가린다. 예) 900101-1234567 -> 900101-1******
+     */
+    static String maskJumin(String jumin) {
+        int keep = Math.min(jumin.length(), jumin.indexOf('-') == 6 ? 8 : 7);
+        StringBuilder sb = new StringBuilder(jumin.length());
+        sb.append(jumin, 0, keep);
+        for (int i = keep; i < jumin.length(); i++) {
+            sb.append('*');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 파라미터 번호별로 주민번호 컬럼에 바인드되는지 판단한다.
+     * - INSERT는 컬럼 목록과 VALUES 목록의 위치로, 나머지는 ? 앞의 "컬럼 =" 등으로 컬럼을 찾는다.
+     */
+    private static boolean[] sensitiveParameters(String sql, int count) {
+        boolean[] sensitive = new boolean[count];
+        Matcher insert = INSERT.matcher(sql);
+        if (insert.find()) {
+            String[] columns = insert.group(1).split(",");
+            String[] values = insert.group(2).split(",");
+            int parameter = 0;
+            for (int i = 0; i < values.length && i < columns.length && parameter < count; i++) {
+                if (values[i].trim().equals("?")) {
+                    sensitive[parameter++] = isJuminColumn(columns[i]);
+                }
+            }
+            return sensitive;
+        }
+        int parameter = 0;
+        boolean quoted = false;
+        for (int i = 0; i < sql.length() && parameter < count; i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == '?' && !quoted) {
+                Matcher column = COLUMN_BEFORE_PARAMETER.matcher(sql.substring(Math.max(0, i - 200), i));
+                sensitive[parameter++] = column.find() && isJuminColumn(column.group(1));
+            }
+        }
+        return sensitive;
+    }
+
+    private static boolean isJuminColumn(String column) {
+        return column.toLowerCase(Locale.ROOT).contains("jumin");
+    }
+
+    /**
+     * 실행 계획 조회. 오라클은 EXPLAIN PLAN과 DBMS_XPLAN을, 그 밖의 DB는 EXPLAIN을 사용한다.
+     */
+    private List<String> explain(String sql, Object[] binds) {
+        List<String> lines = new ArrayList<>();
+        try (Connection conn = explainPool.borrow()) {
+            String product = conn.getMetaData().getDatabaseProductName();
+            if (product != null && product.toLowerCase(Locale.ROOT).contains("oracle")) {
+                // 바인드 변수는 값 없이 계획만 세운다.
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("EXPLAIN PLAN SET STATEMENT_ID = 'SLOW_QUERY' FOR " + sql);
+                    try (ResultSet rs = stmt.executeQuery(
+                            "SELECT plan_table_output FROM TABLE(DBMS_XPLAN.DISPLAY('PLAN_TABLE', 'SLOW_QUERY', 'TYPICAL'))")) {
+                        while (rs.next()) {
+                            lines.add(rs.getString(1));
+                        }
+                    }
+                }
+            } else {
+                try (PreparedStatement pstmt = conn.prepareStatement("EXPLAIN " + sql)) {
+                    for (int i = 0; binds != null && i < binds.length; i++) {
+                        pstmt.setObject(i + 1, binds[i]);
+                    }
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            Collections.addAll(lines, rs.getString(1).split("\\R"));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            lines.add("(실행 계획 조회 실패: " + e.getMessage() + ")");
+        }
+        return lines;
+    }
+
+    private void openFileIfNeeded() throws IOException {
+        if (out != null) {
+            return;
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        fileBytes = Files.exists(path) ? Files.size(path) : 0;
+        out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * 현재 파일을 닫고 번호를 하나씩 밀어낸다. 가장 오래된 파일은 지운다.
+     */
+    private void roll() throws IOException {
+        closeFile();
+        Files.deleteIfExists(rolled(maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path source = rolled(i);
+            if (Files.exists(source)) {
+                Files.move(source, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        fileBytes = 0;
+    }
+
+    private Path rolled(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private void flush() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            closeFile();
+        }
+    }
+
+    private void closeFile() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            // 다음 기록 때 다시 연다.
+        }
+        out = null;
+    }
+
+    /**
+     * 느린 문장 한 건
+     */
+    private static final class SlowQuery {
+        final String sql;
+        final Object[] binds;
+        final long execNanos;
+        final long fetchNanos;
+        final long rows;
+        final int batchSize;
+        final String threadName;
+        final LocalDateTime time;
+
+        SlowQuery(String sql, Object[] binds, long execNanos, long fetchNanos, long rows, int batchSize,
+                  String threadName, LocalDateTime time) {
+            this.sql = sql;
+            this.binds = binds;
+            this.execNanos = execNanos;
+            this.fetchNanos = fetchNanos;
+            this.rows = rows;
+            this.batchSize = batchSize;
+            this.threadName = threadName;
+            this.time = time;
+        }
+    }
+}
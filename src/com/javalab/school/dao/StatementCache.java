@@ -0,0 +1,79 @@
+package com.javalab.school.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 물리 커넥션 하나에 속한 PreparedStatement 캐시(LRU)
+ * - SQL 문자열을 키로 준비된 문장을 보관하여, 같은 SQL을 다시 준비할 때 파싱 왕복을 생략한다.
+ * - 사용중인 문장은 캐시에서 꺼내 두었다가(checkout) close() 시점에 다시 넣는다(checkin).
+ * - 최대 개수를 넘으면 가장 오래 사용하지 않은 문장을 실제로 닫는다.
+ * - 커넥션은 한 번에 한 스레드만 사용하지만 풀 종료 시 다른 스레드가 닫을 수 있어 동기화한다.
+ */
+final class StatementCache {
+
+    private final int maxSize;
+    private final LinkedHashMap<String, PreparedStatement> statements;
+
+    StatementCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > StatementCache.this.maxSize) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * 캐시에서 문장을 꺼낸다. 없으면 null을 반환한다.
+     */
+    synchronized PreparedStatement checkout(String sql) {
+        return statements.remove(sql);
+    }
+
+    /**
+     * 다 쓴 문장을 캐시에 넣는다. 같은 SQL의 문장이 이미 있으면 넣으려던 문장을 닫는다.
+     */
+    synchronized void checkin(String sql, PreparedStatement pstmt) {
+        if (statements.containsKey(sql)) {
+            closeQuietly(pstmt);
+            return;
+        }
+        statements.put(sql, pstmt);
+    }
+
+    /**
+     * 캐시된 문장을 모두 닫는다. (물리 커넥션을 닫기 전에 호출)
+     */
+    synchronized void clear() {
+        Iterator<PreparedStatement> it = statements.values().iterator();
+        while (it.hasNext()) {
+            closeQuietly(it.next());
+            it.remove();
+        }
+    }
+
+    synchronized int size() {
+        return statements.size();
+    }
+
+    private static void closeQuietly(PreparedStatement pstmt) {
+        try {
+            pstmt.close();
+        } catch (SQLException e) {
+            // 이미 닫힌 문장이면 무시
+        }
+    }
+}
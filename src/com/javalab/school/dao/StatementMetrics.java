@@ -0,0 +1,96 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.metrics.Metrics;
+import com.javalab.school.metrics.OperationMetrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 문장 실행 지표의 이름 정하기
+ * - SQL을 처음 실행할 때 호출 스택에서 그 SQL을 실행한 DAO 메서드를 찾아 "StudentDao.findAll" 같은 이름을 붙인다.
+ *   풀, 문장 래퍼, 스트림/배치 도우미와 JDK/프록시 프레임은 건너뛴다.
+ * - SQL별로 찾은 지표를 기억해 두므로 스택은 SQL마다 한 번만 살핀다.
+ */
+final class StatementMetrics {
+
+    private static final int MAX_SQL = 1000;
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    // 실행 경로에 끼어 있는 인프라 클래스(호출자가 아니다)
+    private static final String[] SKIPPED_CLASSES = {
+            StatementMetrics.class.getName(),
+            LoggingStatement.class.getName(),
+            CachedStatement.class.getName(),
+            PooledConnection.class.getName(),
+            ResultSetStream.class.getName(),
+            BatchExecutor.class.getName(),
+            TransactionTemplate.class.getName(),
+            UnitOfWork.class.getName()
+    };
+
+    private static final Map<String, OperationMetrics> bySql = Collections.synchronizedMap(
+            new LinkedHashMap<String, OperationMetrics>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, OperationMetrics> eldest) {
+                    return size() > MAX_SQL;
+                }
+            });
+
+    private StatementMetrics() { }
+
+    /**
+     * SQL을 실행한 DAO 메서드의 지표
+     */
+    static OperationMetrics forSql(String sql) {
+        OperationMetrics metrics = bySql.get(sql);
+        if (metrics == null) {
+            metrics = Metrics.operation(callerName());
+            bySql.put(sql, metrics);
+        }
+        return metrics;
+    }
+
+    private static String callerName() {
+        Optional<StackWalker.StackFrame> caller = WALKER.walk(frames -> frames
+                .filter(frame -> !isInfrastructure(frame.getClassName()))
+                .findFirst());
+        return caller.map(frame -> simpleName(frame.getClassName()) + "." + methodName(frame.getMethodName()))
+                .orElse("sql");
+    }
+
+    private static boolean isInfrastructure(String className) {
+        if (className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.")
+                || className.startsWith("com.sun.") || className.contains("$Proxy")) {
+            return true;
+        }
+        for (String skipped : SKIPPED_CLASSES) {
+            if (className.equals(skipped) || className.startsWith(skipped + "$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * com.javalab.school.dao.StudentDao$1 -> StudentDao
+     */
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int inner = name.indexOf('$');
+        return inner > 0 ? name.substring(0, inner) : name;
+    }
+
+    /**
+     * lambda$findAll$0 -> findAll
+     */
+    private static String methodName(String methodName) {
+        if (methodName.startsWith("lambda$")) {
+            int end = methodName.indexOf('$', 7);
+            return end > 7 ? methodName.substring(7, end) : methodName;
+        }
+        return methodName;
+    }
+}
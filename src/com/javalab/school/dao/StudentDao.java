@@ -0,0 +1,320 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Student;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 학생(student) 테이블 DAO
+ * - 메소드마다 풀에서 커넥션을 대여하고 다 쓰면 반환한다.
+ * - 같은 SQL의 PreparedStatement는 커넥션별 StatementCache에서 재사용된다.
+ * - SQLException은 호출부로 던져서 중복 키 등의 처리를 호출부가 결정하도록 한다.
+ * - 중복 사전 검사 필터(StudentKeyFilter)가 있으면 등록 전에 중복 학번/주민번호를 걸러 내고
+ *   SQLIntegrityConstraintViolationException을 DB에 보내기 전에 던진다.
+ */
+public class StudentDao {
+
+    private static final String INSERT_SQL = "INSERT INTO student (student_id, jumin, name, year, address, department_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT student_id, jumin, name, year, address, department_id FROM student ";
+    private static final String UPDATE_SQL = "UPDATE student " +
+            "SET jumin = ?, name = ?, year = ?, address = ?, department_id = ? " +
+            "WHERE student_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM student WHERE student_id = ?";
+    private static final String SELECT_JUMIN_SQL = "SELECT jumin FROM student WHERE student_id = ?";
+    private static final int DEFAULT_FETCH_SIZE = 500;
+    // 키셋 페이지 조회: 학번 인덱스 범위 스캔 후 ROWNUM으로 잘라낸다. (오라클 11g 호환)
+    private static final String FIRST_PAGE_SQL = "SELECT * FROM (" + SELECT_SQL + "ORDER BY student_id) " +
+            "WHERE ROWNUM <= ?";
+    private static final String NEXT_PAGE_SQL = "SELECT * FROM (" + SELECT_SQL + "WHERE student_id > ? ORDER BY student_id) " +
+            "WHERE ROWNUM <= ?";
+
+    private final StudentKeyFilter keyFilter;      // 없으면 null
+
+    /**
+     * school.cache.keyFilter=true면 공용 중복 검사 필터를 사용한다.
+     */
+    public StudentDao() {
+        this(StudentKeyFilter.shared());
+    }
+
+    public StudentDao(StudentKeyFilter keyFilter) {
+        this.keyFilter = keyFilter;
+    }
+
+    /**
+     * 학생 등록
+     * @return 등록된 행의 수
+     */
+    public int insert(Student student) throws SQLException {
+        if (keyFilter != null && keyFilter.isDuplicate(student)) {
+            throw duplicate(student);
+        }
+        int rows;
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            bindInsert(pstmt, student);
+            rows = pstmt.executeUpdate();
+        }
+        if (keyFilter != null && rows > 0) {
+            keyFilter.added(student);
+        }
+        return rows;
+    }
+
+    /**
+     * 학생 일괄 등록(기본 묶음 크기 1000)
+     * @see #insertAll(Iterable, int)
+     */
+    public BatchResult<Student> insertAll(Iterable<Student> students) throws SQLException {
+        return insertAll(students, BatchExecutor.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 학생 일괄 등록
+     * - batchSize명씩 addBatch()/executeBatch()로 묶어서 실행하고 묶음마다 커밋한다.
+     * - 중복 학번 등으로 실패한 행은 결과의 실패 목록에 기록되고 나머지 행은 계속 등록된다.
+     * @return 성공 건수와 실패한 행 목록
+     */
+    public BatchResult<Student> insertAll(Iterable<Student> students, int batchSize) throws SQLException {
+        if (keyFilter == null) {
+            return BatchExecutor.execute(INSERT_SQL, students, batchSize, StudentDao::bindInsert);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다: " + batchSize);
+        }
+        BatchResult<Student> result = new BatchResult<>();
+        List<Student> chunk = new ArrayList<>(batchSize);
+        long index = 0;     // 현재 묶음의 첫 행 순번
+        for (Student student : students) {
+            chunk.add(student);
+            if (chunk.size() == batchSize) {
+                insertChunk(chunk, index, result);
+                index += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, index, result);
+        }
+        return result;
+    }
+
+    /**
+     * 묶음 하나를 필터로 검사하여 중복 행은 실패로 기록하고 나머지만 일괄 등록한다.
+     */
+    private void insertChunk(List<Student> chunk, long startIndex, BatchResult<Student> result) throws SQLException {
+        boolean[] duplicates = keyFilter.findDuplicates(chunk);
+        List<Student> accepted = new ArrayList<>(chunk.size());
+        long[] acceptedIndex = new long[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            if (duplicates[i]) {
+                result.addFailure(startIndex + i, chunk.get(i), duplicate(chunk.get(i)));
+            } else {
+                acceptedIndex[accepted.size()] = startIndex + i;
+                accepted.add(chunk.get(i));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+        BatchResult<Student> inserted = BatchExecutor.execute(INSERT_SQL, accepted, accepted.size(), StudentDao::bindInsert);
+        result.addSuccess(inserted.getSuccessCount());
+        for (int i = 0; i < inserted.getCommitCount(); i++) {
+            result.addCommit();
+        }
+        boolean[] failed = new boolean[accepted.size()];
+        for (BatchResult.Failure<Student> failure : inserted.getFailures()) {
+            int i = (int) failure.getIndex();
+            failed[i] = true;
+            result.addFailure(acceptedIndex[i], failure.getItem(), failure.getCause());
+        }
+        for (int i = 0; i < accepted.size(); i++) {
+            if (!failed[i]) {
+                keyFilter.added(accepted.get(i));
+            }
+        }
+    }
+
+    /**
+     * 학생 전체 목록 조회(학번순)
+     */
+    public List<Student> findAll() throws SQLException {
+        List<Student> students = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "ORDER BY student_id");
+             ResultSet rs = pstmt.executeQuery()) {
+            RowMapper.Bound<Student> mapper = RowMappers.STUDENT.bind(rs);
+            while (rs.next()) {
+                students.add(mapper.map(rs));
+            }
+        }
+        return students;
+    }
+
+    /**
+     * 학생 전체를 스트림으로 조회(학번순, 기본 fetch size 500)
+     * @see #stream(int)
+     */
+    public Stream<Student> stream() throws SQLException {
+        return stream(DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * 학생 전체를 스트림으로 조회(학번순)
+     * - 열린 커서에서 요청할 때마다 한 행씩 읽는 지연 스트림이므로 학생 수와 관계없이 메모리 사용량이 일정하다.
+     * - 드라이버는 fetchSize행씩 묶어서 받아온다.
+     * - 스트림을 닫아야(try-with-resources) 커넥션이 풀로 반환된다. 읽는 도중의 오류는 DataAccessException으로 던져진다.
+     */
+    public Stream<Student> stream(int fetchSize) throws SQLException {
+        return ResultSetStream.query(SELECT_SQL + "ORDER BY student_id", fetchSize, RowMappers.STUDENT);
+    }
+
+    /**
+     * 학생 목록 페이지 조회(학번순, 키셋 페이지네이션)
+     * - 첫 페이지는 cursor에 null을 넘기고, 다음 페이지는 앞 페이지의 getNextCursor() 값을 넘긴다.
+     * - OFFSET 없이 "학번 > 커서" 조건으로 조회하므로 뒤쪽 페이지도 앞쪽 페이지와 같은 비용이 든다.
+     * - 다음 페이지가 있는지 알기 위해 pageSize + 1건을 읽고, fetch size도 그만큼 맞춰 한 번에 받아온다.
+     */
+    public Page<Student> findPage(String cursor, int pageSize) throws SQLException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize는 1 이상이어야 합니다: " + pageSize);
+        }
+        List<Student> students = new ArrayList<>(pageSize + 1);
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(cursor == null ? FIRST_PAGE_SQL : NEXT_PAGE_SQL)) {
+            int index = 1;
+            if (cursor != null) {
+                pstmt.setString(index++, cursor);
+            }
+            pstmt.setInt(index, pageSize + 1);
+            pstmt.setFetchSize(pageSize + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper.Bound<Student> mapper = RowMappers.STUDENT.bind(rs);
+                while (rs.next()) {
+                    students.add(mapper.map(rs));
+                }
+            }
+        }
+        if (students.size() <= pageSize) {
+            return new Page<>(students, null);
+        }
+        students.remove(pageSize);
+        return new Page<>(students, students.get(pageSize - 1).getStudentId());
+    }
+
+    /**
+     * 조건에 맞는 학생 페이지 조회(학번순, 키셋 페이지네이션)
+     * - 커서와 페이지 크기는 findPage()와 같다.
+     * - 조건의 인덱스는 StudentSearch.INDEX_DDL 참고
+     */
+    public Page<Student> search(StudentSearch search, String cursor, int pageSize) throws SQLException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize는 1 이상이어야 합니다: " + pageSize);
+        }
+        List<Student> students = new ArrayList<>(pageSize + 1);
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(search.toPageSql(SELECT_SQL, cursor != null))) {
+            search.bind(pstmt, cursor, pageSize + 1);
+            pstmt.setFetchSize(pageSize + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper.Bound<Student> mapper = RowMappers.STUDENT.bind(rs);
+                while (rs.next()) {
+                    students.add(mapper.map(rs));
+                }
+            }
+        }
+        if (students.size() <= pageSize) {
+            return new Page<>(students, null);
+        }
+        students.remove(pageSize);
+        return new Page<>(students, students.get(pageSize - 1).getStudentId());
+    }
+
+    /**
+     * 학번으로 학생 한 명 조회
+     * @return 학생 객체, 없으면 null
+     */
+    public Student findById(String studentId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "WHERE student_id = ?")) {
+            pstmt.setString(1, studentId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? RowMappers.STUDENT.bind(rs).map(rs) : null;
+            }
+        }
+    }
+
+    /**
+     * 학생 정보 수정
+     * @return 수정된 행의 수
+     */
+    public int update(Student student) throws SQLException {
+        int rows;
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            pstmt.setString(1, student.getJumin());
+            pstmt.setString(2, student.getName());
+            pstmt.setInt(3, student.getYear());
+            pstmt.setString(4, student.getAddress());
+            pstmt.setObject(5, student.getDepartmentId(), Types.INTEGER);
+            pstmt.setString(6, student.getStudentId());
+            rows = pstmt.executeUpdate();
+        }
+        // 바뀐 주민번호를 넣는다. (이전 주민번호는 오탐으로 남는다)
+        if (keyFilter != null && rows > 0) {
+            keyFilter.added(student);
+        }
+        return rows;
+    }
+
+    /**
+     * 학생 정보 삭제
+     * @return 삭제된 행의 수
+     */
+    public int delete(String studentId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow()) {
+            String jumin = null;
+            if (keyFilter != null) {
+                // 필터에서 뺄 주민번호
+                try (PreparedStatement pstmt = conn.prepareStatement(SELECT_JUMIN_SQL)) {
+                    pstmt.setString(1, studentId);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        jumin = rs.next() ? rs.getString(1) : null;
+                    }
+                }
+            }
+            int rows;
+            try (PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+                pstmt.setString(1, studentId);
+                rows = pstmt.executeUpdate();
+            }
+            if (keyFilter != null && rows > 0) {
+                keyFilter.removed(studentId, jumin);
+            }
+            return rows;
+        }
+    }
+
+    private static SQLIntegrityConstraintViolationException duplicate(Student student) {
+        return new SQLIntegrityConstraintViolationException(
+                "이미 등록된 학번 또는 주민번호입니다: " + student.getStudentId(), "23000");
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, Student student) throws SQLException {
+        pstmt.setString(1, student.getStudentId());
+        pstmt.setString(2, student.getJumin());
+        pstmt.setString(3, student.getName());
+        pstmt.setInt(4, student.getYear());
+        pstmt.setString(5, student.getAddress());
+        pstmt.setObject(6, student.getDepartmentId(), Types.INTEGER);
+    }
+}
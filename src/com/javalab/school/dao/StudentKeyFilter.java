@@ -0,0 +1,253 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Student;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학번(student_id)과 주민번호(jumin)의 중복 사전 검사
+ * - 등록된 학번과 주민번호를 카운팅 블룸 필터에 담아 두고, 등록 전에 필터로 먼저 확인한다.
+ *   · 필터에 없으면 중복이 아닌 것이 확실하므로 바로 등록한다.
+ *   · 필터에 있을 수도 있으면 DB에서 확인하고(일괄 등록은 묶음 전체를 IN 조회 한 번으로) 정말 중복인 행만 걸러 낸다.
+ *   일괄 등록 묶음에 중복이 섞여 있으면 묶음을 롤백하고 한 행씩 다시 실행해야 하므로 이를 미리 막는다.
+ * - 처음 사용할 때 DB에서 만들고, StudentDao를 거친 등록/수정/삭제 때 갱신된다.
+ *   담긴 학번이 만들 때 잡은 크기를 넘으면 다음 검사 때 더 크게 다시 만든다.
+ *   다른 경로로 등록된 학생은 DB의 기본키/유일 제약이 그대로 막아 주므로 필터는 왕복을 줄이는 용도일 뿐이다.
+ *   다른 경로로 삭제된 학생은 오탐으로 남으므로(DB 확인 한 번) 많이 쌓이면 rebuild()로 다시 만든다.
+ * - 시스템 프로퍼티 school.cache.keyFilter=true 일 때 shared()가 공용 필터를 반환하고 new StudentDao()가 이를 사용한다.
+ *   목표 오탐률은 school.cache.keyFilterFpp(기본 0.01)로 바꿀 수 있다.
+ */
+public class StudentKeyFilter {
+
+    private static final String KEYS_SQL = "SELECT student_id, jumin FROM student";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM student";
+    private static final int FETCH_SIZE = 1000;
+    private static final int MIN_EXPECTED_KEYS = 1024;
+    // IN 목록 최대 크기(오라클 제한 1000 이하). 문장 캐시를 위해 2의 거듭제곱 크기로 맞춰 채운다.
+    private static final int MAX_IN_LIST = 512;
+
+    private static volatile StudentKeyFilter shared;
+
+    private final double fpp;
+    private CountingBloomFilter studentIds;
+    private CountingBloomFilter jumins;
+    private long expectedKeys;
+    private final AtomicLong checkCount = new AtomicLong();
+    private final AtomicLong candidateCount = new AtomicLong();
+    private final AtomicLong duplicateCount = new AtomicLong();
+
+    public StudentKeyFilter(double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp는 0과 1 사이여야 합니다: " + fpp);
+        }
+        this.fpp = fpp;
+    }
+
+    /**
+     * school.cache.keyFilter=true면 공용 필터, 아니면 null
+     */
+    public static StudentKeyFilter shared() {
+        if (!Boolean.getBoolean("school.cache.keyFilter")) {
+            return null;
+        }
+        if (shared == null) {
+            synchronized (StudentKeyFilter.class) {
+                if (shared == null) {
+                    shared = new StudentKeyFilter(Double.parseDouble(System.getProperty("school.cache.keyFilterFpp", "0.01")));
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * DB의 학번, 주민번호로 필터를 새로 만든다. 크기는 현재 학생 수의 두 배를 기준으로 잡는다.
+     */
+    public synchronized void rebuild() throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow()) {
+            long students;
+            try (PreparedStatement pstmt = conn.prepareStatement(COUNT_SQL);
+                 ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                students = rs.getLong(1);
+            }
+            long expected = Math.max(MIN_EXPECTED_KEYS, students * 2);
+            CountingBloomFilter newStudentIds = new CountingBloomFilter(expected, fpp);
+            CountingBloomFilter newJumins = new CountingBloomFilter(expected, fpp);
+            try (PreparedStatement pstmt = conn.prepareStatement(KEYS_SQL)) {
+                pstmt.setFetchSize(FETCH_SIZE);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        newStudentIds.add(rs.getString(1));
+                        String jumin = rs.getString(2);
+                        if (jumin != null) {
+                            newJumins.add(jumin);
+                        }
+                    }
+                }
+            }
+            studentIds = newStudentIds;
+            jumins = newJumins;
+            expectedKeys = expected;
+        }
+    }
+
+    /**
+     * 이미 등록된 학번이나 주민번호인지 확인한다(필터에 있을 수도 있을 때만 DB 조회).
+     */
+    public boolean isDuplicate(Student student) throws SQLException {
+        List<Student> one = new ArrayList<>(1);
+        one.add(student);
+        return findDuplicates(one)[0];
+    }
+
+    /**
+     * 학생 목록에서 이미 등록되었거나 목록 안에서 앞 행과 겹치는 행을 찾는다.
+     * @return 행마다 중복 여부
+     */
+    public boolean[] findDuplicates(List<Student> students) throws SQLException {
+        ensureLoaded();
+        boolean[] duplicates = new boolean[students.size()];
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> seenIds = new HashSet<>();
+        Set<String> seenJumins = new HashSet<>();
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            checkCount.incrementAndGet();
+            boolean seen = !seenIds.add(student.getStudentId())
+                    | (student.getJumin() != null && !seenJumins.add(student.getJumin()));
+            if (seen) {
+                duplicates[i] = true;
+            } else if (mightContain(student)) {
+                candidates.add(i);
+            }
+        }
+        candidateCount.addAndGet(candidates.size());
+        for (int from = 0; from < candidates.size(); from += MAX_IN_LIST) {
+            List<Integer> group = candidates.subList(from, Math.min(candidates.size(), from + MAX_IN_LIST));
+            Set<String> existing = findExisting(students, group);
+            for (int i : group) {
+                Student student = students.get(i);
+                duplicates[i] = existing.contains("S" + student.getStudentId())
+                        || (student.getJumin() != null && existing.contains("J" + student.getJumin()));
+            }
+        }
+        for (boolean duplicate : duplicates) {
+            if (duplicate) {
+                duplicateCount.incrementAndGet();
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * 등록된 학생을 필터에 넣는다.
+     */
+    public synchronized void added(Student student) {
+        if (studentIds == null) {
+            return;
+        }
+        studentIds.add(student.getStudentId());
+        if (student.getJumin() != null) {
+            jumins.add(student.getJumin());
+        }
+    }
+
+    /**
+     * 삭제된 학생을 필터에서 뺀다.
+     */
+    public synchronized void removed(String studentId, String jumin) {
+        if (studentIds == null) {
+            return;
+        }
+        studentIds.remove(studentId);
+        if (jumin != null) {
+            jumins.remove(jumin);
+        }
+    }
+
+    /**
+     * 필터에 담긴 학번 수(아직 만들지 않았으면 0)
+     */
+    public synchronized long size() {
+        return studentIds == null ? 0 : studentIds.getCount();
+    }
+
+    /**
+     * 검사한 행 수, DB 확인이 필요했던 행 수, 실제 중복 행 수
+     */
+    public long getCheckCount() {
+        return checkCount.get();
+    }
+    public long getCandidateCount() {
+        return candidateCount.get();
+    }
+    public long getDuplicateCount() {
+        return duplicateCount.get();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "StudentKeyFilter [size=" + size() + ", expectedKeys=" + expectedKeys + ", fpp=" + fpp
+                + ", memoryBytes=" + (studentIds == null ? 0 : studentIds.getMemoryBytes() + jumins.getMemoryBytes())
+                + ", checkCount=" + getCheckCount() + ", candidateCount=" + getCandidateCount()
+                + ", duplicateCount=" + getDuplicateCount() + "]";
+    }
+
+    /**
+     * 아직 만들지 않았거나 담긴 키가 예상 크기를 넘어 오탐률이 올라갔으면 DB에서 다시 만든다.
+     */
+    private synchronized void ensureLoaded() throws SQLException {
+        if (studentIds == null || studentIds.getCount() > expectedKeys) {
+            rebuild();
+        }
+    }
+
+    private synchronized boolean mightContain(Student student) {
+        return studentIds.mightContain(student.getStudentId())
+                || (student.getJumin() != null && jumins.mightContain(student.getJumin()));
+    }
+
+    /**
+     * 후보 행들의 학번/주민번호 중 DB에 있는 값("S"+학번, "J"+주민번호)
+     */
+    private static Set<String> findExisting(List<Student> students, List<Integer> group) throws SQLException {
+        int size = Integer.highestOneBit(group.size());
+        if (size < group.size()) {
+            size <<= 1;
+        }
+        StringBuilder marks = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            marks.append(i == 0 ? "?" : ", ?");
+        }
+        String sql = "SELECT student_id, jumin FROM student WHERE student_id IN (" + marks + ") OR jumin IN (" + marks + ")";
+        Set<String> existing = new HashSet<>();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < size; i++) {
+                // 남는 자리는 마지막 값으로 채운다.
+                Student student = students.get(group.get(Math.min(i, group.size() - 1)));
+                pstmt.setString(i + 1, student.getStudentId());
+                pstmt.setString(size + i + 1, student.getJumin());
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add("S" + rs.getString(1));
+                    String jumin = rs.getString(2);
+                    if (jumin != null) {
+                        existing.add("J" + jumin);
+                    }
+                }
+            }
+        }
+        return existing;
+    }
+}
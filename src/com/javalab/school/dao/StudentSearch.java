@@ -0,0 +1,184 @@
+package com.javalab.school.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 학생 검색 조건(StudentDao.search()에 넘긴다)
+ * - 조건은 모두 AND로 묶이며 지정하지 않은 조건은 SQL에 넣지 않는다.
+ * - 값은 모두 ? 로 바인딩하고 컬럼은 가공하지 않으므로(함수, 형 변환 없이 비교) INDEX_DDL의 인덱스로 범위 검색할 수 있다.
+ * - 접두어는 LIKE '값%'와 함께 범위 조건(컬럼 >= '값' AND 컬럼 < 마지막 글자를 하나 올린 값)을 붙인다.
+ *   LIKE의 패턴이 바인딩 변수이면 실행 계획을 세울 때 접두어를 몰라서 인덱스를 쓰지 못하는 DB(H2 등)가 있기 때문이다.
+ * - 조건을 정해진 순서로 붙이므로 같은 조건 조합이면 SQL 문장이 같아서 문장 캐시를 재사용한다.
+ *
+ * 예) studentDao.search(new StudentSearch().departmentId(101).yearBetween(2, 3).namePrefix("김"), null, 50);
+ */
+public class StudentSearch {
+
+    /**
+     * 검색을 받쳐 주는 인덱스
+     * - 학과(+학년 범위), 이름 접두어, 주소 접두어 검색용
+     * - 학과 인덱스는 학과 삭제 시 외래키 확인에도 쓰인다.
+     */
+    public static final List<String> INDEX_DDL = Collections.unmodifiableList(Arrays.asList(
+            "CREATE INDEX student_dept_year_ix ON student (department_id, year, student_id)",
+            "CREATE INDEX student_name_ix ON student (name)",
+            "CREATE INDEX student_address_ix ON student (address)"));
+
+    private static final char ESCAPE = '\\';
+
+    private Integer departmentId;
+    private Integer yearFrom;
+    private Integer yearTo;
+    private String namePrefix;
+    private String addressPrefix;
+
+    public StudentSearch departmentId(int departmentId) {
+        this.departmentId = departmentId;
+        return this;
+    }
+
+    /**
+     * 학년 범위(양 끝 포함). 한쪽만 정하려면 다른 쪽에 null을 넘긴다.
+     */
+    public StudentSearch yearBetween(Integer from, Integer to) {
+        if (from != null && to != null && from > to) {
+            throw new IllegalArgumentException("학년 범위가 잘못되었습니다: " + from + " ~ " + to);
+        }
+        this.yearFrom = from;
+        this.yearTo = to;
+        return this;
+    }
+
+    /**
+     * 이름 접두어(빈 문자열이면 조건 없음)
+     */
+    public StudentSearch namePrefix(String prefix) {
+        this.namePrefix = prefix == null || prefix.isEmpty() ? null : prefix;
+        return this;
+    }
+
+    /**
+     * 주소 접두어(빈 문자열이면 조건 없음)
+     */
+    public StudentSearch addressPrefix(String prefix) {
+        this.addressPrefix = prefix == null || prefix.isEmpty() ? null : prefix;
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return departmentId == null && yearFrom == null && yearTo == null && namePrefix == null && addressPrefix == null;
+    }
+
+    /**
+     * 키셋 페이지 조회 SQL(학번순, 오라클 11g 호환 ROWNUM)
+     * @param select "SELECT 컬럼 FROM student " 형태의 조회 머리
+     * @param hasCursor 다음 페이지 조회(학번 > 커서)인지 여부
+     */
+    String toPageSql(String select, boolean hasCursor) {
+        StringBuilder where = new StringBuilder();
+        if (departmentId != null) {
+            and(where, "department_id = ?");
+        }
+        if (yearFrom != null && yearTo != null) {
+            and(where, "year BETWEEN ? AND ?");
+        } else if (yearFrom != null) {
+            and(where, "year >= ?");
+        } else if (yearTo != null) {
+            and(where, "year <= ?");
+        }
+        if (namePrefix != null) {
+            prefixCondition(where, "name", namePrefix);
+        }
+        if (addressPrefix != null) {
+            prefixCondition(where, "address", addressPrefix);
+        }
+        if (hasCursor) {
+            and(where, "student_id > ?");
+        }
+        return "SELECT * FROM (" + select + where + "ORDER BY student_id) WHERE ROWNUM <= ?";
+    }
+
+    /**
+     * toPageSql()의 ? 자리에 값을 바인딩한다.
+     */
+    void bind(PreparedStatement pstmt, String cursor, int limit) throws SQLException {
+        int index = 1;
+        if (departmentId != null) {
+            pstmt.setInt(index++, departmentId);
+        }
+        if (yearFrom != null) {
+            pstmt.setInt(index++, yearFrom);
+        }
+        if (yearTo != null) {
+            pstmt.setInt(index++, yearTo);
+        }
+        if (namePrefix != null) {
+            index = bindPrefix(pstmt, index, namePrefix);
+        }
+        if (addressPrefix != null) {
+            index = bindPrefix(pstmt, index, addressPrefix);
+        }
+        if (cursor != null) {
+            pstmt.setString(index++, cursor);
+        }
+        pstmt.setInt(index, limit);
+    }
+
+    @Override
+    public String toString() {
+        return "StudentSearch [departmentId=" + departmentId + ", yearFrom=" + yearFrom + ", yearTo=" + yearTo
+                + ", namePrefix=" + namePrefix + ", addressPrefix=" + addressPrefix + "]";
+    }
+
+    private static void and(StringBuilder where, String condition) {
+        where.append(where.length() == 0 ? "WHERE " : "AND ").append(condition).append(' ');
+    }
+
+    private static void prefixCondition(StringBuilder where, String column, String prefix) {
+        and(where, column + " >= ?");
+        if (upperBound(prefix) != null) {
+            and(where, column + " < ?");
+        }
+        and(where, column + " LIKE ? ESCAPE '" + ESCAPE + "'");
+    }
+
+    private static int bindPrefix(PreparedStatement pstmt, int index, String prefix) throws SQLException {
+        pstmt.setString(index++, prefix);
+        String upperBound = upperBound(prefix);
+        if (upperBound != null) {
+            pstmt.setString(index++, upperBound);
+        }
+        pstmt.setString(index++, likePrefix(prefix));
+        return index;
+    }
+
+    /**
+     * 접두어로 시작하는 값보다 큰 가장 작은 문자열(마지막 글자를 하나 올린 값), 올릴 수 없으면 null
+     */
+    private static String upperBound(String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        if (last == Character.MAX_VALUE) {
+            return null;
+        }
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+
+    /**
+     * 접두어 안의 %, _ 는 문자 그대로 찾도록 이스케이프하고 끝에 %를 붙인다.
+     */
+    private static String likePrefix(String prefix) {
+        StringBuilder sb = new StringBuilder(prefix.length() + 1);
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.append('%').toString();
+    }
+}
@@ -0,0 +1,179 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.Takes;
+import com.javalab.school.domain.TakesDetail;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 성적(takes) 테이블 DAO
+ * - Takes의 id는 학번(student_id), subject는 수업코드(class_id)에 대응한다.
+ */
+public class TakesDao {
+
+    private static final String INSERT_SQL = "INSERT INTO takes (student_id, class_id, score) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT student_id, class_id, score FROM takes ";
+    private static final String UPDATE_SQL = "UPDATE takes SET score = ? WHERE student_id = ? AND class_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM takes WHERE student_id = ? AND class_id = ?";
+    private static final String DETAIL_SQL = "SELECT t.student_id, s.name student_name, c.course_id, " +
+            "t.class_id, c.year, c.semester, c.professor_id, p.name professor_name " +
+            "FROM takes t " +
+            "LEFT OUTER JOIN class c ON t.class_id = c.class_id " +
+            "INNER JOIN student s ON t.student_id = s.student_id " +
+            "INNER JOIN professor p ON c.professor_id = p.professor_id";
+    private static final int DETAIL_FETCH_SIZE = 500;
+    // 키셋 페이지 조회: (학번, 수업코드) 기본 키 인덱스 범위 스캔 후 ROWNUM으로 잘라낸다. (오라클 11g 호환)
+    private static final String FIRST_PAGE_SQL = "SELECT * FROM (" + SELECT_SQL + "ORDER BY student_id, class_id) " +
+            "WHERE ROWNUM <= ?";
+    private static final String NEXT_PAGE_SQL = "SELECT * FROM (" + SELECT_SQL +
+            "WHERE student_id > ? OR (student_id = ? AND class_id > ?) ORDER BY student_id, class_id) " +
+            "WHERE ROWNUM <= ?";
+    private static final char CURSOR_SEPARATOR = ':';
+
+    /**
+     * 성적 등록
+     * @return 등록된 행의 수
+     */
+    public int insert(Takes takes) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            bindInsert(pstmt, takes);
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * 성적 일괄 등록
+     * - batchSize건씩 묶어서 실행하고 묶음마다 커밋한다. 실패한 행은 결과의 실패 목록에 기록된다.
+     */
+    public BatchResult<Takes> insertAll(Iterable<Takes> takesList, int batchSize) throws SQLException {
+        return BatchExecutor.execute(INSERT_SQL, takesList, batchSize, TakesDao::bindInsert);
+    }
+
+    /**
+     * 성적 전체 목록 조회(학번, 수업코드순)
+     */
+    public List<Takes> findAll() throws SQLException {
+        List<Takes> takesList = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "ORDER BY student_id, class_id");
+             ResultSet rs = pstmt.executeQuery()) {
+            RowMapper.Bound<Takes> mapper = RowMappers.TAKES.bind(rs);
+            while (rs.next()) {
+                takesList.add(mapper.map(rs));
+            }
+        }
+        return takesList;
+    }
+
+    /**
+     * 성적 목록 페이지 조회(학번, 수업코드순, 키셋 페이지네이션)
+     * - 첫 페이지는 cursor에 null을 넘기고, 다음 페이지는 앞 페이지의 getNextCursor() 값을 넘긴다.
+     * - 커서는 마지막 행의 "학번:수업코드"이며, 그 행 다음부터 조회하므로 뒤쪽 페이지도 같은 비용이 든다.
+     * - 다음 페이지가 있는지 알기 위해 pageSize + 1건을 읽는다(StudentDao.findPage()와 같다).
+     * @throws IllegalArgumentException 커서 형식이 맞지 않을 때
+     */
+    public Page<Takes> findPage(String cursor, int pageSize) throws SQLException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize는 1 이상이어야 합니다: " + pageSize);
+        }
+        List<Takes> takesList = new ArrayList<>(pageSize + 1);
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(cursor == null ? FIRST_PAGE_SQL : NEXT_PAGE_SQL)) {
+            int index = 1;
+            if (cursor != null) {
+                // 수업코드에는 구분자가 없으므로 마지막 구분자에서 나눈다.
+                int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+                if (separator < 0) {
+                    throw new IllegalArgumentException("성적 목록 커서는 학번:수업코드 형식이어야 합니다: " + cursor);
+                }
+                String studentId = cursor.substring(0, separator);
+                pstmt.setString(index++, studentId);
+                pstmt.setString(index++, studentId);
+                pstmt.setString(index++, cursor.substring(separator + 1));
+            }
+            pstmt.setInt(index, pageSize + 1);
+            pstmt.setFetchSize(pageSize + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper.Bound<Takes> mapper = RowMappers.TAKES.bind(rs);
+                while (rs.next()) {
+                    takesList.add(mapper.map(rs));
+                }
+            }
+        }
+        if (takesList.size() <= pageSize) {
+            return new Page<>(takesList, null);
+        }
+        takesList.remove(pageSize);
+        Takes last = takesList.get(pageSize - 1);
+        return new Page<>(takesList, last.getId() + CURSOR_SEPARATOR + last.getSubject());
+    }
+
+    /**
+     * 성적 목록 화면용 조인 결과 전체를 스트림으로 조회(학생 이름, 수업의 강좌/년도/학기, 교수 이름 포함)
+     * - 스트림을 닫아야(try-with-resources) 커넥션이 풀로 반환된다. 읽는 도중의 오류는 DataAccessException으로 던져진다.
+     */
+    public Stream<TakesDetail> streamDetails() throws SQLException {
+        return ResultSetStream.query(DETAIL_SQL, DETAIL_FETCH_SIZE, RowMappers.TAKES_DETAIL);
+    }
+
+    /**
+     * 한 학생의 성적 목록 조회
+     */
+    public List<Takes> findByStudentId(String studentId) throws SQLException {
+        List<Takes> takesList = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "WHERE student_id = ? ORDER BY class_id")) {
+            pstmt.setString(1, studentId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper.Bound<Takes> mapper = RowMappers.TAKES.bind(rs);
+                while (rs.next()) {
+                    takesList.add(mapper.map(rs));
+                }
+            }
+        }
+        return takesList;
+    }
+
+    /**
+     * 성적 수정
+     * @return 수정된 행의 수
+     */
+    public int update(Takes takes) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            pstmt.setString(1, takes.getScore());
+            pstmt.setString(2, takes.getId());
+            pstmt.setString(3, takes.getSubject());
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * 성적 삭제
+     * - 자리가 났으므로 SeatCounter의 그 수업 카운터를 버린다.
+     * @return 삭제된 행의 수
+     */
+    public int delete(String studentId, String classId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+            pstmt.setString(1, studentId);
+            pstmt.setString(2, classId);
+            return pstmt.executeUpdate();
+        } finally {
+            SeatCounter.classChanged(classId);
+        }
+    }
+
+    private static void bindInsert(PreparedStatement pstmt, Takes takes) throws SQLException {
+        pstmt.setString(1, takes.getId());
+        pstmt.setString(2, takes.getSubject());
+        pstmt.setString(3, takes.getScore());
+    }
+}
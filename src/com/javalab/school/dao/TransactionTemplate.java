@@ -0,0 +1,136 @@
+package com.javalab.school.dao;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 DAO 작업을 한 트랜잭션으로 묶어 실행하는 템플릿
+ * - 작업이 정상 종료되면 한 번만 커밋하고, 예외가 나면 전체를 롤백한다.
+ * - 일시적인 오류(교착 상태, 타임아웃, 커넥션 끊김 등)면 잠시 기다렸다가 작업 전체를 다시 실행한다.
+ *   그러므로 작업 안에서는 DB 밖의 상태(화면 출력, 캐시 등)를 바꾸지 않는 것이 좋다.
+ * - 이미 작업 단위가 진행 중인 스레드에서 호출하면 새로 시작하지 않고 바깥 트랜잭션에 참여한다.
+ *
+ * 예) template.execute(unit -> {
+ *         studentDao.update(student);
+ *         takesDao.delete(studentId, classId);
+ *         return null;
+ *     });
+ */
+public class TransactionTemplate {
+
+    // 오라클 오류 코드: 교착 상태(ORA-00060), 직렬화 실패(ORA-08177)
+    private static final int ORA_DEADLOCK = 60;
+    private static final int ORA_CANNOT_SERIALIZE = 8177;
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final AtomicLong commitCount = new AtomicLong();
+    private final AtomicLong rollbackCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+
+    /**
+     * 최대 3번 시도, 재시도 대기 50ms부터 두 배씩 최대 1초
+     */
+    public TransactionTemplate() {
+        this(3, 50, 1000);
+    }
+
+    public TransactionTemplate(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts는 1 이상이어야 합니다: " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * 작업을 한 트랜잭션으로 실행하고 결과를 반환한다.
+     */
+    public <T> T execute(UnitOfWork.Work<T> work) throws SQLException {
+        UnitOfWork outer = UnitOfWork.current();
+        if (outer != null) {
+            return work.execute(outer);
+        }
+        for (int attempt = 1; ; attempt++) {
+            UnitOfWork unit = UnitOfWork.begin();
+            try {
+                T result = work.execute(unit);
+                unit.commit();
+                commitCount.incrementAndGet();
+                return result;
+            } catch (SQLException e) {
+                unit.rollback(e);
+                rollbackCount.incrementAndGet();
+                if (attempt >= maxAttempts || !isTransient(e)) {
+                    throw e;
+                }
+            } catch (RuntimeException | Error e) {
+                unit.rollback(e);
+                rollbackCount.incrementAndGet();
+                throw e;
+            } finally {
+                unit.end();
+            }
+            retryCount.incrementAndGet();
+            backoff(attempt);
+        }
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 오류인지 판단한다.
+     */
+    protected boolean isTransient(SQLException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLTransientException || t instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (t instanceof SQLException) {
+                SQLException sqlException = (SQLException) t;
+                String state = sqlException.getSQLState();
+                int code = sqlException.getErrorCode();
+                // SQLSTATE 40xxx: 트랜잭션 롤백(교착 상태, 직렬화 실패)
+                if ((state != null && state.startsWith("40")) || code == ORA_DEADLOCK || code == ORA_CANNOT_SERIALIZE) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public long getCommitCount() {
+        return commitCount.get();
+    }
+    public long getRollbackCount() {
+        return rollbackCount.get();
+    }
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionTemplate [maxAttempts=" + maxAttempts + ", commitCount=" + getCommitCount()
+                + ", rollbackCount=" + getRollbackCount() + ", retryCount=" + getRetryCount() + "]";
+    }
+
+    /**
+     * 재시도 전 대기(지수 증가 + 무작위 지연으로 동시 재시도가 겹치지 않게 한다)
+     */
+    private void backoff(int attempt) throws SQLException {
+        long delay = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("트랜잭션 재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.javalab.school.dao;
+
+import com.javalab.school.domain.GradeRecord;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 성적표 조회용 DAO
+ * - 성적(takes)에 수업(class)의 년도/학기와 강좌(course)의 학점을 붙여서 읽는다.
+ * - 강좌가 지정되지 않은 수업은 학점 0으로 읽는다.
+ */
+public class TranscriptDao {
+
+    private static final String SELECT_SQL = "SELECT t.student_id, t.class_id, t.score, c.year, c.semester, " +
+            "NVL(r.credit, 0) credit " +
+            "FROM takes t " +
+            "INNER JOIN class c ON t.class_id = c.class_id " +
+            "LEFT OUTER JOIN course r ON c.course_id = r.course_id " +
+            "WHERE t.student_id = ? ";
+
+    /**
+     * 한 학생의 성적 전체(수업코드순)
+     */
+    public List<GradeRecord> findByStudentId(String studentId) throws SQLException {
+        List<GradeRecord> records = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "ORDER BY t.class_id")) {
+            pstmt.setString(1, studentId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(toGradeRecord(rs));
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 한 학생의 한 수업 성적
+     * @return 성적 정보, 없으면 null
+     */
+    public GradeRecord findOne(String studentId, String classId) throws SQLException {
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL + "AND t.class_id = ?")) {
+            pstmt.setString(1, studentId);
+            pstmt.setString(2, classId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? toGradeRecord(rs) : null;
+            }
+        }
+    }
+
+    private GradeRecord toGradeRecord(ResultSet rs) throws SQLException {
+        return new GradeRecord(
+                rs.getString("student_id"),
+                rs.getString("class_id"),
+                rs.getString("score"),
+                rs.getInt("year"),
+                rs.getString("semester"),
+                rs.getInt("credit"));
+    }
+}
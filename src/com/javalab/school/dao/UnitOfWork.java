@@ -0,0 +1,192 @@
+package com.javalab.school.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Savepoint;
+
+/**
+ * 작업 단위(한 트랜잭션)
+ * - TransactionTemplate.execute()가 시작하며, 그동안 현재 스레드에 묶인다.
+ * - 작업 단위가 진행 중인 스레드에서 DAO가 DatabaseConnection.borrow()를 호출하면
+ *   새 커넥션 대신 이 트랜잭션의 커넥션을 받으므로 DAO를 고치지 않고 여러 작업을 한 번에 커밋할 수 있다.
+ * - 참여하는 DAO가 커넥션에 close(), commit(), setAutoCommit()을 호출해도 무시하고,
+ *   전체 rollback()은 허용하지 않는다(부분 취소는 savepoint를 사용한다).
+ * - 다른 스레드에서 실행되는 작업은 참여하지 않는다.
+ */
+public final class UnitOfWork {
+
+    /**
+     * 작업 단위 안에서 실행할 작업
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+        T execute(UnitOfWork unit) throws SQLException;
+    }
+
+    private static final ThreadLocal<UnitOfWork> current = new ThreadLocal<>();
+
+    private final Connection connection;        // 풀에서 대여한 커넥션
+    private final Connection participant;       // DAO에 빌려주는 커넥션(close 등 무시)
+    private final boolean autoCommit;
+    private boolean ended;
+
+    private UnitOfWork(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.autoCommit = connection.getAutoCommit();
+        this.participant = (Connection) Proxy.newProxyInstance(UnitOfWork.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ParticipantHandler());
+    }
+
+    /**
+     * 현재 스레드에서 진행 중인 작업 단위, 없으면 null
+     */
+    public static UnitOfWork current() {
+        return current.get();
+    }
+
+    public static boolean isActive() {
+        return current.get() != null;
+    }
+
+    /**
+     * 커넥션을 대여하여 트랜잭션을 시작하고 현재 스레드에 묶는다.
+     */
+    static UnitOfWork begin() throws SQLException {
+        if (current.get() != null) {
+            throw new IllegalStateException("이미 진행 중인 작업 단위가 있습니다.");
+        }
+        Connection conn = DatabaseConnection.getPool().borrow();
+        try {
+            UnitOfWork unit = new UnitOfWork(conn);
+            conn.setAutoCommit(false);
+            current.set(unit);
+            return unit;
+        } catch (SQLException | RuntimeException e) {
+            conn.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 이 트랜잭션의 커넥션(참여용). 닫아도 실제로 닫히지 않는다.
+     */
+    public Connection getConnection() {
+        return participant;
+    }
+
+    public Savepoint setSavepoint() throws SQLException {
+        return connection.setSavepoint();
+    }
+
+    public Savepoint setSavepoint(String name) throws SQLException {
+        return connection.setSavepoint(name);
+    }
+
+    /**
+     * savepoint 이후의 변경만 취소한다. 트랜잭션은 계속 진행된다.
+     */
+    public void rollbackTo(Savepoint savepoint) throws SQLException {
+        connection.rollback(savepoint);
+    }
+
+    /**
+     * savepoint를 해제한다. 오라클처럼 해제를 지원하지 않는 DB에서는 아무것도 하지 않는다.
+     */
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        try {
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLFeatureNotSupportedException e) {
+            // 트랜잭션이 끝나면 함께 사라진다.
+        }
+    }
+
+    /**
+     * savepoint를 잡고 작업을 실행한다. 작업이 실패하면 savepoint까지만 되돌리고 예외를 다시 던진다.
+     * - 호출부가 예외를 잡아서 처리하면 그 앞의 작업은 유지된 채 트랜잭션을 계속할 수 있다.
+     */
+    public <T> T withSavepoint(Work<T> work) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            return work.execute(this);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback(savepoint);
+            throw e;
+        }
+    }
+
+    void commit() throws SQLException {
+        connection.commit();
+    }
+
+    /**
+     * 트랜잭션을 취소한다. 취소 중의 예외는 원래 예외에 덧붙인다.
+     */
+    void rollback(Throwable cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * 스레드 묶음을 풀고 커넥션을 풀로 반환한다.
+     */
+    void end() {
+        ended = true;
+        current.remove();
+        try {
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            // 풀이 반환 시 다시 정리한다.
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            // 이미 반환된 커넥션
+        }
+    }
+
+    /**
+     * DAO에 빌려주는 커넥션의 호출 처리
+     */
+    private final class ParticipantHandler implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                case "commit":
+                case "setAutoCommit":
+                    return null;    // 트랜잭션 경계는 작업 단위가 정한다.
+                case "isClosed":
+                    return ended;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "UnitOfWork[" + connection + (ended ? ", ended" : "") + "]";
+                case "rollback":
+                    if (args == null || args.length == 0) {
+                        throw new SQLException("작업 단위 안에서는 전체 롤백을 할 수 없습니다. savepoint를 사용하세요.");
+                    }
+                    break;
+                default:
+                    break;
+            }
+            if (ended) {
+                throw new SQLException("이미 끝난 작업 단위의 커넥션입니다.");
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
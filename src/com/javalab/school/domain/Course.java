@@ -0,0 +1,50 @@
+package com.javalab.school.domain;
+
+/**
+ * 강좌(과목) 클래스
+ */
+public class Course {
+
+    private String courseId;        //강좌코드
+    private String name;            //강좌명
+    private int credit;             //학점
+    private String description;     //강좌 설명
+
+    public Course() {
+    }
+    public Course(String courseId, String name, int credit, String description) {
+        this.courseId = courseId;
+        this.name = name;
+        this.credit = credit;
+        this.description = description;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+    public void setCourseId(String courseId) {
+        this.courseId = courseId;
+    }
+    public String getName() {
+        return name;
+    }
+    public void setName(String name) {
+        this.name = name;
+    }
+    public int getCredit() {
+        return credit;
+    }
+    public void setCredit(int credit) {
+        this.credit = credit;
+    }
+    public String getDescription() {
+        return description;
+    }
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    @Override
+    public String toString() {
+        return "Course [courseId=" + courseId + ", name=" + name + ", credit=" + credit + ", description=" + description + "]";
+    }
+}
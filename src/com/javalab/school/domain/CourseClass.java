@@ -0,0 +1,77 @@
+package com.javalab.school.domain;
+
+/**
+ * 수업(개설 강좌) 클래스
+ * - class 테이블의 한 행으로, 강좌(course)를 특정 년도/학기에 개설한 것이다.
+ */
+public class CourseClass {
+
+    private String classId;         //수업코드
+    private String courseId;        //강좌코드
+    private int year;               //년도
+    private String semester;        //학기(1, 2, 계절학기)
+    private String professorId;     //담당교수
+    private String classroom;       //교실
+    private int enroll;             //수강인원
+
+    public CourseClass() {
+    }
+    public CourseClass(String classId, String courseId, int year, String semester,
+                       String professorId, String classroom, int enroll) {
+        this.classId = classId;
+        this.courseId = courseId;
+        this.year = year;
+        this.semester = semester;
+        this.professorId = professorId;
+        this.classroom = classroom;
+        this.enroll = enroll;
+    }
+
+    public String getClassId() {
+        return classId;
+    }
+    public void setClassId(String classId) {
+        this.classId = classId;
+    }
+    public String getCourseId() {
+        return courseId;
+    }
+    public void setCourseId(String courseId) {
+        this.courseId = courseId;
+    }
+    public int getYear() {
+        return year;
+    }
+    public void setYear(int year) {
+        this.year = year;
+    }
+    public String getSemester() {
+        return semester;
+    }
+    public void setSemester(String semester) {
+        this.semester = semester;
+    }
+    public String getProfessorId() {
+        return professorId;
+    }
+    public void setProfessorId(String professorId) {
+        this.professorId = professorId;
+    }
+    public String getClassroom() {
+        return classroom;
+    }
+    public void setClassroom(String classroom) {
+        this.classroom = classroom;
+    }
+    public int getEnroll() {
+        return enroll;
+    }
+    public void setEnroll(int enroll) {
+        this.enroll = enroll;
+    }
+    @Override
+    public String toString() {
+        return "CourseClass [classId=" + classId + ", courseId=" + courseId + ", year=" + year + ", semester=" + semester
+                + ", professorId=" + professorId + ", classroom=" + classroom + ", enroll=" + enroll + "]";
+    }
+}
@@ -0,0 +1,68 @@
+package com.javalab.school.domain;
+
+/**
+ * 성적 한 건과 그 수업의 년도/학기, 강좌 학점
+ * - takes, class, course를 조인한 결과로 성적표(평점) 계산에 사용한다.
+ */
+public class GradeRecord {
+
+    private String studentId;   //학번
+    private String classId;     //수업코드
+    private String score;       //성적(A+, A0, B+ ...)
+    private int year;           //년도
+    private String semester;    //학기
+    private int credit;         //학점
+
+    public GradeRecord() {
+    }
+    public GradeRecord(String studentId, String classId, String score, int year, String semester, int credit) {
+        this.studentId = studentId;
+        this.classId = classId;
+        this.score = score;
+        this.year = year;
+        this.semester = semester;
+        this.credit = credit;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+    public void setStudentId(String studentId) {
+        this.studentId = studentId;
+    }
+    public String getClassId() {
+        return classId;
+    }
+    public void setClassId(String classId) {
+        this.classId = classId;
+    }
+    public String getScore() {
+        return score;
+    }
+    public void setScore(String score) {
+        this.score = score;
+    }
+    public int getYear() {
+        return year;
+    }
+    public void setYear(int year) {
+        this.year = year;
+    }
+    public String getSemester() {
+        return semester;
+    }
+    public void setSemester(String semester) {
+        this.semester = semester;
+    }
+    public int getCredit() {
+        return credit;
+    }
+    public void setCredit(int credit) {
+        this.credit = credit;
+    }
+    @Override
+    public String toString() {
+        return "GradeRecord [studentId=" + studentId + ", classId=" + classId + ", score=" + score + ", year=" + year
+                + ", semester=" + semester + ", credit=" + credit + "]";
+    }
+}
@@ -7,7 +7,7 @@ public class Professor {
     private String professorId;	//교수번호
     private String jumin;	//주민번호
     private String name;	//이름
-    private int departmentId;	//학과code
+    private Integer departmentId;	//학과code(없으면 null)
     private String grade;	// 직급(교수, 조교수, 부교수, 강사)
     private String hiredate;	//입사년도
 
@@ -15,7 +15,7 @@ public class Professor {
     public Professor() {}
 
     //오버로딩 생성자
-    public Professor(String professorId, String jumin, String name, int departmentId, String grade, String hiredate) {
+    public Professor(String professorId, String jumin, String name, Integer departmentId, String grade, String hiredate) {
         this.professorId = professorId;
         this.jumin = jumin;
         this.name = name;
@@ -43,10 +43,10 @@ public class Professor {
     public void setName(String name) {
         this.name = name;
     }
-    public int getDepartmentId() {
+    public Integer getDepartmentId() {
         return departmentId;
     }
-    public void setDepartmentId(int departmentId) {
+    public void setDepartmentId(Integer departmentId) {
         this.departmentId = departmentId;
     }
     public String getGrade() {
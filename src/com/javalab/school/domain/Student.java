@@ -9,21 +9,21 @@ public class Student {
     private String name; 		//이름
     private int year;			//학년
     private String address;		//주소
-    private int departmentId;		//학과code
+    private Integer departmentId;	//학과code(없으면 null)
 
     //기본 생성자
     public Student() {
     }
 
     //오버로딩 생성자		printStudent(students);
-    public Student(String studentId, String name, int year, String address, int departmentId) {
+    public Student(String studentId, String name, int year, String address, Integer departmentId) {
         this.studentId = studentId;
         this.name = name;
         this.year = year;
         this.address = address;
         this.departmentId = departmentId;
     }
-    public Student(String studentId, String jumin, String name, int year, String address, int departmentId) {
+    public Student(String studentId, String jumin, String name, int year, String address, Integer departmentId) {
         this.studentId = studentId;
         this.jumin = jumin;
         this.name = name;
@@ -62,13 +62,19 @@ public class Student {
     public void setAddress(String address) {
         this.address = address;
     }
-    public int getDepartmentId() {
+    public Integer getDepartmentId() {
         return departmentId;
     }
-    public void setDepartmentId(int departmentId) {
+    public void setDepartmentId(Integer departmentId) {
         this.departmentId = departmentId;
     }
 
+    @Override
+    public String toString() {
+        return "Student [studentId=" + studentId + ", name=" + name + ", year=" + year + ", address=" + address
+                + ", departmentId=" + departmentId + "]";
+    }
+
     // 학생 객체의 내부 정보를 보여주는 메소드
     //public void showStudentInfo() {
     //	System.out.println(this.id + "\t" + this.jumin + "\t" + this.name + "\t" + this.year + "\t" + this.address + "\t" + this.department);
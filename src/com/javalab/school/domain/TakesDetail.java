@@ -0,0 +1,87 @@
+package com.javalab.school.domain;
+
+/**
+ * 성적 목록 화면의 한 행
+ * - takes에 학생 이름, 수업(class)의 강좌/년도/학기/교수, 교수 이름을 붙인 조인 결과
+ * - 강좌명과 학점은 담지 않는다(화면에서 강좌 캐시로 찾는다).
+ */
+public class TakesDetail {
+
+    private String studentId;       //학번
+    private String studentName;     //학생 이름
+    private String courseId;        //강좌코드
+    private String classId;         //수업코드
+    private int year;               //년도
+    private int semester;           //학기
+    private String professorId;     //교수번호
+    private String professorName;   //교수 이름
+
+    public TakesDetail() {
+    }
+    public TakesDetail(String studentId, String studentName, String courseId, String classId,
+                       int year, int semester, String professorId, String professorName) {
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.courseId = courseId;
+        this.classId = classId;
+        this.year = year;
+        this.semester = semester;
+        this.professorId = professorId;
+        this.professorName = professorName;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+    public void setStudentId(String studentId) {
+        this.studentId = studentId;
+    }
+    public String getStudentName() {
+        return studentName;
+    }
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+    public String getCourseId() {
+        return courseId;
+    }
+    public void setCourseId(String courseId) {
+        this.courseId = courseId;
+    }
+    public String getClassId() {
+        return classId;
+    }
+    public void setClassId(String classId) {
+        this.classId = classId;
+    }
+    public int getYear() {
+        return year;
+    }
+    public void setYear(int year) {
+        this.year = year;
+    }
+    public int getSemester() {
+        return semester;
+    }
+    public void setSemester(int semester) {
+        this.semester = semester;
+    }
+    public String getProfessorId() {
+        return professorId;
+    }
+    public void setProfessorId(String professorId) {
+        this.professorId = professorId;
+    }
+    public String getProfessorName() {
+        return professorName;
+    }
+    public void setProfessorName(String professorName) {
+        this.professorName = professorName;
+    }
+    @Override
+    public String toString() {
+        return "TakesDetail [studentId=" + studentId + ", studentName=" + studentName + ", courseId=" + courseId
+                + ", classId=" + classId + ", year=" + year + ", semester=" + semester + ", professorId=" + professorId
+                + ", professorName=" + professorName + "]";
+    }
+}
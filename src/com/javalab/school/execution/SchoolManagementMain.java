@@ -1,18 +1,65 @@
 package com.javalab.school.execution;
 
+import com.javalab.school.dao.CascadeDeleteDao;
+import com.javalab.school.dao.ClassDao;
+import com.javalab.school.dao.CourseDao;
+import com.javalab.school.dao.DataAccessException;
 import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.dao.DeleteReport;
+import com.javalab.school.dao.DepartmentDao;
+import com.javalab.school.dao.EnrollmentResult;
+import com.javalab.school.dao.Page;
+import com.javalab.school.dao.ProfessorDao;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.dao.StudentKeyFilter;
+import com.javalab.school.dao.StudentSearch;
+import com.javalab.school.dao.TakesDao;
+import com.javalab.school.domain.Course;
+import com.javalab.school.domain.CourseClass;
+import com.javalab.school.domain.Department;
+import com.javalab.school.domain.Professor;
+import com.javalab.school.domain.Student;
+import com.javalab.school.domain.Takes;
+import com.javalab.school.domain.TakesDetail;
+import com.javalab.school.metrics.Metrics;
+import com.javalab.school.report.ReportFormat;
+import com.javalab.school.report.ReportWriter;
+import com.javalab.school.search.NameIndex;
+import com.javalab.school.search.NameSearchService;
+import com.javalab.school.transcript.SemesterSummary;
+import com.javalab.school.transcript.Transcript;
+import com.javalab.school.transcript.TranscriptService;
 
 import java.sql.*;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Scanner;
+import java.util.stream.Stream;
 
 /**
  * 학사 행정관리 시스템 메인 클래스
  * - 학생, 교수, 강의, 학과, 학사관리 등의 기능을 제공하는 프로그램
  */
 public class SchoolManagementMain {
-    // 정적 멤버 변수 선언(Connection, Scanner)
-    private static final Connection conn = DatabaseConnection.getConnection();
+    // 정적 멤버 변수 선언(Scanner)
     private static final Scanner scanner = new Scanner(System.in);
+    // DAO 객체 선언(등록/수정/삭제 처리)
+    private static final StudentDao studentDao = new StudentDao();
+    private static final DepartmentDao departmentDao = new DepartmentDao();
+    private static final ProfessorDao professorDao = new ProfessorDao();
+    private static final CourseDao courseDao = new CourseDao();
+    private static final ClassDao classDao = new ClassDao();
+    private static final TakesDao takesDao = new TakesDao();
+    private static final CascadeDeleteDao cascadeDeleteDao = new CascadeDeleteDao();
+    // 성적표(평점) 집계: 성적 등록/수정/삭제는 이 서비스를 거쳐야 집계가 함께 갱신된다.
+    private static final TranscriptService transcriptService = new TranscriptService();
+    // 이름 검색 색인: 학생/교수 등록/수정/삭제 후 갱신한다.
+    private static final NameSearchService nameSearchService = new NameSearchService();
+    // 목록 조회 시 한 페이지에 출력할 행 수
+    private static final int PAGE_SIZE = 50;
+    // 목록 출력 형식(-Dschool.report.format=aligned|csv|tsv)
+    private static final ReportFormat REPORT_FORMAT = ReportFormat.fromSystemProperty();
 
     public static void main(String[] args) {
         while(true){
@@ -35,6 +82,7 @@ public class SchoolManagementMain {
         System.out.println("6. 수업 관련 업무");
         System.out.println("7. 수강 신청 관련 업무");
         System.out.println("8. 종료");
+        System.out.println("9. 성능 지표 보기");
         System.out.println("=============================");
         System.out.print("메뉴 선택: ");
 
@@ -67,6 +115,9 @@ public class SchoolManagementMain {
                 System.out.println("프로그램을 종료합니다.");
                 exit(); // 프로그램 종료
                 return;
+            case 9:
+                displayMetrics();
+                break;
             default:
                 System.out.println("잘못된 입력입니다. 다시 선택해주세요.");
         }
@@ -83,7 +134,9 @@ public class SchoolManagementMain {
             System.out.println("2. 학생 조회");
             System.out.println("3. 학생 정보 수정");
             System.out.println("4. 학생 정보 삭제");
-            System.out.println("5. 메인 메뉴로 가기");
+            System.out.println("5. 학생 검색");
+            System.out.println("6. 학생 이름 검색");
+            System.out.println("7. 메인 메뉴로 가기");
             System.out.println("=============================");
             System.out.print("메뉴 선택: ");
             int choice = scanner.nextInt();
@@ -103,6 +156,12 @@ public class SchoolManagementMain {
                     deleteStudent();
                     break;
                 case 5:
+                    searchStudents();
+                    break;
+                case 6:
+                    searchStudentNames();
+                    break;
+                case 7:
                     return;
                 default:
                     System.out.println("잘못된 입력입니다. 다시 선택해주세요.");
@@ -130,24 +189,12 @@ public class SchoolManagementMain {
         System.out.print("학과 코드: ");
         int departmentId = scanner.nextInt();
         scanner.nextLine();
-        // 데이터베이스 저장 처리
-        // PreparedStatement 객체 선언 :
-        // - SQL 문장을 미리 준비하여 실행할 수 있는 객체
-        PreparedStatement pstmt = null;
+        // 데이터베이스 저장 처리(StudentDao에 위임)
         try{
-            String sql = "insert into student(student_id, jumin, name, year, " +
-                    "address, department_id) values(?, ?, ?, ?, ?, ?)";
-            // 매개변수화된 파라미터에 값 세팅
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, studentId);
-            pstmt.setString(2, jumin);
-            pstmt.setString(3, name);
-            pstmt.setInt(4, year);
-            pstmt.setString(5, address);
-            pstmt.setInt(6, departmentId);
-            // SQL 문장 실행
-            int i = pstmt.executeUpdate(); // insert, update, delete
+            Student student = new Student(studentId, jumin, name, year, address, departmentId);
+            int i = studentDao.insert(student);
             if(i > 0){
+                nameSearchService.studentSaved(student);
                 System.out.println("학생 정보가 등록되었습니다.");
             }else{
                 System.out.println("학생 정보 등록 실패");
@@ -158,55 +205,127 @@ public class SchoolManagementMain {
             }else {
                 e.printStackTrace();
             }
-        }finally {
-            try {
-                // 자원 해제
-                if(pstmt != null) pstmt.close();
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
-        }   // end of try-catch-finally
+        }   // end of try-catch
     }   // end of registerStudent
 
     /**
      * 학생 조회
-     * - 학생 테이블과 학과 테이블을 외부 조인하여 학생 정보를 조회한다.
-     * - 학생 ID, 이름, 학년, 주소, 학과 ID, 학과명을 출력한다.
-     * - 오라클 데이터베이스는 대소문자를 가리지 않는다. 하지만 키워드는 대문자로 쓰는게 좋다.
+     * - 학번순으로 PAGE_SIZE명씩 나누어 조회한다. (키셋 페이지네이션)
+     * - 학생 ID, 이름, 학년, 주소, 학과 ID, 학과명, 학과 사무실을 출력한다.
+     * - 학과명은 조인 대신 학과 캐시에서 찾는다.
+     * - 한 페이지를 버퍼에 모아 한 번에 출력한다.
      */
     private static void displayStudents(){
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
         try{
-            String sql = "SELECT s.student_id, s.name, s.year, s.address, " +
-                    "s.department_id, d.name department_name, d.office " +
-                    "FROM student s " +
-                    "LEFT OUTER JOIN department d on s.department_id=d.department_id " +
-                    "ORDER BY s.student_id ASC ";
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery(); // 단순 조회 쿼리는 executeQuery() 메소드 사용
-
             System.out.println("학생 목록:");
-            System.out.println("학생ID\t이름\t학년\t주소\t학과ID\t학과명");
-            System.out.println("-------------------------------------------------");
-            while(rs.next()){
-                String studentId = rs.getString("student_id");
-                String name = rs.getString("name");
-                int year = rs.getInt("year");
-                String address = rs.getString("address");
-                int departmentId = rs.getInt("department_id");
-                String departmentName = rs.getString("department_name");
-                String office = rs.getString("office");
-                System.out.println(studentId + "\t" + name + "\t" + year + "\t" + address + "\t"
-                        + departmentId + "\t" + departmentName + "\t" + office);
-            }
+            ReportWriter report = ReportWriter.console(REPORT_FORMAT)
+                    .column("학생ID", 10).column("이름", 10).column("학년", 4).column("주소", 20)
+                    .column("학과ID", 6).column("학과명", 16).column("학과 사무실", 10);
+            report.header();
+            String cursor = null;
+            do {
+                Page<Student> page = studentDao.findPage(cursor, PAGE_SIZE);
+                for (Student student : page.getItems()) {
+                    Department department = departmentDao.findById(student.getDepartmentId());
+                    report.cell(student.getStudentId()).cell(student.getName()).cell(student.getYear())
+                            .cell(student.getAddress()).cell(student.getDepartmentId())
+                            .cell(department == null ? null : department.getName())
+                            .cell(department == null ? null : department.getOffice())
+                            .endRow();
+                }
+                report.flush();
+                cursor = page.getNextCursor();
+                if (cursor != null) {
+                    System.out.print("다음 페이지를 보려면 Enter, 그만 보려면 q 입력: ");
+                    if (scanner.nextLine().trim().equalsIgnoreCase("q")) {
+                        break;
+                    }
+                }
+            } while (cursor != null);
         }catch (SQLException e) {
             e.printStackTrace();
-        }finally {
-            close(pstmt, rs); // PreparedStatement, ResultSet 객체 닫기
         }
     }   // end of displayStudents
 
+    /**
+     * 학생 검색
+     * - 학과, 학년 범위, 이름/주소 앞부분으로 검색한다. 입력하지 않은(Enter) 조건은 빼고 검색한다.
+     * - 결과는 학생 조회와 같이 PAGE_SIZE명씩 나누어 출력한다.
+     */
+    private static void searchStudents() {
+        System.out.println("[학생 검색] 조건을 입력하지 않으려면 Enter");
+        StudentSearch search = new StudentSearch();
+        try {
+            System.out.print("학과 코드: ");
+            String departmentId = scanner.nextLine().trim();
+            if (!departmentId.isEmpty()) {
+                search.departmentId(Integer.parseInt(departmentId));
+            }
+            System.out.print("학년(부터): ");
+            String yearFrom = scanner.nextLine().trim();
+            System.out.print("학년(까지): ");
+            String yearTo = scanner.nextLine().trim();
+            search.yearBetween(yearFrom.isEmpty() ? null : Integer.valueOf(yearFrom),
+                    yearTo.isEmpty() ? null : Integer.valueOf(yearTo));
+        } catch (IllegalArgumentException e) {
+            System.out.println("잘못된 입력입니다: " + e.getMessage());
+            return;
+        }
+        System.out.print("이름(앞부분): ");
+        search.namePrefix(scanner.nextLine().trim());
+        System.out.print("주소(앞부분): ");
+        search.addressPrefix(scanner.nextLine().trim());
+
+        try {
+            ReportWriter report = ReportWriter.console(REPORT_FORMAT)
+                    .column("학생ID", 10).column("이름", 10).column("학년", 4).column("주소", 20).column("학과ID", 6);
+            report.header();
+            String cursor = null;
+            int count = 0;
+            do {
+                Page<Student> page = studentDao.search(search, cursor, PAGE_SIZE);
+                for (Student student : page.getItems()) {
+                    report.cell(student.getStudentId()).cell(student.getName()).cell(student.getYear())
+                            .cell(student.getAddress()).cell(student.getDepartmentId()).endRow();
+                }
+                report.flush();
+                count += page.getItems().size();
+                cursor = page.getNextCursor();
+                if (cursor != null) {
+                    System.out.print("다음 페이지를 보려면 Enter, 그만 보려면 q 입력: ");
+                    if (scanner.nextLine().trim().equalsIgnoreCase("q")) {
+                        break;
+                    }
+                }
+            } while (cursor != null);
+            System.out.println("출력한 학생: " + count + "명");
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 학생 이름 검색
+     * - 이름의 일부로 찾는다. 초성(예: ㄱㅊ)이나 입력 중인 글자(예: 김처)로도 찾을 수 있다.
+     * - DB 대신 메모리의 이름 색인에서 찾는다(처음 한 번만 학생 테이블을 읽어 색인을 만든다).
+     */
+    private static void searchStudentNames() {
+        System.out.print("이름(일부): ");
+        String query = scanner.nextLine();
+        try {
+            List<NameIndex.Match> matches = nameSearchService.searchStudents(query, PAGE_SIZE);
+            ReportWriter report = ReportWriter.console(REPORT_FORMAT).column("학생ID", 10).column("이름", 10);
+            report.header();
+            for (NameIndex.Match match : matches) {
+                report.cell(match.getKey()).cell(match.getName()).endRow();
+            }
+            report.flush();
+            System.out.println("찾은 학생: " + matches.size() + "명" + (matches.size() == PAGE_SIZE ? "(최대 " + PAGE_SIZE + "명까지 출력)" : ""));
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
     /**
      * 학생 정보 수정
      */
@@ -226,34 +345,19 @@ public class SchoolManagementMain {
         int departmentId = scanner.nextInt();
         scanner.nextLine(); // 개행 문자 처리
 
-        PreparedStatement pstmt = null;
         try {
-            String sql = "UPDATE student " +
-                    "SET jumin = ?, " +
-                    "    name = ?, " +
-                    "    year = ?, " +
-                    "    address = ?, " +
-                    "    department_id = ? " +
-                    "WHERE student_id = ? ";
-
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, jumin);
-            pstmt.setString(2, name);
-            pstmt.setInt(3, year);
-            pstmt.setString(4, address);
-            pstmt.setInt(5, departmentId);
-            pstmt.setString(6, id);
-            int i = pstmt.executeUpdate(); // 쿼리문 실행, 업데이트된 행의 수 리턴
+            // 업데이트된 행의 수 리턴
+            Student student = new Student(id, jumin, name, year, address, departmentId);
+            int i = studentDao.update(student);
 
             if(i > 0){
+                nameSearchService.studentSaved(student);
                 System.out.println("학생 정보가 수정되었습니다.");
             }else{
                 System.out.println("학생 정보 수정 실패");
             }
         } catch (SQLException e) {
             e.printStackTrace();
-        } finally {
-            close(pstmt); // close 메소드 호출하면서 PreparedStatement 객체 전달
         }
     }   // end of updateStudent
 
@@ -264,31 +368,41 @@ public class SchoolManagementMain {
         System.out.println("삭제할 학생의 ID를 입력하세요: ");
         String id = scanner.nextLine();
 
-        PreparedStatement pstmt = null;
         try {
-            String sql = "DELETE FROM student WHERE student_id = ?";
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, id);
-
-            int i = pstmt.executeUpdate(); // 쿼리문 실행, 삭제된 행의 수 리턴
+            int i = studentDao.delete(id); // 삭제된 행의 수 리턴
             if(i > 0){
+                nameSearchService.studentDeleted(id);
                 System.out.println("학생 정보가 삭제되었습니다.");
             }else{
                 System.out.println("학생 정보 삭제 실패");
             }
         } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            if (pstmt != null) {
-                try {
-                    pstmt.close();
-                } catch (SQLException e) {
-                    e.printStackTrace();
+            if (e instanceof SQLIntegrityConstraintViolationException) {
+                // 성적이 남아 있는 학생: 확인을 받고 성적까지 함께 삭제
+                System.out.print("학생의 성적이 남아 있습니다. 성적까지 모두 삭제하시겠습니까?(y/n): ");
+                if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+                    cascadeDeleteStudent(id);
                 }
+            } else {
+                e.printStackTrace();
             }
         }
     }
 
+    /**
+     * 학생과 학생의 성적을 한 트랜잭션으로 삭제
+     */
+    private static void cascadeDeleteStudent(String id) {
+        try {
+            DeleteReport report = cascadeDeleteDao.deleteStudents(Collections.singletonList(id));
+            transcriptService.invalidate(id);
+            nameSearchService.studentDeleted(id);
+            System.out.println("학생 정보가 삭제되었습니다. " + report);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
     /**
      * 학과 관련 메뉴
      */
@@ -339,12 +453,8 @@ public class SchoolManagementMain {
         System.out.print("교실 위치: ");
         String office = scanner.nextLine();
 
-        String sql = "INSERT INTO department (department_id, name, office) VALUES (?, ?, ?)";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setInt(1, id);
-            pstmt.setString(2, name);
-            pstmt.setString(3, office);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = departmentDao.insert(new Department(id, name, office));
             if (rowsAffected > 0) {
                 System.out.println("학과가 성공적으로 등록되었습니다.");
             } else {
@@ -364,17 +474,16 @@ public class SchoolManagementMain {
      */
     private static void displayDepartments() {
         System.out.println("[등록된 학과 목록 조회]");
-        String sql = "SELECT department_id, name, office FROM department ORDER BY department_id";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
+        try {
+            List<Department> departments = departmentDao.findAll();
             System.out.println("학과 목록:");
-            System.out.println("학과코드\t학과명\t학과 사무실 위치");
-            while (rs.next()) {
-                int id = rs.getInt("department_id");
-                String name = rs.getString("name");
-                String office = rs.getString("office");
-                System.out.printf("%-10d %-20s %-10s\n", id, name, office);
+            ReportWriter report = ReportWriter.console(REPORT_FORMAT)
+                    .column("학과코드", 10).column("학과명", 20).column("학과 사무실 위치", 16);
+            report.header();
+            for (Department department : departments) {
+                report.cell(department.getDepartmentId()).cell(department.getName()).cell(department.getOffice()).endRow();
             }
+            report.flush();
         } catch (SQLException e) {
             e.printStackTrace();
         }
@@ -393,12 +502,8 @@ public class SchoolManagementMain {
         System.out.print("새 교실 위치: ");
         String office = scanner.nextLine();
 
-        String sql = "UPDATE department SET name = ?, office = ? WHERE department_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, name);
-            pstmt.setString(2, office);
-            pstmt.setInt(3, id);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = departmentDao.update(new Department(id, name, office));
             if (rowsAffected > 0) {
                 System.out.println("학과 정보가 성공적으로 업데이트 되었습니다.");
             } else {
@@ -422,15 +527,35 @@ public class SchoolManagementMain {
         int id = scanner.nextInt();
         scanner.nextLine();
 
-        String sql = "DELETE FROM department WHERE department_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setInt(1, id);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = departmentDao.delete(id);
             if (rowsAffected > 0) {
                 System.out.println("학과 정보가 성공적으로 삭제되었습니다.");
             } else {
                 System.out.println("해당 코드의 학과를 찾을 수 없습니다.");
             }
+        } catch (SQLException e) {
+            if (e instanceof SQLIntegrityConstraintViolationException) {
+                // 소속 학생/교수가 있는 학과: 확인을 받고 하위 데이터까지 함께 삭제
+                System.out.print("학과에 소속된 학생 또는 교수가 있습니다. 학생, 교수, 수업, 성적까지 모두 삭제하시겠습니까?(y/n): ");
+                if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+                    cascadeDeleteDepartment(id);
+                }
+            } else {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * 학과와 소속 학생, 교수, 교수의 수업, 관련 성적을 한 트랜잭션으로 삭제
+     */
+    private static void cascadeDeleteDepartment(int id) {
+        try {
+            DeleteReport report = cascadeDeleteDao.deleteDepartments(Collections.singletonList(id));
+            transcriptService.invalidateAll();
+            nameSearchService.invalidate();
+            System.out.println("학과 정보가 삭제되었습니다. " + report);
         } catch (SQLException e) {
             e.printStackTrace();
         }
@@ -447,7 +572,8 @@ public class SchoolManagementMain {
             System.out.println("2. 교수 조회");
             System.out.println("3. 교수 정보 수정");
             System.out.println("4. 교수 정보 삭제");
-            System.out.println("5. 메인 메뉴로 가기");
+            System.out.println("5. 교수 이름 검색");
+            System.out.println("6. 메인 메뉴로 가기");
             System.out.println("=============================");
             System.out.print("메뉴 선택: ");
             int choice = scanner.nextInt();
@@ -467,6 +593,9 @@ public class SchoolManagementMain {
                     deleteProfessor();
                     break;
                 case 5:
+                    searchProfessorNames();
+                    break;
+                case 6:
                     return;
                 default:
                     System.out.println("잘못된 입력입니다. 다시 선택해주세요.");
@@ -493,18 +622,11 @@ public class SchoolManagementMain {
         System.out.print("채용 날짜(예: 2024-01-01): ");
         String hiredate = scanner.nextLine();
 
-        String sql = "";
-
-        // try~with~resources 구문을 사용하면 close()를 명시적으로 호출하지 않아도 자동 close
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, id);
-            pstmt.setString(2, jumin);
-            pstmt.setString(3, name);
-            pstmt.setInt(4, department);
-            pstmt.setString(5, grade);
-            pstmt.setString(6, hiredate);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            Professor professor = new Professor(id, jumin, name, department, grade, hiredate);
+            int rowsAffected = professorDao.insert(professor);
             if (rowsAffected > 0) {
+                nameSearchService.professorSaved(professor);
                 System.out.println("교수가 성공적으로 등록되었습니다.");
             } else {
                 System.out.println("교수 등록에 실패했습니다.");
@@ -520,20 +642,42 @@ public class SchoolManagementMain {
 
     /**
      * 교수 목록 조회
+     * - 학과명은 조인 대신 학과 캐시에서 찾는다.
      */
     private static void displayProfessors() {
         System.out.println("[등록된 교수 목록 조회]");
-        String sql = "SELECT p.professor_id, p.name, p.grade, p.hiredate, d.name as department_name FROM professor p JOIN department d ON p.department_id = d.department_id ORDER BY p.professor_id";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
-            while (rs.next()) {
-                String id = rs.getString("professor_id");
-                String name = rs.getString("name");
-                String grade = rs.getString("grade");
-                Date hiredate = rs.getDate("hiredate");
-                String departmentName = rs.getString("department_name");
-                System.out.printf("%-10s %-15s %-10s %-20s %-15s\n", id, name, grade, hiredate.toString(), departmentName);
+        try {
+            ReportWriter report = ReportWriter.console(REPORT_FORMAT)
+                    .column("교수ID", 10).column("이름", 15).column("직급", 10).column("채용 날짜", 20).column("학과명", 15);
+            report.header();
+            for (Professor professor : professorDao.findAll()) {
+                Department department = departmentDao.findById(professor.getDepartmentId());
+                report.cell(professor.getProfessorId()).cell(professor.getName()).cell(professor.getGrade())
+                        .cell(professor.getHiredate()).cell(department == null ? null : department.getName())
+                        .endRow();
+            }
+            report.flush();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 교수 이름 검색
+     * - 이름의 일부, 초성, 입력 중인 글자로 메모리의 이름 색인에서 찾는다.
+     */
+    private static void searchProfessorNames() {
+        System.out.print("이름(일부): ");
+        String query = scanner.nextLine();
+        try {
+            List<NameIndex.Match> matches = nameSearchService.searchProfessors(query, PAGE_SIZE);
+            ReportWriter report = ReportWriter.console(REPORT_FORMAT).column("교수ID", 10).column("이름", 15);
+            report.header();
+            for (NameIndex.Match match : matches) {
+                report.cell(match.getKey()).cell(match.getName()).endRow();
             }
+            report.flush();
+            System.out.println("찾은 교수: " + matches.size() + "명" + (matches.size() == PAGE_SIZE ? "(최대 " + PAGE_SIZE + "명까지 출력)" : ""));
         } catch (SQLException e) {
             e.printStackTrace();
         }
@@ -558,16 +702,11 @@ public class SchoolManagementMain {
         System.out.print("새 채용 날짜(예: 2024-01-01): ");
         String hiredate = scanner.nextLine();
 
-        String sql = "UPDATE professor SET jumin = ?, name = ?, department_id = ?, grade = ?, hiredate = TO_DATE(?, 'YYYY-MM-DD') WHERE professor_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, jumin);
-            pstmt.setString(2, name);
-            pstmt.setInt(3, department);
-            pstmt.setString(4, grade);
-            pstmt.setString(5, hiredate);
-            pstmt.setString(6, id);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            Professor professor = new Professor(id, jumin, name, department, grade, hiredate);
+            int rowsAffected = professorDao.update(professor);
             if (rowsAffected > 0) {
+                nameSearchService.professorSaved(professor);
                 System.out.println("교수 정보가 성공적으로 업데이트 되었습니다.");
             } else {
                 System.out.println("해당 ID의 교수를 찾을 수 없습니다.");
@@ -589,11 +728,10 @@ public class SchoolManagementMain {
         System.out.print("삭제할 교수의 ID를 입력하세요: ");
         String id = scanner.nextLine();
 
-        String sql = "DELETE FROM professor WHERE professor_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, id);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = professorDao.delete(id);
             if (rowsAffected > 0) {
+                nameSearchService.professorDeleted(id);
                 System.out.println("교수 정보가 성공적으로 삭제되었습니다.");
             } else {
                 System.out.println("해당 ID의 교수를 찾을 수 없습니다.");
@@ -613,7 +751,8 @@ public class SchoolManagementMain {
             System.out.println("2. 성적 조회");
             System.out.println("3. 성적 수정");
             System.out.println("4. 성적 삭제");
-            System.out.println("5. 메인 메뉴로 가기");
+            System.out.println("5. 성적표(평점) 조회");
+            System.out.println("6. 메인 메뉴로 가기");
             System.out.println("=============================");
             System.out.print("메뉴 선택: ");
             int choice = scanner.nextInt();
@@ -633,6 +772,9 @@ public class SchoolManagementMain {
                     deleteTakes();
                     break;
                 case 5:
+                    displayTranscript();
+                    break;
+                case 6:
                     return;
                 default:
                     System.out.println("잘못된 입력입니다. 다시 선택해주세요.");
@@ -652,16 +794,14 @@ public class SchoolManagementMain {
         System.out.print("성적: ");
         String score = scanner.nextLine();
 
-        String sql = "INSERT INTO takes (student_id, class_id, score) VALUES (?, ?, ?)";
-        try (PreparedStatement pstmt =conn.prepareStatement(sql)) {
-            pstmt.setString(1, studentId);
-            pstmt.setString(2, classId);
-            pstmt.setString(3, score);
-            int rowsAffected = pstmt.executeUpdate();
-            if (rowsAffected > 0) {
+        try {
+            EnrollmentResult result = transcriptService.enroll(new Takes(studentId, classId, score));
+            if (result == EnrollmentResult.ENROLLED) {
                 System.out.println("성적이 성공적으로 등록되었습니다.");
+            } else if (result == EnrollmentResult.FULL) {
+                System.out.println("수업 정원이 가득 차서 등록할 수 없습니다.");
             } else {
-                System.out.println("성적 등록에 실패했습니다.");
+                System.out.println("성적 등록에 실패했습니다. 해당 수업이 존재하지 않습니다.");
             }
         } catch (SQLException e) {
             if (e instanceof SQLIntegrityConstraintViolationException) {
@@ -674,37 +814,30 @@ public class SchoolManagementMain {
 
     /**
      * 성적 목록 조회
+     * - 강좌명과 학점은 조인 대신 강좌 캐시에서 찾는다.
      */
     private static void displayTakes() {
-        String sql = "SELECT t.student_id, s.name student_name, r.course_id, r.name course_name, " +
-                "t.class_id, r.credit, c.year, c.semester, c.professor_id, p.name professor_name " +
-                "FROM takes t " +
-                "LEFT OUTER JOIN class c ON t.class_id=c.class_id " +
-                "LEFT OUTER JOIN course r ON c.course_id=r.course_id " +
-                "INNER JOIN student s ON t.student_id=s.student_id " +
-                "INNER JOIN professor p ON c.professor_id=p.professor_id ";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
+        try (Stream<TakesDetail> rows = takesDao.streamDetails()) {
 
             System.out.println("[등록된 성적 목록 조회]");
-            System.out.println("학생ID\t학생이름\t과목ID\t과목명\t수업ID\t학점\t년도\t학기\t교수ID\t교수이름");
-            System.out.println("-----------------------------------------------------------------------------------------------------------------");
-            while (rs.next()) {
-                String studentId = rs.getString("student_id");
-                String studentName = rs.getString("student_name");
-                String courseId = rs.getString("course_id");
-                String courseName = rs.getString("course_name");
-                String classId = rs.getString("class_id");
-                int credit = rs.getInt("credit");
-                int year = rs.getInt("year");
-                int semester = rs.getInt("semester");
-                String professorId = rs.getString("professor_id");
-                String professorName = rs.getString("professor_name");
-                System.out.println(studentId + "\t" + studentName + "\t" + courseId + "\t" +
-                        courseName + "\t" + classId + "\t" + credit + "\t" + year + "\t" +
-                        semester + "\t" +  professorId + "\t" + professorName);
+            ReportWriter report = ReportWriter.console(REPORT_FORMAT)
+                    .column("학생ID", 10).column("학생이름", 10).column("과목ID", 8).column("과목명", 16)
+                    .column("수업ID", 8).column("학점", 4).column("년도", 4).column("학기", 4)
+                    .column("교수ID", 8).column("교수이름", 10);
+            report.header();
+            Iterator<TakesDetail> it = rows.iterator();
+            while (it.hasNext()) {
+                TakesDetail takes = it.next();
+                Course course = courseDao.findById(takes.getCourseId());
+                String courseName = course == null ? null : course.getName();
+                int credit = course == null ? 0 : course.getCredit();
+                report.cell(takes.getStudentId()).cell(takes.getStudentName()).cell(takes.getCourseId())
+                        .cell(courseName).cell(takes.getClassId()).cell(credit).cell(takes.getYear())
+                        .cell(takes.getSemester()).cell(takes.getProfessorId()).cell(takes.getProfessorName())
+                        .endRow();
             }
-        } catch (SQLException e) {
+            report.flush();
+        } catch (SQLException | DataAccessException e) {
             e.printStackTrace();
         }
     }   // end of displayTakes
@@ -721,17 +854,8 @@ public class SchoolManagementMain {
         System.out.print("새 성적: ");
         String newScore = scanner.nextLine();
 
-        String sql =  "UPDATE takes " +
-                "SET score=? " +
-                "WHERE student_id=? " +
-                "AND class_id=? ";
-
-
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, newScore);
-            pstmt.setString(2, studentId);
-            pstmt.setString(3, classId);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = transcriptService.updateTakes(new Takes(studentId, classId, newScore));
             if (rowsAffected > 0) {
                 System.out.println("성적 정보가 성공적으로 업데이트 되었습니다.");
             } else {
@@ -746,6 +870,36 @@ public class SchoolManagementMain {
         }
     }
 
+    /**
+     * 성적표 조회
+     * - 학점 가중 평점(4.5 만점)과 학기별 취득 학점/평점을 출력한다.
+     */
+    private static void displayTranscript() {
+        System.out.println("[성적표 조회]");
+        System.out.print("학생 ID를 입력하세요: ");
+        String studentId = scanner.nextLine();
+
+        try {
+            Transcript transcript = transcriptService.getTranscript(studentId);
+            if (transcript.getCourseCount() == 0) {
+                System.out.println("해당 학생의 성적이 없습니다.");
+                return;
+            }
+            System.out.println("년도\t학기\t신청학점\t취득학점\t평점");
+            System.out.println("-----------------------------------------------");
+            for (SemesterSummary semester : transcript.getSemesters()) {
+                System.out.println(semester.getYear() + "\t" + semester.getSemester() + "\t" +
+                        semester.getAttemptedCredits() + "\t" + semester.getEarnedCredits() + "\t" +
+                        String.format("%.2f", semester.getGpa()));
+            }
+            System.out.println("-----------------------------------------------");
+            System.out.println("전체\t\t" + transcript.getAttemptedCredits() + "\t" +
+                    transcript.getEarnedCredits() + "\t" + String.format("%.2f", transcript.getGpa()));
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
     /**
      * 성적 정보 삭제
      */
@@ -756,11 +910,8 @@ public class SchoolManagementMain {
         System.out.print("삭제할 수업 ID를 입력하세요: ");
         String classId = scanner.nextLine();
 
-        String sql = "DELETE FROM takes WHERE class_id = ? AND student_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, studentId);
-            pstmt.setString(2, classId);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = transcriptService.deleteTakes(studentId, classId);
             if (rowsAffected > 0) {
                 System.out.println("성적 정보가 성공적으로 삭제되었습니다.");
             } else {
@@ -828,14 +979,8 @@ public class SchoolManagementMain {
             description = "";
         }
 
-        String sql = "INSERT INTO course(course_id, name, credit, description) " +
-                "VALUES (?, ?, ?, NVL(?, ''))"; // NVL 함수로 NULL 처리
-        try (PreparedStatement pstmt =conn.prepareStatement(sql)) {
-            pstmt.setString(1, courseId);
-            pstmt.setString(2, name);
-            pstmt.setInt(3, credit);
-            pstmt.setString(4, description);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = courseDao.insert(new Course(courseId, name, credit, description));
             if (rowsAffected > 0) {
                 System.out.println("강좌가 성공적으로 등록되었습니다.");
             } else {
@@ -855,16 +1000,15 @@ public class SchoolManagementMain {
      */
     private static void displayCourses() {
         System.out.println("[등록된 강좌 목록 조회]");
-        String sql = "select * from course";
-        try (PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
-            while (rs.next()) {
-                String courseId = rs.getString("course_id");
-                String name = rs.getString("name");
-                int credit = rs.getInt("credit");
-                String description = rs.getString("description");
-                System.out.println(courseId + "\t" + name + "\t" + credit + "\t" + description);
+        try {
+            ReportWriter report = ReportWriter.console(REPORT_FORMAT)
+                    .column("강좌ID", 8).column("강좌명", 20).column("학점", 4).column("설명", 30);
+            report.header();
+            for (Course course : courseDao.findAll()) {
+                report.cell(course.getCourseId()).cell(course.getName()).cell(course.getCredit())
+                        .cell(course.getDescription()).endRow();
             }
+            report.flush();
         } catch (SQLException e) {
             e.printStackTrace();
         }
@@ -890,16 +1034,9 @@ public class SchoolManagementMain {
             description = "";
         }
 
-        String sql = "UPDATE course " +
-                "SET name = ?, credit = ?, description = NVL(?, '') " +
-                "WHERE course_id = ?";
-
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, name);
-            pstmt.setInt(2, credit);
-            pstmt.setString(3, description);
-            pstmt.setString(4, id);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = courseDao.update(new Course(id, name, credit, description));
+            transcriptService.invalidateAll();  // 학점이 바뀌었을 수 있으므로 평점 집계를 다시 읽게 한다.
             if (rowsAffected > 0) {
                 System.out.println("강좌 정보가 성공적으로 수정되었습니다.");
             } else {
@@ -918,11 +1055,8 @@ public class SchoolManagementMain {
         System.out.print("삭제할 강의의 ID: ");
         String id = scanner.nextLine();
 
-        String sql = "DELETE FROM course WHERE course_id = ?";
-
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, id);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = courseDao.delete(id);
             if (rowsAffected > 0) {
                 System.out.println("강좌가 성공적으로 삭제되었습니다.");
             } else {
@@ -992,17 +1126,9 @@ public class SchoolManagementMain {
         int enroll = scanner.nextInt();
         scanner.nextLine();
 
-        String sql = "INSERT INTO class(class_id, course_id, year, semester, professor_id, classroom, enroll) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt =conn.prepareStatement(sql)) {
-            pstmt.setString(1, classId);
-            pstmt.setString(2, courseId);
-            pstmt.setInt(3, year);
-            pstmt.setString(4, semester);
-            pstmt.setString(5, professorId);
-            pstmt.setString(6, classroom);
-            pstmt.setInt(7, enroll);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = classDao.insert(new CourseClass(classId, courseId, year, semester,
+                    professorId, classroom, enroll));
             if (rowsAffected > 0) {
                 System.out.println("수업이 성공적으로 등록되었습니다.");
             } else {
@@ -1072,19 +1198,9 @@ public class SchoolManagementMain {
         int enroll = scanner.nextInt();
         scanner.nextLine(); // 버퍼 비욱
 
-        String sql = "UPDATE course " +
-                "SET class_id = ?, course_id = ?, year = ?, semester = ?, professor_id = ?, classroom = ?, enroll = ? " +
-                "WHERE class_id = ?";
-
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, id);
-            pstmt.setString(2, courseId);
-            pstmt.setInt(3, year);
-            pstmt.setString(4, semester);
-            pstmt.setString(5, professorId);
-            pstmt.setString(6, classroom);
-            pstmt.setInt(7, enroll);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = classDao.update(new CourseClass(id, courseId, year, semester,
+                    professorId, classroom, enroll));
             if (rowsAffected > 0) {
                 System.out.println("수업 정보가 성공적으로 수정되었습니다.");
             } else {
@@ -1103,11 +1219,8 @@ public class SchoolManagementMain {
         System.out.print("삭제할 수업 ID: ");
         String id = scanner.nextLine();
 
-        String sql = "DELETE FROM class WHERE class_id = ?";
-
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, id);
-            int rowsAffected = pstmt.executeUpdate();
+        try {
+            int rowsAffected = classDao.delete(id);
             if (rowsAffected > 0) {
                 System.out.println("수업이 성공적으로 삭제되었습니다.");
             } else {
@@ -1118,6 +1231,26 @@ public class SchoolManagementMain {
         }
     }
 
+    /**
+     * 성능 지표 출력
+     * - DAO 메서드별 호출 수, 오류 수, 처리 행 수, 지연 시간(평균, p50/p95/p99, 최대, 마이크로초)
+     *   (커넥션 풀이 문장 실행마다 기록한다. 서버를 띄웠으면 HTTP 경로별 지표도 함께 나온다)
+     * - connection.borrow는 커넥션 풀 대여 대기 시간이다.
+     * - 같은 값을 JMX(com.javalab.school:type=Operation)로도 볼 수 있다.
+     */
+    private static void displayMetrics() {
+        System.out.println("[성능 지표]");
+        Metrics.dump(System.out);
+        System.out.println(DatabaseConnection.getPool().getMetrics());
+        StudentKeyFilter keyFilter = StudentKeyFilter.shared();
+        if (keyFilter != null) {
+            System.out.println(keyFilter);
+        }
+        if (transcriptService.getScoreBuffer() != null) {
+            System.out.println(transcriptService.getScoreBuffer());
+        }
+    }
+
     /**
      * PreparedStatement 객체를 닫는 메소드
      */
@@ -1146,18 +1279,17 @@ public class SchoolManagementMain {
         close(rs);
     }
 
-
     /**
      * 프로그램 종료
      * - 데이터베이스 연결을 닫고 프로그램을 종료한다.
      */
     public static void exit() {
-        if(conn != null) {  // 커넥션 객체가 사용중이면 닫기
-            try {
-                conn.close();
-            } catch (SQLException e) {
-            }
+        try {
+            transcriptService.close();  // 쓰기 지연 모드에서 모인 점수 수정 반영
+        } catch (SQLException e) {
+            e.printStackTrace();    // 반영하지 못한 수정은 저널에 남아 다음 실행 때 반영된다.
         }
+        DatabaseConnection.shutdown();  // 커넥션 풀 종료
         if(scanner != null) {   // Scanner 객체가 사용중이면 닫기
             scanner.close();
         }
@@ -1,10 +1,7 @@
 package com.javalab.school.execution02;
 
-import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.dao.StudentDao;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Scanner;
 
@@ -14,30 +11,19 @@ import java.util.Scanner;
 public class StudentDelete {
     // 오라클 DB에 접속해서 하기 위한 정보
     public static void main(String[] args) {
-        Connection conn = null;
         Scanner scanner = new Scanner(System.in);
-        conn = DatabaseConnection.getConnection();
-        deleteStudent(conn, scanner);
+        StudentDao studentDao = new StudentDao(); // 학생 DAO가 커넥션 풀에서 커넥션을 얻어 처리
+        deleteStudent(studentDao, scanner);
 
     } // end of main
 
-    private static void deleteStudent(Connection conn, Scanner scanner) {
-        PreparedStatement pstmt = null;
+    private static void deleteStudent(StudentDao studentDao, Scanner scanner) {
         try {
             System.out.println("삭제할 학생의 ID를 입력하세요: ");
             String id = scanner.nextLine();
 
-            // SQL 쿼리문 작성
-            String sql = "DELETE FROM student WHERE student_id = ?";
-
-            // PreparedStatement 생성
-            pstmt = conn.prepareStatement(sql);
-
-            // PreparedStatement에 파라미터 설정
-            pstmt.setString(1, id);
-
             // SQL 실행
-            int rowsDeleted = pstmt.executeUpdate();
+            int rowsDeleted = studentDao.delete(id);
 
             if (rowsDeleted > 0) {
                 System.out.println("학생 정보가 성공적으로 삭제되었습니다.");
@@ -46,15 +32,6 @@ public class StudentDelete {
             }
         } catch (SQLException e) {
             e.printStackTrace();
-        } finally {
-            // PreparedStatement 및 Connection 닫기
-            if (pstmt != null) {
-                try {
-                    pstmt.close();
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
         }
     }
 
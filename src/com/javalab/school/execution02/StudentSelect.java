@@ -1,55 +1,62 @@
 package com.javalab.school.execution02;
 
-import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.dao.Page;
+import com.javalab.school.dao.StudentDao;
 import com.javalab.school.domain.Student;
+import com.javalab.school.snapshot.StudentDirectory;
 
-import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.SQLException;
 
 /**
  * 학생 목록을 조회하는 프로그램
+ * - --directory[=파일경로] 옵션을 주면 DB 대신 학생 명부 파일(StudentDirectory)에서 읽는다.
  */
 public class StudentSelect {
+    // 한 번에 조회할 학생 수
+    private static final int PAGE_SIZE = 500;
+
     public static void main(String[] args) {
-        Connection conn = null;
-        conn = DatabaseConnection.getConnection(); // 커넥션 전담 객체에서 커넥션 얻기
-        displayStudents(conn); // 학생 조회 메소드 호출
+        for (String arg : args) {
+            if (arg.startsWith("--directory")) {
+                String path = arg.startsWith("--directory=") ? arg.substring("--directory=".length())
+                        : StudentDirectory.DEFAULT_PATH;
+                displayStudents(path);
+                return;
+            }
+        }
+        StudentDao studentDao = new StudentDao(); // 학생 DAO가 커넥션 풀에서 커넥션을 얻어 처리
+        displayStudents(studentDao); // 학생 조회 메소드 호출
     } // end of main
 
-    private static void displayStudents(Connection conn) {
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
+    private static void displayStudents(StudentDao studentDao) {
         try  {
-            String sql = "SELECT s.student_id, s.name, s.year, s.address, s.department_id " +
-                    "FROM student s " +
-                    "ORDER BY s.student_id";
-
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-
             System.out.println("등록된 학생 목록:");
-            while (rs.next()) {
-                String studentId = rs.getString("student_id");
-                String name = rs.getString("name");
-                int year = rs.getInt("year");
-                String address = rs.getString("address");
-                int departmentId = rs.getInt("department_id");
-                System.out.println(studentId + "\t" + name + "\t" + year + "\t" + address + "\t" + departmentId);
-            }
+            // 학번순으로 PAGE_SIZE명씩 나누어 조회(다음 페이지는 앞 페이지의 커서 이후부터)
+            String cursor = null;
+            do {
+                Page<Student> page = studentDao.findPage(cursor, PAGE_SIZE);
+                for (Student student : page.getItems()) {
+                    System.out.println(student.getStudentId() + "\t" + student.getName() + "\t" + student.getYear() + "\t"
+                            + student.getAddress() + "\t" + student.getDepartmentId());
+                }
+                cursor = page.getNextCursor();
+            } while (cursor != null);
         } catch (SQLException e) {
             e.printStackTrace();
-        }finally {
-            try {
-                // 자원 해제 - 자원이 가장 늦게 만들어진 순서로 해제
-                // ResultSet 해제
-                if (rs != null) rs.close();
-                // PreparedStatement 해제
-                if(pstmt != null) pstmt.close();
-            } catch (SQLException e) {
-                e.printStackTrace();
-            }
         }
         System.out.println("-----------------------------------------------------------------------");
     } // end of displayStudents
+
+    private static void displayStudents(String path) {
+        try (StudentDirectory directory = StudentDirectory.open(Paths.get(path))) {
+            System.out.println("등록된 학생 목록(명부 파일):");
+            directory.forEach(row -> System.out.println(directory.studentId(row) + "\t" + directory.name(row) + "\t"
+                    + directory.year(row) + "\t" + directory.address(row) + "\t" + directory.departmentId(row)));
+        } catch (IOException e) {
+            System.out.println("학생 명부 파일을 열 수 없습니다. StudentDirectory refresh로 먼저 만들어 주세요: " + path);
+        }
+        System.out.println("-----------------------------------------------------------------------");
+    }
 }   // end of class
\ No newline at end of file
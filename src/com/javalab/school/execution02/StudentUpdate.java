@@ -1,10 +1,8 @@
 package com.javalab.school.execution02;
 
-import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.domain.Student;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Scanner;
 
@@ -14,15 +12,12 @@ import java.util.Scanner;
 public class StudentUpdate {
     // 오라클 DB에 접속해서 하기 위한 정보
     public static void main(String[] args) {
-        Connection conn = null;
         Scanner scanner = new Scanner(System.in);
-        conn = DatabaseConnection.getConnection();
-        updateStudent(conn, scanner);
+        StudentDao studentDao = new StudentDao(); // 학생 DAO가 커넥션 풀에서 커넥션을 얻어 처리
+        updateStudent(studentDao, scanner);
     } // end of main
 
-    private static void updateStudent(Connection conn, Scanner scanner) {
-        // PreparedStatement 객체 선언
-        PreparedStatement pstmt = null;
+    private static void updateStudent(StudentDao studentDao, Scanner scanner) {
         try {
             System.out.println("수정할 학생의 ID를 입력하세요: ");
             String id = scanner.nextLine();
@@ -40,20 +35,8 @@ public class StudentUpdate {
             int departmentId = scanner.nextInt();
             scanner.nextLine(); // 개행 문자 처리
 
-            // SQL 쿼리문 작성
-            String sql = "UPDATE student SET jumin = ?, name = ?, year = ?, address = ?, department_id = ? WHERE student_id = ?";
-            pstmt = conn.prepareStatement(sql);
-
-            // PreparedStatement에 파라미터 설정
-            pstmt.setString(1, jumin);
-            pstmt.setString(2, name);
-            pstmt.setInt(3, year);
-            pstmt.setString(4, address);
-            pstmt.setInt(5, departmentId);
-            pstmt.setString(6, id);
-
             // SQL 실행
-            int rowsUpdated = pstmt.executeUpdate();
+            int rowsUpdated = studentDao.update(new Student(id, jumin, name, year, address, departmentId));
 
             if (rowsUpdated > 0) {
                 System.out.println("학생 정보가 성공적으로 업데이트 되었습니다.");
@@ -62,8 +45,6 @@ public class StudentUpdate {
             }
         } catch (SQLException e) {
             e.printStackTrace();
-        }finally{
-
         }
     }
 }
\ No newline at end of file
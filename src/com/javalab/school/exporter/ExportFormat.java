@@ -0,0 +1,131 @@
+package com.javalab.school.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 파트 파일 형식
+ * - CSV: 첫 줄이 컬럼 이름. 쉼표, 큰따옴표, 줄바꿈이 있는 값은 큰따옴표로 감싼다(CsvReader로 다시 읽을 수 있다).
+ *   NULL은 빈 필드로 쓴다.
+ * - JSONL: 한 줄에 JSON 객체 하나. 숫자 컬럼은 숫자로, NULL은 null로 쓴다.
+ */
+public enum ExportFormat {
+
+    CSV("csv") {
+        @Override
+        void writeHeader(Writer out, String[] columns) throws IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(columns[i]);
+            }
+            out.write('\n');
+        }
+
+        @Override
+        void writeRow(Writer out, String[] columns, String[] values, boolean[] numeric) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                if (needsQuote(value)) {
+                    out.write('"');
+                    out.write(value.replace("\"", "\"\""));
+                    out.write('"');
+                } else {
+                    out.write(value);
+                }
+            }
+            out.write('\n');
+        }
+    },
+
+    JSONL("jsonl") {
+        @Override
+        void writeHeader(Writer out, String[] columns) {
+            // 컬럼 이름은 행마다 쓴다.
+        }
+
+        @Override
+        void writeRow(Writer out, String[] columns, String[] values, boolean[] numeric) throws IOException {
+            out.write('{');
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write('"');
+                out.write(columns[i]);
+                out.write("\":");
+                String value = values[i];
+                if (value == null) {
+                    out.write("null");
+                } else if (numeric[i]) {
+                    out.write(value);
+                } else {
+                    writeJsonString(out, value);
+                }
+            }
+            out.write("}\n");
+        }
+    };
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    abstract void writeHeader(Writer out, String[] columns) throws IOException;
+
+    abstract void writeRow(Writer out, String[] columns, String[] values, boolean[] numeric) throws IOException;
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void writeJsonString(Writer out, String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+}
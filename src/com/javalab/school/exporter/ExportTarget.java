@@ -0,0 +1,90 @@
+package com.javalab.school.exporter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 내보내기 대상 테이블 정의
+ * - 테이블 이름, 구간을 나눌 키 컬럼(기본키의 첫 컬럼), 내보낼 컬럼 목록을 묶어 둔다.
+ * - 성적(takes)은 학번으로 나누므로 한 학생의 성적은 한 파트 파일에 모인다.
+ */
+public final class ExportTarget {
+
+    public static final ExportTarget DEPARTMENT = new ExportTarget("department", "department_id",
+            "department_id", "name", "office");
+    public static final ExportTarget PROFESSOR = new ExportTarget("professor", "professor_id",
+            "professor_id", "jumin", "name", "department_id", "grade", "hiredate");
+    public static final ExportTarget STUDENT = new ExportTarget("student", "student_id",
+            "student_id", "jumin", "name", "year", "address", "department_id");
+    public static final ExportTarget COURSE = new ExportTarget("course", "course_id",
+            "course_id", "name", "credit", "description");
+    public static final ExportTarget CLASS = new ExportTarget("class", "class_id",
+            "class_id", "course_id", "year", "semester", "professor_id", "classroom", "enroll");
+    public static final ExportTarget TAKES = new ExportTarget("takes", "student_id",
+            "student_id", "class_id", "score");
+
+    /**
+     * 테이블 이름 → 대상
+     */
+    public static final Map<String, ExportTarget> TARGETS;
+
+    static {
+        Map<String, ExportTarget> targets = new LinkedHashMap<>();
+        for (ExportTarget target : new ExportTarget[]{DEPARTMENT, PROFESSOR, STUDENT, COURSE, CLASS, TAKES}) {
+            targets.put(target.getTable(), target);
+        }
+        TARGETS = Collections.unmodifiableMap(targets);
+    }
+
+    private final String table;
+    private final String keyColumn;
+    private final String[] columns;
+
+    private ExportTarget(String table, String keyColumn, String... columns) {
+        this.table = table;
+        this.keyColumn = keyColumn;
+        this.columns = columns;
+    }
+
+    public String getTable() {
+        return table;
+    }
+    public String getKeyColumn() {
+        return keyColumn;
+    }
+    public String[] getColumns() {
+        return columns.clone();
+    }
+
+    /**
+     * 키 구간을 나누는 경계값 조회: 키 순서로 shards개 묶음을 만들고 묶음마다 가장 큰 키를 구한다.
+     * - 키 인덱스만 한 번 훑으면 된다.
+     */
+    String boundarySql() {
+        return "SELECT MAX(" + keyColumn + ") FROM (SELECT " + keyColumn + ", NTILE(?) OVER (ORDER BY " + keyColumn
+                + ") shard FROM " + table + ") GROUP BY shard ORDER BY 1";
+    }
+
+    /**
+     * 키 구간 하나의 조회: lower < key <= upper (첫 구간은 아래 경계, 마지막 구간은 위 경계가 없다)
+     */
+    String selectSql(boolean hasLower, boolean hasUpper) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", columns)).append(" FROM ").append(table);
+        if (hasLower || hasUpper) {
+            sql.append(" WHERE ");
+        }
+        if (hasLower) {
+            sql.append(keyColumn).append(" > ?");
+        }
+        if (hasUpper) {
+            sql.append(hasLower ? " AND " : "").append(keyColumn).append(" <= ?");
+        }
+        return sql.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ExportTarget [table=" + table + ", keyColumn=" + keyColumn + "]";
+    }
+}
@@ -0,0 +1,83 @@
+package com.javalab.school.exporter;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 구간(파트 파일) 하나의 내보내기 결과
+ */
+public final class ShardReport {
+
+    private final String table;
+    private final int index;
+    private final Object lower;     // 포함하지 않는 아래 경계(null이면 처음부터)
+    private final Object upper;     // 포함하는 위 경계(null이면 끝까지)
+    private final Path file;
+    private long rows;
+    private long bytes;
+    private long elapsedNanos;
+    private String error;
+
+    ShardReport(String table, int index, Object lower, Object upper, Path file) {
+        this.table = table;
+        this.index = index;
+        this.lower = lower;
+        this.upper = upper;
+        this.file = file;
+    }
+
+    void finish(long rows, long bytes, long elapsedNanos) {
+        this.rows = rows;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    void fail(Exception e, long elapsedNanos) {
+        this.error = e.toString();
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getTable() {
+        return table;
+    }
+    public int getIndex() {
+        return index;
+    }
+    public Object getLower() {
+        return lower;
+    }
+    public Object getUpper() {
+        return upper;
+    }
+    public Path getFile() {
+        return file;
+    }
+    public long getRows() {
+        return rows;
+    }
+    public long getBytes() {
+        return bytes;
+    }
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * 1e9 / elapsedNanos;
+    }
+    public boolean isFailed() {
+        return error != null;
+    }
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        String range = "(" + (lower == null ? "" : lower) + ", " + (upper == null ? "" : upper) + "]";
+        if (error != null) {
+            return String.format("%s#%d %s 실패: %s", table, index, range, error);
+        }
+        return String.format("%s#%d %s %d행 %d바이트 %dms (%.0f행/초)", table, index, range, rows, bytes,
+                getElapsedMillis(), getRowsPerSecond());
+    }
+}
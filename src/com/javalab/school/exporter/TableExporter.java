@@ -0,0 +1,302 @@
+package com.javalab.school.exporter;
+
+import com.javalab.school.dao.DatabaseConnection;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 테이블 병렬 내보내기 프로그램
+ * - 테이블마다 키 컬럼을 기준으로 shards개의 구간을 나누고(NTILE), 구간마다 따로 커넥션을 대여해 동시에 읽는다.
+ * - 구간 하나를 gzip으로 압축한 파트 파일 하나로 쓴다. 예) out/student/part-00003.csv.gz
+ * - 모든 파트 파일의 구간, 행 수, 크기, 처리 속도를 out/manifest.json에 기록한다.
+ * - 작업 스레드마다 커넥션을 하나씩 쓰므로 풀의 maxSize는 workers 이상이어야 한다.
+ * - 구간마다 다른 시점에 읽으므로 내보내는 동안 변경된 행은 한 시점의 스냅샷과 다를 수 있다.
+ *   (야간처럼 변경이 없는 시간에 실행한다)
+ * - 실행 예)
+ *   java com.javalab.school.exporter.TableExporter --out=export --workers=4 --shards=8 --format=jsonl student takes
+ *   (테이블을 주지 않으면 전체: department, professor, student, course, class, takes)
+ */
+public class TableExporter {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final int workers;
+    private final int shards;
+    private final ExportFormat format;
+
+    public TableExporter(int workers, int shards, ExportFormat format) {
+        if (workers <= 0 || shards <= 0) {
+            throw new IllegalArgumentException("workers와 shards는 1 이상이어야 합니다.");
+        }
+        this.workers = workers;
+        this.shards = shards;
+        this.format = format;
+    }
+
+    public static void main(String[] args) {
+        Path outDir = Paths.get("export");
+        int workers = 4;
+        int shards = 8;
+        ExportFormat format = ExportFormat.CSV;
+        List<ExportTarget> targets = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--out=")) {
+                outDir = Paths.get(arg.substring("--out=".length()));
+            } else if (arg.startsWith("--workers=")) {
+                workers = Integer.parseInt(arg.substring("--workers=".length()));
+            } else if (arg.startsWith("--shards=")) {
+                shards = Integer.parseInt(arg.substring("--shards=".length()));
+            } else if (arg.startsWith("--format=")) {
+                format = ExportFormat.valueOf(arg.substring("--format=".length()).toUpperCase(Locale.ROOT));
+            } else if (ExportTarget.TARGETS.containsKey(arg.toLowerCase(Locale.ROOT))) {
+                targets.add(ExportTarget.TARGETS.get(arg.toLowerCase(Locale.ROOT)));
+            } else {
+                System.out.println("사용법: TableExporter [--out=export] [--workers=4] [--shards=8] [--format=csv|jsonl] [테이블...]");
+                System.out.println("테이블: " + ExportTarget.TARGETS.keySet());
+                return;
+            }
+        }
+        if (targets.isEmpty()) {
+            targets.addAll(ExportTarget.TARGETS.values());
+        }
+
+        TableExporter exporter = new TableExporter(workers, shards, format);
+        try {
+            long start = System.nanoTime();
+            List<ShardReport> reports = exporter.export(targets, outDir);
+            long rows = 0;
+            for (ShardReport report : reports) {
+                System.out.println(report);
+                rows += report.getRows();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(String.format("전체 %d행, %.1f초 (%.0f행/초), manifest: %s", rows, seconds,
+                    rows / seconds, outDir.resolve("manifest.json")));
+        } catch (IOException | SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DatabaseConnection.shutdown();
+        }
+    }
+
+    /**
+     * 테이블들을 구간으로 나누어 병렬로 내보내고 manifest.json을 쓴다.
+     * - 모든 테이블의 구간을 한 작업 스레드 풀에 넣으므로 작은 테이블이 큰 테이블을 기다리지 않는다.
+     * @return 파트 파일별 결과(테이블, 구간 순)
+     */
+    public List<ShardReport> export(List<ExportTarget> targets, Path outDir) throws IOException, SQLException {
+        List<ShardReport> reports = new ArrayList<>();
+        List<ExportTarget> reportTargets = new ArrayList<>();
+        for (ExportTarget target : targets) {
+            Path tableDir = outDir.resolve(target.getTable());
+            Files.createDirectories(tableDir);
+            deleteParts(tableDir);
+            List<Object> boundaries = boundaries(target);
+            for (int i = 0; i <= boundaries.size(); i++) {
+                Object lower = i == 0 ? null : boundaries.get(i - 1);
+                Object upper = i == boundaries.size() ? null : boundaries.get(i);
+                Path file = tableDir.resolve(String.format("part-%05d.%s.gz", i, format.getExtension()));
+                reports.add(new ShardReport(target.getTable(), i, lower, upper, file));
+                reportTargets.add(target);
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < reports.size(); i++) {
+                ShardReport report = reports.get(i);
+                ExportTarget target = reportTargets.get(i);
+                futures.add(executor.submit(() -> exportShard(target, report)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("내보내기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            throw new IOException("내보내기 작업 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        writeManifest(outDir, reports);
+        return reports;
+    }
+
+    /**
+     * 구간 경계값(각 구간의 가장 큰 키). 마지막 구간의 경계는 필요 없으므로 뺀다.
+     * - 한 키에 행이 몰려 같은 경계가 나오면 하나로 합친다.
+     */
+    private List<Object> boundaries(ExportTarget target) throws SQLException {
+        List<Object> boundaries = new ArrayList<>();
+        if (shards == 1) {
+            return boundaries;
+        }
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(target.boundarySql())) {
+            pstmt.setInt(1, shards);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Object boundary = rs.getObject(1);
+                    if (boundary != null && (boundaries.isEmpty()
+                            || !boundary.equals(boundaries.get(boundaries.size() - 1)))) {
+                        boundaries.add(boundary);
+                    }
+                }
+            }
+        }
+        if (!boundaries.isEmpty()) {
+            boundaries.remove(boundaries.size() - 1);
+        }
+        return boundaries;
+    }
+
+    /**
+     * 구간 하나를 읽어 파트 파일로 쓴다. 실패하면 결과에 기록하고 파일을 지운다.
+     */
+    private void exportShard(ExportTarget target, ShardReport report) {
+        long start = System.nanoTime();
+        String[] columns = target.getColumns();
+        Object lower = report.getLower();
+        Object upper = report.getUpper();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(target.selectSql(lower != null, upper != null))) {
+            int index = 1;
+            if (lower != null) {
+                pstmt.setObject(index++, lower);
+            }
+            if (upper != null) {
+                pstmt.setObject(index, upper);
+            }
+            pstmt.setFetchSize(FETCH_SIZE);
+            long rows = 0;
+            try (ResultSet rs = pstmt.executeQuery();
+                 Writer out = open(report.getFile())) {
+                boolean[] numeric = numericColumns(rs.getMetaData());
+                String[] values = new String[columns.length];
+                format.writeHeader(out, columns);
+                while (rs.next()) {
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = rs.getString(i + 1);
+                    }
+                    format.writeRow(out, columns, values, numeric);
+                    rows++;
+                }
+            }
+            report.finish(rows, Files.size(report.getFile()), System.nanoTime() - start);
+        } catch (SQLException | IOException | RuntimeException e) {
+            report.fail(e, System.nanoTime() - start);
+            try {
+                Files.deleteIfExists(report.getFile());
+            } catch (IOException ignored) {
+                // 다음 실행 때 지운다.
+            }
+        }
+    }
+
+    private static Writer open(Path file) throws IOException {
+        OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE),
+                BUFFER_SIZE);
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static boolean[] numericColumns(ResultSetMetaData meta) throws SQLException {
+        boolean[] numeric = new boolean[meta.getColumnCount()];
+        for (int i = 0; i < numeric.length; i++) {
+            switch (meta.getColumnType(i + 1)) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                case Types.BIGINT:
+                case Types.DECIMAL:
+                case Types.NUMERIC:
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    numeric[i] = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return numeric;
+    }
+
+    /**
+     * 이전 실행의 파트 파일을 지운다(구간 수가 달라졌을 때 남은 파일이 섞이지 않게).
+     */
+    private static void deleteParts(Path tableDir) throws IOException {
+        try (DirectoryStream<Path> parts = Files.newDirectoryStream(tableDir, "part-*.gz")) {
+            for (Path part : parts) {
+                Files.delete(part);
+            }
+        }
+    }
+
+    /**
+     * manifest.json: 내보낸 시각, 형식, 파트 파일별 구간과 행 수, 크기, 처리 속도
+     */
+    private void writeManifest(Path outDir, List<ShardReport> reports) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"exportedAt\": \"").append(LocalDateTime.now()).append("\",\n")
+                .append("  \"format\": \"").append(format.getExtension()).append("\",\n")
+                .append("  \"compression\": \"gzip\",\n")
+                .append("  \"parts\": [");
+        for (int i = 0; i < reports.size(); i++) {
+            ShardReport report = reports.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                    .append("    {\"table\": \"").append(report.getTable()).append('"')
+                    .append(", \"file\": \"").append(outDir.relativize(report.getFile()).toString().replace('\\', '/'))
+                    .append('"')
+                    .append(", \"lower\": ").append(jsonValue(report.getLower()))
+                    .append(", \"upper\": ").append(jsonValue(report.getUpper()))
+                    .append(", \"rows\": ").append(report.getRows())
+                    .append(", \"bytes\": ").append(report.getBytes())
+                    .append(", \"elapsedMillis\": ").append(report.getElapsedMillis())
+                    .append(", \"rowsPerSecond\": ").append(Math.round(report.getRowsPerSecond()));
+            if (report.isFailed()) {
+                json.append(", \"error\": ").append(jsonValue(report.getError()));
+            }
+            json.append('}');
+        }
+        json.append("\n  ]\n}\n");
+        Files.write(outDir.resolve("manifest.json"), json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String jsonValue(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        return '"' + value.toString().replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
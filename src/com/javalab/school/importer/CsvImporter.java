@@ -0,0 +1,240 @@
+package com.javalab.school.importer;
+
+import com.javalab.school.dao.BatchResult;
+import com.javalab.school.dao.DatabaseConnection;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 일괄 가져오기 프로그램
+ * - CSV 파일을 한 레코드씩 읽어 도메인 객체(Department, Professor, Student, Takes)로 바꾸고,
+ *   묶음(batchSize) 단위로 여러 작업 스레드에 넘겨 일괄 등록(insertAll)한다.
+ * - 작업 스레드마다 커넥션 풀에서 커넥션을 따로 대여하므로 풀의 maxSize는 workers 이상이어야 한다.
+ * - 읽기와 등록 사이의 큐 크기가 정해져 있어 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ * - 실행 예)
+ *   java com.javalab.school.importer.CsvImporter --workers=4 --batch=1000 \
+ *        department=dept.csv professor=prof.csv student=student.csv takes=takes.csv
+ *   (테이블은 입력 순서와 관계없이 학과 → 교수 → 학생 → 성적 순으로 가져온다.)
+ * - -Dschool.cache.keyFilter=true로 실행하면 학생 파일의 중복 학번/주민번호 행을 묶음 실행 전에 걸러 내어
+ *   묶음 롤백과 한 행씩 재실행을 피한다. (StudentKeyFilter)
+ */
+public class CsvImporter {
+
+    private final int workers;
+    private final int batchSize;
+
+    public CsvImporter(int workers, int batchSize) {
+        if (workers <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("workers와 batchSize는 1 이상이어야 합니다.");
+        }
+        this.workers = workers;
+        this.batchSize = batchSize;
+    }
+
+    public static void main(String[] args) {
+        int workers = 4;
+        int batchSize = 1000;
+        Map<String, Path> files = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--workers=")) {
+                workers = Integer.parseInt(arg.substring("--workers=".length()));
+            } else if (arg.startsWith("--batch=")) {
+                batchSize = Integer.parseInt(arg.substring("--batch=".length()));
+            } else if (arg.indexOf('=') > 0) {
+                String table = arg.substring(0, arg.indexOf('=')).toLowerCase();
+                if (!ImportTarget.TARGETS.containsKey(table)) {
+                    System.out.println("알 수 없는 테이블입니다: " + table);
+                    return;
+                }
+                files.put(table, Paths.get(arg.substring(arg.indexOf('=') + 1)));
+            }
+        }
+        if (files.isEmpty()) {
+            System.out.println("사용법: CsvImporter [--workers=4] [--batch=1000] 테이블=파일.csv ...");
+            System.out.println("테이블: " + ImportTarget.TARGETS.keySet());
+            return;
+        }
+
+        CsvImporter importer = new CsvImporter(workers, batchSize);
+        try {
+            // 외래키 순서대로 가져오기
+            for (Map.Entry<String, ImportTarget<?>> entry : ImportTarget.TARGETS.entrySet()) {
+                Path file = files.get(entry.getKey());
+                if (file != null) {
+                    System.out.println(importer.importFile(entry.getValue(), file));
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            DatabaseConnection.shutdown();
+        }
+    }
+
+    /**
+     * CSV 파일 하나를 대상 테이블로 가져온다.
+     * - 첫 줄이 컬럼 이름이면 머리글로 보고 건너뛴다.
+     * - 거부된 행은 "파일명.rejected.csv"에 기록한다.
+     */
+    public <T> ImportReport importFile(ImportTarget<T> target, Path file) throws IOException {
+        Path rejectFile = Paths.get(file.toString() + ".rejected.csv");
+        Files.deleteIfExists(rejectFile);
+        BlockingQueue<Chunk<T>> queue = new ArrayBlockingQueue<>(workers * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try (ImportReport report = new ImportReport(target.getTable(), rejectFile);
+             CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> insertChunks(target, queue, report));
+            }
+            try {
+                readChunks(target, reader, queue, report);
+            } finally {
+                // 작업 스레드 수만큼 종료 신호를 넣는다.
+                for (int i = 0; i < workers; i++) {
+                    putQuietly(queue, Chunk.end());
+                }
+                executor.shutdown();
+                awaitQuietly(executor);
+            }
+            report.finish();
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 파일을 읽어 batchSize개씩 묶은 뒤 큐에 넣는다. 큐가 가득 차면 작업 스레드가 처리할 때까지 기다린다.
+     */
+    private <T> void readChunks(ImportTarget<T> target, CsvReader reader, BlockingQueue<Chunk<T>> queue,
+                                ImportReport report) throws IOException {
+        Chunk<T> chunk = new Chunk<>(batchSize);
+        boolean first = true;
+        String[] fields;
+        while ((fields = reader.next()) != null) {
+            if (first) {
+                first = false;
+                if (target.isHeader(fields)) {
+                    continue;
+                }
+            }
+            report.addRead();
+            String[] raw = fields.clone();
+            try {
+                chunk.add(reader.getLineNumber(), target.map(fields), raw);
+            } catch (IllegalArgumentException e) {
+                report.reject(reader.getLineNumber(), e.getMessage(), raw);
+                continue;
+            }
+            if (chunk.size() == batchSize) {
+                putQuietly(queue, chunk);
+                chunk = new Chunk<>(batchSize);
+            }
+        }
+        if (chunk.size() > 0) {
+            putQuietly(queue, chunk);
+        }
+    }
+
+    /**
+     * 작업 스레드: 큐에서 묶음을 꺼내 일괄 등록하고 실패한 행을 보고서에 기록한다.
+     */
+    private <T> void insertChunks(ImportTarget<T> target, BlockingQueue<Chunk<T>> queue, ImportReport report) {
+        while (true) {
+            Chunk<T> chunk;
+            try {
+                chunk = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (chunk.isEnd()) {
+                return;
+            }
+            try {
+                BatchResult<T> result = target.insertAll(chunk.items, batchSize);
+                report.addInserted(result.getSuccessCount());
+                for (BatchResult.Failure<T> failure : result.getFailures()) {
+                    int i = (int) failure.getIndex();
+                    report.reject(chunk.lineNumbers.get(i), failure.getCause().getMessage(), chunk.rawFields.get(i));
+                }
+            } catch (SQLException | RuntimeException e) {
+                // 커넥션 오류 등으로 묶음 전체가 실패한 경우
+                for (int i = 0; i < chunk.size(); i++) {
+                    report.reject(chunk.lineNumbers.get(i), e.getMessage(), chunk.rawFields.get(i));
+                }
+            }
+        }
+    }
+
+    private static <T> void putQuietly(BlockingQueue<Chunk<T>> queue, Chunk<T> chunk) throws IOException {
+        try {
+            queue.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("가져오기 중 인터럽트 발생", e);
+        }
+    }
+
+    private static void awaitQuietly(ExecutorService executor) throws IOException {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("가져오기 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * 작업 스레드에 넘기는 묶음(도메인 객체와 원래 줄 번호, 원래 필드)
+     */
+    private static final class Chunk<T> {
+        final List<T> items;
+        final List<Long> lineNumbers;
+        final List<String[]> rawFields;
+
+        Chunk(int capacity) {
+            items = new ArrayList<>(capacity);
+            lineNumbers = new ArrayList<>(capacity);
+            rawFields = new ArrayList<>(capacity);
+        }
+
+        private Chunk() {
+            items = null;
+            lineNumbers = null;
+            rawFields = null;
+        }
+
+        static <T> Chunk<T> end() {
+            return new Chunk<>();
+        }
+
+        void add(long lineNumber, T item, String[] raw) {
+            items.add(item);
+            lineNumbers.add(lineNumber);
+            rawFields.add(raw);
+        }
+
+        int size() {
+            return items.size();
+        }
+
+        boolean isEnd() {
+            return items == null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.javalab.school.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 파일을 한 레코드씩 읽는 클래스
+ * - 파일 전체를 메모리에 올리지 않고 BufferedReader로 한 줄씩 읽는다.
+ * - 큰따옴표로 감싼 필드(쉼표, 줄바꿈 포함)와 "" 이스케이프를 지원한다.
+ * - UTF-8 BOM이 있으면 제거한다.
+ */
+public class CsvReader implements AutoCloseable {
+
+    private final BufferedReader reader;
+    private long lineNumber;            // 지금까지 읽은 물리적인 줄 수
+    private long recordLineNumber;      // 마지막으로 읽은 레코드가 시작된 줄 번호
+    private boolean first = true;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader, 64 * 1024);
+    }
+
+    /**
+     * 다음 레코드를 읽는다. 빈 줄은 건너뛴다.
+     * @return 필드 배열, 파일 끝이면 null
+     */
+    public String[] next() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isEmpty());
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (quoted) {
+                    // 따옴표 안의 줄바꿈: 다음 줄을 이어서 읽는다.
+                    String nextLine = readLine();
+                    if (nextLine == null) {
+                        throw new IOException(recordLineNumber + "번째 줄: 닫히지 않은 따옴표가 있습니다.");
+                    }
+                    field.append('\n');
+                    line = nextLine;
+                    i = 0;
+                    continue;
+                }
+                fields.add(field.toString());
+                break;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 줄 번호(1부터)
+     */
+    public long getLineNumber() {
+        return recordLineNumber;
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+            if (first) {
+                first = false;
+                if (!line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                    line = line.substring(1);
+                }
+            }
+        }
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
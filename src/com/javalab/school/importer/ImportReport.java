@@ -0,0 +1,104 @@
+package com.javalab.school.importer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * CSV 가져오기 결과 보고서
+ * - 읽은 행, 등록된 행, 거부된 행의 수와 처리 시간을 집계한다.
+ * - 거부된 행은 "줄번호,사유,원래 필드..." 형식으로 거부 파일에 기록한다(거부된 행이 있을 때만 파일 생성).
+ * - 여러 작업 스레드가 동시에 기록하므로 메소드를 동기화한다.
+ */
+public class ImportReport implements AutoCloseable {
+
+    private final String table;
+    private final Path rejectFile;
+    private final long startNanos = System.nanoTime();
+    private long elapsedNanos;
+    private long readCount;         // 읽은 데이터 행 수(머리글 제외)
+    private long insertedCount;     // 등록된 행 수
+    private long rejectedCount;     // 거부된 행 수(변환 실패 + 등록 실패)
+    private BufferedWriter rejectWriter;
+
+    ImportReport(String table, Path rejectFile) {
+        this.table = table;
+        this.rejectFile = rejectFile;
+    }
+
+    synchronized void addRead() {
+        readCount++;
+    }
+    synchronized void addInserted(long count) {
+        insertedCount += count;
+    }
+    synchronized void reject(long lineNumber, String reason, String[] fields) {
+        rejectedCount++;
+        try {
+            if (rejectWriter == null) {
+                rejectWriter = Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8);
+            }
+            StringBuilder sb = new StringBuilder();
+            sb.append(lineNumber).append(',').append(quote(reason));
+            for (String field : fields) {
+                sb.append(',').append(quote(field));
+            }
+            rejectWriter.write(sb.toString());
+            rejectWriter.newLine();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+    synchronized void finish() {
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    public synchronized String getTable() {
+        return table;
+    }
+    public synchronized long getReadCount() {
+        return readCount;
+    }
+    public synchronized long getInsertedCount() {
+        return insertedCount;
+    }
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+    public synchronized double getElapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+    /**
+     * 초당 처리한 행 수
+     */
+    public synchronized double getRowsPerSecond() {
+        double seconds = getElapsedSeconds();
+        return seconds == 0 ? 0 : readCount / seconds;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (rejectWriter != null) {
+            rejectWriter.close();
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("[%s] 읽음=%d, 등록=%d, 거부=%d, %.2f초, %.0f건/초%s",
+                table, readCount, insertedCount, rejectedCount, getElapsedSeconds(), getRowsPerSecond(),
+                rejectedCount > 0 ? ", 거부 파일=" + rejectFile : "");
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
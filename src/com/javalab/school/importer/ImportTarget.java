@@ -0,0 +1,121 @@
+package com.javalab.school.importer;
+
+import com.javalab.school.dao.BatchResult;
+import com.javalab.school.dao.DepartmentDao;
+import com.javalab.school.dao.ProfessorDao;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.dao.TakesDao;
+import com.javalab.school.domain.Department;
+import com.javalab.school.domain.Professor;
+import com.javalab.school.domain.Student;
+import com.javalab.school.domain.Takes;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 가져오기 대상 테이블 정의
+ * - CSV 한 줄(필드 배열)을 도메인 객체로 바꾸는 방법과 일괄 등록하는 DAO 메소드를 묶어 둔다.
+ * - 외래키 순서(학과 → 교수 → 학생 → 성적)대로 TARGETS에 등록되어 있다.
+ */
+public class ImportTarget<T> {
+
+    /**
+     * CSV 필드 배열을 도메인 객체로 변환하는 함수
+     * - 값이 잘못된 경우 IllegalArgumentException을 던진다.
+     */
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(String[] fields);
+    }
+
+    /**
+     * 도메인 객체 목록을 일괄 등록하는 함수
+     */
+    @FunctionalInterface
+    interface Inserter<T> {
+        BatchResult<T> insertAll(List<T> items, int batchSize) throws SQLException;
+    }
+
+    public static final ImportTarget<Department> DEPARTMENT = new ImportTarget<>("department",
+            new String[]{"department_id", "name", "office"},
+            f -> new Department(parseInt(f[0], "department_id"), f[1], f[2]),
+            new DepartmentDao()::insertAll);
+
+    public static final ImportTarget<Professor> PROFESSOR = new ImportTarget<>("professor",
+            new String[]{"professor_id", "jumin", "name", "department_id", "grade", "hiredate"},
+            f -> new Professor(f[0], f[1], f[2], parseInt(f[3], "department_id"), f[4], f[5]),
+            new ProfessorDao()::insertAll);
+
+    public static final ImportTarget<Student> STUDENT = new ImportTarget<>("student",
+            new String[]{"student_id", "jumin", "name", "year", "address", "department_id"},
+            f -> new Student(f[0], f[1], f[2], parseInt(f[3], "year"), f[4], parseInt(f[5], "department_id")),
+            new StudentDao()::insertAll);
+
+    public static final ImportTarget<Takes> TAKES = new ImportTarget<>("takes",
+            new String[]{"student_id", "class_id", "score"},
+            f -> new Takes(f[0], f[1], f[2]),
+            new TakesDao()::insertAll);
+
+    // 테이블 이름 → 대상(외래키 순서)
+    static final Map<String, ImportTarget<?>> TARGETS = new LinkedHashMap<>();
+    static {
+        for (ImportTarget<?> target : Arrays.asList(DEPARTMENT, PROFESSOR, STUDENT, TAKES)) {
+            TARGETS.put(target.getTable(), target);
+        }
+    }
+
+    private final String table;
+    private final String[] columns;
+    private final RowMapper<T> mapper;
+    private final Inserter<T> inserter;
+
+    private ImportTarget(String table, String[] columns, RowMapper<T> mapper, Inserter<T> inserter) {
+        this.table = table;
+        this.columns = columns;
+        this.mapper = mapper;
+        this.inserter = inserter;
+    }
+
+    public String getTable() {
+        return table;
+    }
+    public String[] getColumns() {
+        return columns.clone();
+    }
+
+    /**
+     * CSV 필드 배열을 도메인 객체로 변환한다. 앞뒤 공백은 제거한다.
+     */
+    T map(String[] fields) {
+        if (fields.length != columns.length) {
+            throw new IllegalArgumentException("필드 수가 맞지 않습니다. 필요=" + columns.length + ", 실제=" + fields.length);
+        }
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i].trim();
+        }
+        return mapper.map(fields);
+    }
+
+    BatchResult<T> insertAll(List<T> items, int batchSize) throws SQLException {
+        return inserter.insertAll(items, batchSize);
+    }
+
+    /**
+     * 첫 줄이 컬럼 이름으로 된 머리글인지 확인한다.
+     */
+    boolean isHeader(String[] fields) {
+        return fields.length > 0 && fields[0].trim().equalsIgnoreCase(columns[0]);
+    }
+
+    private static int parseInt(String value, String column) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.javalab.school.metrics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 업무별 성능 지표 저장소
+ * - 업무 이름마다 OperationMetrics를 하나씩 만들고, JMX(com.javalab.school:type=Operation,name=업무명)로도 공개한다.
+ *   (시스템 프로퍼티 school.metrics.jmx=false면 JMX 등록을 하지 않는다)
+ * - dump()는 모든 업무의 지표를 표 형태로 출력한다.
+ */
+public final class Metrics {
+
+    private static final ConcurrentHashMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private static final boolean JMX_ENABLED = !"false".equals(System.getProperty("school.metrics.jmx"));
+
+    private Metrics() { }
+
+    /**
+     * 업무의 지표 객체를 반환한다. 처음 요청된 이름이면 새로 만든다.
+     */
+    public static OperationMetrics operation(String name) {
+        OperationMetrics metrics = operations.get(name);
+        if (metrics == null) {
+            metrics = operations.computeIfAbsent(name, OperationMetrics::new);
+            register(metrics);
+        }
+        return metrics;
+    }
+
+    /**
+     * 모든 업무의 지표(이름순)
+     */
+    public static List<OperationMetrics> all() {
+        List<OperationMetrics> list = new ArrayList<>(operations.values());
+        list.sort(Comparator.comparing(OperationMetrics::getName));
+        return list;
+    }
+
+    public static void resetAll() {
+        for (OperationMetrics metrics : operations.values()) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * 호출된 적이 있는 업무의 지표를 표로 출력한다(시간 단위: 마이크로초).
+     */
+    public static void dump(PrintStream out) {
+        out.println(String.format("%-28s %8s %6s %10s %10s %8s %8s %8s %10s",
+                "operation", "count", "errors", "rows", "mean", "p50", "p95", "p99", "max"));
+        for (OperationMetrics m : all()) {
+            if (m.getCount() == 0) {
+                continue;
+            }
+            out.println(String.format("%-28s %8d %6d %10d %10.1f %8d %8d %8d %10d",
+                    m.getName(), m.getCount(), m.getErrorCount(), m.getRowCount(), m.getMeanMicros(),
+                    m.getP50Micros(), m.getP95Micros(), m.getP99Micros(), m.getMaxMicros()));
+        }
+    }
+
+    private static synchronized void register(OperationMetrics metrics) {
+        if (!JMX_ENABLED) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName("com.javalab.school:type=Operation,name="
+                    + ObjectName.quote(metrics.getName()));
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(metrics, objectName);
+            }
+        } catch (JMException e) {
+            // JMX 등록에 실패해도 지표 수집은 계속한다.
+        }
+    }
+}
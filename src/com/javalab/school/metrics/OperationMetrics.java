@@ -0,0 +1,114 @@
+package com.javalab.school.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업무(논리 연산) 하나의 성능 지표: 지연 시간 히스토그램, 처리 행 수, 오류 수
+ * - Metrics.operation()으로 얻어서 static final 필드에 두고 쓴다.
+ * - DAO 메서드의 지표는 커넥션 풀의 문장 래퍼가 기록하므로 호출하는 쪽에서 잴 필요가 없다.
+ *
+ * 예) long start = System.nanoTime();
+ *     try {
+ *         Connection conn = pool.borrow();
+ *         BORROW.record(start, 0);
+ *     } catch (SQLException e) {
+ *         BORROW.recordError(start);
+ *     }
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicLong rowCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+
+    OperationMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 성공한 호출 한 번을 기록한다.
+     * @param startNanos 시작 시각(System.nanoTime())
+     * @param rows 처리한 행의 수
+     */
+    public void record(long startNanos, long rows) {
+        recordNanos(System.nanoTime() - startNanos, rows);
+    }
+
+    /**
+     * 실패한 호출 한 번을 기록한다. 지연 시간도 함께 기록한다.
+     */
+    public void recordError(long startNanos) {
+        recordErrorNanos(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 이미 잰 지연 시간으로 성공한 호출 한 번을 기록한다.
+     */
+    public void recordNanos(long elapsedNanos, long rows) {
+        latency.record(elapsedNanos);
+        rowCount.addAndGet(rows);
+    }
+
+    /**
+     * 이미 잰 지연 시간으로 실패한 호출 한 번을 기록한다.
+     */
+    public void recordErrorNanos(long elapsedNanos) {
+        latency.record(elapsedNanos);
+        errorCount.incrementAndGet();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+    @Override
+    public long getCount() {
+        return latency.getCount();
+    }
+    @Override
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+    @Override
+    public long getRowCount() {
+        return rowCount.get();
+    }
+    @Override
+    public double getMeanMicros() {
+        return latency.getMeanNanos() / 1000.0;
+    }
+    @Override
+    public long getP50Micros() {
+        return latency.getValueAtPercentile(50) / 1000;
+    }
+    @Override
+    public long getP95Micros() {
+        return latency.getValueAtPercentile(95) / 1000;
+    }
+    @Override
+    public long getP99Micros() {
+        return latency.getValueAtPercentile(99) / 1000;
+    }
+    @Override
+    public long getMaxMicros() {
+        return latency.getMaxNanos() / 1000;
+    }
+    @Override
+    public void reset() {
+        latency.reset();
+        rowCount.set(0);
+        errorCount.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMetrics [name=" + name + ", count=" + getCount() + ", errorCount=" + getErrorCount()
+                + ", rowCount=" + getRowCount() + ", meanMicros=" + String.format("%.1f", getMeanMicros())
+                + ", p99Micros=" + getP99Micros() + ", maxMicros=" + getMaxMicros() + "]";
+    }
+}
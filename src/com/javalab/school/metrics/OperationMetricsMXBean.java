@@ -0,0 +1,18 @@
+package com.javalab.school.metrics;
+
+/**
+ * 업무 하나의 성능 지표 JMX 인터페이스(시간 단위: 마이크로초)
+ */
+public interface OperationMetricsMXBean {
+
+    String getName();
+    long getCount();
+    long getErrorCount();
+    long getRowCount();
+    double getMeanMicros();
+    long getP50Micros();
+    long getP95Micros();
+    long getP99Micros();
+    long getMaxMicros();
+    void reset();
+}
@@ -0,0 +1,29 @@
+package com.javalab.school.report;
+
+import java.util.Locale;
+
+/**
+ * 목록 출력 형식
+ * - ALIGNED: 컬럼 너비에 맞춰 공백으로 정렬(한글 등 전각 문자는 두 칸으로 센다). 머리글 아래에 구분선을 긋는다.
+ * - CSV: 쉼표 구분. 쉼표, 큰따옴표, 줄바꿈이 있는 값은 큰따옴표로 감싼다. NULL은 빈 필드.
+ * - TSV: 탭 구분. 값 안의 탭과 줄바꿈은 공백으로 바꾼다. NULL은 빈 필드.
+ */
+public enum ReportFormat {
+
+    ALIGNED, CSV, TSV;
+
+    /**
+     * 시스템 프로퍼티 school.report.format(aligned, csv, tsv)의 형식, 없으면 ALIGNED
+     */
+    public static ReportFormat fromSystemProperty() {
+        String value = System.getProperty("school.report.format");
+        if (value == null || value.isEmpty()) {
+            return ALIGNED;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("school.report.format은 aligned, csv, tsv 중 하나여야 합니다: " + value);
+        }
+    }
+}
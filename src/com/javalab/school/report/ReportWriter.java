@@ -0,0 +1,308 @@
+package com.javalab.school.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 표 형태 목록 출력기
+ * - 행을 StringBuilder 하나에 이어 붙여 만들고(행마다 문자열을 새로 만들지 않는다), 큰 버퍼(64KB)의 Writer로 쓴다.
+ *   버퍼가 찰 때만 실제로 출력하므로 행마다 System.out.println()을 호출하는 것보다 시스템 호출이 훨씬 적다.
+ * - 자동으로 flush하지 않는다. 페이지 사이에 입력을 받기 전이나 목록을 다 쓴 뒤에 flush()를 호출해야 한다.
+ * - 숫자 값은 cell(int)/cell(long)로 넘기면 문자열로 바꾸지 않고 바로 버퍼에 쓴다.
+ * - 출력 오류는 UncheckedIOException으로 던진다.
+ *
+ * 예) ReportWriter report = ReportWriter.console(ReportFormat.ALIGNED)
+ *         .column("학생ID", 10).column("이름", 10).column("학년", 4);
+ *     report.header();
+ *     for (Student s : students) {
+ *         report.cell(s.getStudentId()).cell(s.getName()).cell(s.getYear()).endRow();
+ *     }
+ *     report.flush();
+ */
+public class ReportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char[] SPACES = new char[256];
+
+    static {
+        Arrays.fill(SPACES, ' ');
+    }
+
+    private final Writer out;
+    private final ReportFormat format;
+    private final List<String> names = new ArrayList<>();
+    private int[] widths = new int[8];
+    private final StringBuilder line = new StringBuilder(256);
+    private char[] chars = new char[256];     // line을 Writer로 옮길 때 쓰는 버퍼
+    private int column;         // 현재 행에서 다음에 쓸 컬럼 번호
+    private int lineWidth;      // 현재 행의 화면 너비(ALIGNED)
+    private int columnEnd;      // 현재 컬럼이 끝나는 화면 위치(ALIGNED)
+    private long rowCount;
+
+    public ReportWriter(Writer out, ReportFormat format) {
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out, BUFFER_SIZE);
+        this.format = format;
+    }
+
+    public ReportWriter(OutputStream out, Charset charset, ReportFormat format) {
+        this(new BufferedWriter(new OutputStreamWriter(out, charset), BUFFER_SIZE), format);
+    }
+
+    /**
+     * 표준 출력용 출력기. 표준 출력 자체는 닫지 않는다.
+     */
+    public static ReportWriter console(ReportFormat format) {
+        return new ReportWriter(System.out, Charset.defaultCharset(), format);
+    }
+
+    /**
+     * 컬럼을 추가한다.
+     * @param width ALIGNED 형식의 화면 너비(값이 더 길면 자르지 않고 한 칸만 띄운다). CSV/TSV에서는 쓰지 않는다.
+     */
+    public ReportWriter column(String name, int width) {
+        if (names.size() == widths.length) {
+            widths = Arrays.copyOf(widths, widths.length * 2);
+        }
+        widths[names.size()] = width;
+        names.add(name);
+        return this;
+    }
+
+    /**
+     * 머리글(컬럼 이름) 행. ALIGNED 형식이면 구분선도 쓴다.
+     */
+    public ReportWriter header() {
+        for (String name : names) {
+            cell(name);
+        }
+        finishRow();
+        if (format == ReportFormat.ALIGNED) {
+            int total = 0;
+            for (int i = 0; i < names.size(); i++) {
+                total += widths[i] + (i > 0 ? 1 : 0);
+            }
+            for (int i = 0; i < total; i++) {
+                line.append('-');
+            }
+            writeLine();
+        }
+        return this;
+    }
+
+    public ReportWriter cell(String value) {
+        separate();
+        if (value != null) {
+            switch (format) {
+                case CSV:
+                    appendCsv(value);
+                    break;
+                case TSV:
+                    appendTsv(value);
+                    break;
+                default:
+                    line.append(value);
+                    lineWidth += displayWidth(value);
+            }
+        }
+        return padded();
+    }
+
+    public ReportWriter cell(int value) {
+        separate();
+        int before = line.length();
+        line.append(value);
+        lineWidth += line.length() - before;
+        return padded();
+    }
+
+    /**
+     * null이면 빈 칸(예: 학과코드가 없는 학생)
+     */
+    public ReportWriter cell(Integer value) {
+        return value == null ? cell((String) null) : cell(value.intValue());
+    }
+
+    public ReportWriter cell(long value) {
+        separate();
+        int before = line.length();
+        line.append(value);
+        lineWidth += line.length() - before;
+        return padded();
+    }
+
+    /**
+     * 행을 끝내고 버퍼에 쓴다. 컬럼 수보다 적게 채운 행은 나머지를 빈 값으로 채운다.
+     */
+    public ReportWriter endRow() {
+        finishRow();
+        rowCount++;
+        return this;
+    }
+
+    /**
+     * 머리글 밖의 한 줄(안내 문구, 합계 등)
+     */
+    public ReportWriter println(String text) {
+        line.append(text);
+        writeLine();
+        return this;
+    }
+
+    /**
+     * 버퍼에 쌓인 내용을 출력한다.
+     */
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * flush() 후 출력 대상을 닫는다. 표준 출력에 쓰는 출력기는 닫지 말고 flush()만 호출한다.
+     */
+    public void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지금까지 쓴 데이터 행 수(머리글 제외)
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    private void finishRow() {
+        while (column < names.size()) {
+            cell((String) null);
+        }
+        if (format == ReportFormat.ALIGNED) {
+            // 마지막 컬럼 뒤의 공백은 쓰지 않는다.
+            int end = line.length();
+            while (end > 0 && line.charAt(end - 1) == ' ') {
+                end--;
+            }
+            line.setLength(end);
+        }
+        writeLine();
+    }
+
+    private void separate() {
+        if (column > 0) {
+            switch (format) {
+                case CSV:
+                    line.append(',');
+                    break;
+                case TSV:
+                    line.append('\t');
+                    break;
+                default:
+                    line.append(' ');
+                    lineWidth++;
+            }
+        }
+    }
+
+    /**
+     * ALIGNED 형식이면 현재 컬럼의 끝까지 공백을 채운다.
+     */
+    private ReportWriter padded() {
+        if (format == ReportFormat.ALIGNED && column < names.size()) {
+            columnEnd = column == 0 ? widths[0] : columnEnd + 1 + widths[column];
+            for (int pad = columnEnd - lineWidth; pad > 0; pad -= SPACES.length) {
+                line.append(SPACES, 0, Math.min(pad, SPACES.length));
+            }
+            lineWidth = Math.max(lineWidth, columnEnd);
+        }
+        column++;
+        return this;
+    }
+
+    private void writeLine() {
+        line.append('\n');
+        int length = line.length();
+        if (length > chars.length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        // Writer.append(line)은 문자열을 새로 만들므로 재사용하는 char 배열로 옮겨 쓴다.
+        line.getChars(0, length, chars, 0);
+        try {
+            out.write(chars, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        line.setLength(0);
+        column = 0;
+        lineWidth = 0;
+    }
+
+    private void appendCsv(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private void appendTsv(String value) {
+        boolean replace = false;
+        for (int i = 0; i < value.length() && !replace; i++) {
+            char c = value.charAt(i);
+            replace = c == '\t' || c == '\n' || c == '\r';
+        }
+        if (!replace) {
+            line.append(value);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            line.append(c == '\t' || c == '\n' || c == '\r' ? ' ' : c);
+        }
+    }
+
+    /**
+     * 화면 너비(한글, 한자 등 전각 문자는 두 칸)
+     */
+    static int displayWidth(String value) {
+        int width = 0;
+        for (int i = 0; i < value.length(); i++) {
+            width += isWide(value.charAt(i)) ? 2 : 1;
+        }
+        return width;
+    }
+
+    private static boolean isWide(char c) {
+        return (c >= 0x1100 && c <= 0x115F)         // 한글 자모(초성)
+                || (c >= 0x2E80 && c <= 0xA4CF)     // CJK 부수, 호환 자모, 한자 등
+                || (c >= 0xAC00 && c <= 0xD7A3)     // 한글 음절
+                || (c >= 0xF900 && c <= 0xFAFF)     // CJK 호환 한자
+                || (c >= 0xFF00 && c <= 0xFF60)     // 전각 기호
+                || (c >= 0xFFE0 && c <= 0xFFE6);
+    }
+}
@@ -0,0 +1,115 @@
+package com.javalab.school.search;
+
+/**
+ * 한글 음절/자모 처리
+ * - 완성형 음절(가~힣)은 (초성 * 21 + 중성) * 28 + 종성 + 0xAC00 으로 만들어진다.
+ * - 초성 검색어는 호환 자모(ㄱ~ㅎ)로 입력된다.
+ */
+final class Hangul {
+
+    private static final char SYLLABLE_FIRST = 0xAC00;     // 가
+    private static final char SYLLABLE_LAST = 0xD7A3;      // 힣
+    private static final int FINAL_COUNT = 28;
+    private static final int MEDIAL_COUNT = 21;
+
+    // 초성 순서대로의 호환 자모
+    private static final char[] INITIALS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    private Hangul() { }
+
+    static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    /**
+     * 초성으로 쓰일 수 있는 호환 자모(ㄱ, ㄲ, ㄴ ... ㅎ)의 초성 번호, 아니면 -1
+     */
+    static int initialIndex(char c) {
+        for (int i = 0; i < INITIALS.length; i++) {
+            if (INITIALS[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 모든 글자가 초성 자모인 검색어인지(예: "ㄱㅊㅅ")
+     */
+    static boolean isInitialsQuery(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            if (initialIndex(query.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return !query.isEmpty();
+    }
+
+    /**
+     * 음절을 초성 자모로 바꾼 문자열(음절이 아닌 글자는 그대로)
+     * 예) "김철수" -> "ㄱㅊㅅ"
+     */
+    static String initials(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (isSyllable(chars[i])) {
+                chars[i] = INITIALS[(chars[i] - SYLLABLE_FIRST) / (MEDIAL_COUNT * FINAL_COUNT)];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 입력 중인 마지막 글자가 완성될 수 있는 음절들
+     * - 받침 없는 음절(예: "처")이면 받침을 붙인 28개(처, 척, 천 ... 첳)
+     * - 받침 있는 음절이나 한글이 아닌 글자는 그 글자 하나
+     * - 초성 자모(예: "ㅊ")면 588개라 목록 대신 null
+     */
+    static char[] completions(char c) {
+        if (isSyllable(c)) {
+            if ((c - SYLLABLE_FIRST) % FINAL_COUNT != 0) {
+                return new char[]{c};
+            }
+            char[] completions = new char[FINAL_COUNT];
+            for (int i = 0; i < FINAL_COUNT; i++) {
+                completions[i] = (char) (c + i);
+            }
+            return completions;
+        }
+        return initialIndex(c) >= 0 ? null : new char[]{c};
+    }
+
+    /**
+     * 입력 중인 글자 pattern이 글자 c로 완성될 수 있는지
+     * 예) "처" -> 처, 철, 천 / "ㅊ" -> 차, 철, 치 ... / "철" -> 철
+     */
+    static boolean matches(char pattern, char c) {
+        if (pattern == c) {
+            return true;
+        }
+        if (!isSyllable(c)) {
+            return false;
+        }
+        int offset = c - SYLLABLE_FIRST;
+        if (isSyllable(pattern)) {
+            int patternOffset = pattern - SYLLABLE_FIRST;
+            return patternOffset % FINAL_COUNT == 0 && patternOffset / FINAL_COUNT == offset / FINAL_COUNT;
+        }
+        int initial = initialIndex(pattern);
+        return initial >= 0 && initial == offset / (MEDIAL_COUNT * FINAL_COUNT);
+    }
+
+    /**
+     * text 안에서 body 다음에 last로 완성될 수 있는 글자가 오는 첫 위치, 없으면 -1
+     */
+    static int indexOf(String text, String body, char last) {
+        int end = text.length() - body.length() - 1;
+        for (int i = 0; i <= end; i++) {
+            if (text.startsWith(body, i) && matches(last, text.charAt(i + body.length()))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,443 @@
+package com.javalab.school.search;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 이름 부분 일치 검색용 메모리 역색인(n-gram)
+ * - 이름의 글자 하나(1-gram)와 이웃한 두 글자(2-gram)마다 그 글자를 가진 항목 번호 목록(오름차순 int 배열)을 둔다.
+ *   초성 문자열(김철수 -> ㄱㅊㅅ)도 따로 같은 방식으로 색인한다.
+ * - 검색어의 2-gram 목록들을 교집합하여 후보를 좁힌 뒤 실제 이름과 비교해 확인한다. DB는 읽지 않는다.
+ * - 입력 중인 검색어도 찾는다(한글 자모 인식).
+ *   · 마지막 글자는 받침이 아직 없거나 초성만 친 상태일 수 있다. (예: "김처", "김ㅊ" -> 김철수)
+ *   · 모든 글자가 초성이면 초성 문자열에서 찾는다. (예: "ㄱㅊ" -> 김철수)
+ * - 결과는 일치 위치가 앞인 것(접두어 일치) → 이름 → 키 순이다.
+ * - 삭제된(또는 이름이 바뀐) 항목의 번호는 다음에 추가하는 항목이 다시 쓰므로, 추가/삭제가 반복되어도 항목 수만큼만 차지한다.
+ * - 검색은 동시에 여럿이 할 수 있고, 추가/삭제는 읽기-쓰기 잠금으로 검색과 분리한다.
+ * - 영문은 대소문자를 구분하지 않고, 공백은 무시한다.
+ */
+public class NameIndex {
+
+    /**
+     * 색인을 채울 (키, 이름)을 내보내는 원본(예: 테이블 스트림)
+     */
+    @FunctionalInterface
+    public interface Source {
+        void scan(BiConsumer<String, String> sink) throws SQLException;
+    }
+
+    /**
+     * 검색 결과 한 건
+     */
+    public static final class Match {
+        private final String key;
+        private final String name;
+        private final int position;
+
+        private Match(String key, String name, int position) {
+            this.key = key;
+            this.name = name;
+            this.position = position;
+        }
+
+        public String getKey() {
+            return key;
+        }
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return key + " " + name;
+        }
+    }
+
+    private static final Comparator<Match> ORDER = Comparator.<Match>comparingInt(m -> m.position)
+            .thenComparing(m -> m.name)
+            .thenComparing(m -> m.key);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> docIds = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();     // 항목 번호 -> 항목(삭제되면 null)
+    private final Deque<Integer> freeIds = new ArrayDeque<>();  // 삭제되어 비어 있는 항목 번호
+    private final Map<String, Postings> grams = new HashMap<>();
+    private final Map<String, Postings> initialGrams = new HashMap<>();
+    private boolean loaded;
+
+    /**
+     * 원본 전체로 색인을 새로 만든다. 만드는 동안 검색과 추가/삭제는 기다린다.
+     */
+    public void rebuild(Source source) throws SQLException {
+        lock.writeLock().lock();
+        try {
+            clearAll();
+            source.scan(this::add);
+            loaded = true;
+        } catch (SQLException | RuntimeException e) {
+            clearAll();
+            throw e;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인을 비운다. 다음 검색 전에 rebuild()가 필요하다.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 항목을 추가하거나 이름을 바꾼다. 아직 만들지 않은 색인이면 무시한다(만들 때 원본에서 읽는다).
+     */
+    public void put(String key, String name) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                removeKey(key);
+                add(key, name);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                removeKey(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름에 검색어가 들어 있는 항목을 찾는다.
+     * @param limit 최대 결과 수
+     */
+    public List<Match> search(String query, int limit) {
+        String q = fold(query);
+        if (q.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            List<Match> matches = Hangul.isInitialsQuery(q) ? searchInitials(q) : searchText(q);
+            matches.sort(ORDER);
+            return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 항목 번호 자리 수(비어 있는 자리 포함)
+     */
+    int getSlotCount() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.readLock().lock();
+        try {
+            return "NameIndex [size=" + docIds.size() + ", slots=" + entries.size() + ", grams=" + grams.size()
+                    + ", initialGrams=" + initialGrams.size() + "]";
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Match> searchInitials(String q) {
+        int[] candidates = intersect(required(initialGrams, q));
+        List<Match> matches = new ArrayList<>();
+        for (int id : candidates) {
+            Entry entry = entries.get(id);
+            int position = entry.initials.indexOf(q);
+            if (position >= 0) {
+                matches.add(new Match(entry.key, entry.name, position));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 마지막 글자는 입력 중일 수 있으므로 body(마지막 글자 앞까지)는 그대로, 마지막 글자는 완성 후보로 찾는다.
+     */
+    private List<Match> searchText(String q) {
+        String body = q.substring(0, q.length() - 1);
+        char last = q.charAt(q.length() - 1);
+        List<int[]> required = body.isEmpty() ? new ArrayList<>() : required(grams, body);
+        char[] completions = Hangul.completions(last);
+        if (completions != null) {
+            // 마지막 글자(또는 body의 끝 글자 + 마지막 글자)의 완성 후보 목록들의 합집합
+            List<int[]> union = new ArrayList<>();
+            for (char c : completions) {
+                Postings postings = grams.get(body.isEmpty() ? String.valueOf(c) : body.charAt(body.length() - 1) + String.valueOf(c));
+                if (postings != null) {
+                    union.add(postings.toArray());
+                }
+            }
+            required.add(union(union));
+        }
+        int[] candidates = intersect(required);
+        List<Match> matches = new ArrayList<>();
+        for (int id : candidates) {
+            Entry entry = entries.get(id);
+            int position = Hangul.indexOf(entry.folded, body, last);
+            if (position >= 0) {
+                matches.add(new Match(entry.key, entry.name, position));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 텍스트의 n-gram마다의 항목 번호 목록(2글자 이상이면 2-gram, 1글자면 1-gram). 없는 n-gram은 빈 배열.
+     */
+    private static List<int[]> required(Map<String, Postings> index, String text) {
+        List<int[]> required = new ArrayList<>();
+        if (text.length() == 1) {
+            Postings postings = index.get(text);
+            required.add(postings == null ? new int[0] : postings.toArray());
+            return required;
+        }
+        for (int i = 0; i + 1 < text.length(); i++) {
+            Postings postings = index.get(text.substring(i, i + 2));
+            required.add(postings == null ? new int[0] : postings.toArray());
+        }
+        return required;
+    }
+
+    /**
+     * 오름차순 목록들의 교집합(가장 짧은 목록을 기준으로 나머지는 이진 탐색)
+     */
+    private static int[] intersect(List<int[]> lists) {
+        if (lists.isEmpty()) {
+            return new int[0];
+        }
+        lists.sort(Comparator.comparingInt(a -> a.length));
+        int[] smallest = lists.get(0);
+        int[] result = new int[smallest.length];
+        int size = 0;
+        outer:
+        for (int id : smallest) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (Arrays.binarySearch(lists.get(i), id) < 0) {
+                    continue outer;
+                }
+            }
+            result[size++] = id;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 오름차순 목록들의 합집합(오름차순, 중복 없음)
+     */
+    private static int[] union(List<int[]> lists) {
+        if (lists.size() == 1) {
+            return lists.get(0);
+        }
+        int total = 0;
+        for (int[] list : lists) {
+            total += list.length;
+        }
+        int[] all = new int[total];
+        int size = 0;
+        for (int[] list : lists) {
+            System.arraycopy(list, 0, all, size, list.length);
+            size += list.length;
+        }
+        Arrays.sort(all);
+        int unique = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[i - 1]) {
+                all[unique++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, unique);
+    }
+
+    private void add(String key, String name) {
+        if (key == null || name == null) {
+            return;
+        }
+        Entry entry = new Entry(key, name);
+        int id;
+        if (freeIds.isEmpty()) {
+            id = entries.size();
+            entries.add(entry);
+        } else {
+            id = freeIds.pop();         // 비어 있는 번호를 다시 쓴다(목록에는 제자리에 끼워 넣는다).
+            entries.set(id, entry);
+        }
+        docIds.put(key, id);
+        for (String gram : grams(entry.folded)) {
+            grams.computeIfAbsent(gram, g -> new Postings()).add(id);
+        }
+        for (String gram : grams(entry.initials)) {
+            initialGrams.computeIfAbsent(gram, g -> new Postings()).add(id);
+        }
+    }
+
+    private void removeKey(String key) {
+        Integer id = docIds.remove(key);
+        if (id == null) {
+            return;
+        }
+        Entry entry = entries.set(id, null);
+        removePostings(grams, entry.folded, id);
+        removePostings(initialGrams, entry.initials, id);
+        freeIds.push(id);
+    }
+
+    private static void removePostings(Map<String, Postings> index, String text, int id) {
+        for (String gram : grams(text)) {
+            Postings postings = index.get(gram);
+            if (postings != null && postings.remove(id) && postings.size == 0) {
+                index.remove(gram);
+            }
+        }
+    }
+
+    private void clearAll() {
+        docIds.clear();
+        entries.clear();
+        freeIds.clear();
+        grams.clear();
+        initialGrams.clear();
+        loaded = false;
+    }
+
+    /**
+     * 1-gram과 2-gram(중복 제거)
+     */
+    private static List<String> grams(String text) {
+        List<String> result = new ArrayList<>(text.length() * 2);
+        for (int i = 0; i < text.length(); i++) {
+            String unigram = text.substring(i, i + 1);
+            if (!result.contains(unigram)) {
+                result.add(unigram);
+            }
+            if (i + 1 < text.length()) {
+                String bigram = text.substring(i, i + 2);
+                if (!result.contains(bigram)) {
+                    result.add(bigram);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 공백을 없애고 영문은 소문자로
+     */
+    private static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        final String key;
+        final String name;
+        final String folded;
+        final String initials;
+
+        Entry(String key, String name) {
+            this.key = key;
+            this.name = name;
+            this.folded = fold(name);
+            this.initials = Hangul.initials(folded);
+        }
+    }
+
+    /**
+     * 항목 번호 목록(오름차순)
+     */
+    private static final class Postings {
+        int[] ids = new int[4];
+        int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            if (size == 0 || ids[size - 1] < id) {
+                ids[size++] = id;       // 새 번호는 항상 끝
+                return;
+            }
+            int index = -Arrays.binarySearch(ids, 0, size, id) - 1;
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.javalab.school.search;
+
+import com.javalab.school.dao.DataAccessException;
+import com.javalab.school.dao.ProfessorDao;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.domain.Professor;
+import com.javalab.school.domain.Student;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * 학생/교수 이름 검색(입력하는 동안의 자동 완성용)
+ * - 처음 검색할 때 학생, 교수 테이블을 한 번씩 스트림으로 읽어 NameIndex를 만들고, 이후 검색은 DB를 읽지 않는다.
+ * - 등록/수정/삭제 후 studentSaved()/studentDeleted() 등을 호출하면 색인도 바로 갱신된다.
+ *   학과 삭제처럼 여러 행이 한꺼번에 바뀌면 invalidate()를 호출한다(다음 검색 때 다시 만든다).
+ */
+public class NameSearchService {
+
+    private final StudentDao studentDao = new StudentDao();
+    private final ProfessorDao professorDao = new ProfessorDao();
+    private final NameIndex students = new NameIndex();
+    private final NameIndex professors = new NameIndex();
+
+    /**
+     * 이름에 검색어가 들어 있는 학생(키는 학번)
+     */
+    public List<NameIndex.Match> searchStudents(String query, int limit) throws SQLException {
+        return loaded(students, this::scanStudents).search(query, limit);
+    }
+
+    /**
+     * 이름에 검색어가 들어 있는 교수(키는 교수번호)
+     */
+    public List<NameIndex.Match> searchProfessors(String query, int limit) throws SQLException {
+        return loaded(professors, this::scanProfessors).search(query, limit);
+    }
+
+    public void studentSaved(Student student) {
+        students.put(student.getStudentId(), student.getName());
+    }
+
+    public void studentDeleted(String studentId) {
+        students.remove(studentId);
+    }
+
+    public void professorSaved(Professor professor) {
+        professors.put(professor.getProfessorId(), professor.getName());
+    }
+
+    public void professorDeleted(String professorId) {
+        professors.remove(professorId);
+    }
+
+    /**
+     * 두 색인을 비운다. 다음 검색 때 DB에서 다시 만든다.
+     */
+    public void invalidate() {
+        students.clear();
+        professors.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "NameSearchService [students=" + students + ", professors=" + professors + "]";
+    }
+
+    private static NameIndex loaded(NameIndex index, NameIndex.Source source) throws SQLException {
+        if (!index.isLoaded()) {
+            synchronized (index) {
+                if (!index.isLoaded()) {
+                    index.rebuild(source);
+                }
+            }
+        }
+        return index;
+    }
+
+    private void scanStudents(BiConsumer<String, String> sink) throws SQLException {
+        try (Stream<Student> stream = studentDao.stream()) {
+            stream.forEach(student -> sink.accept(student.getStudentId(), student.getName()));
+        } catch (DataAccessException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void scanProfessors(BiConsumer<String, String> sink) throws SQLException {
+        try (Stream<Professor> stream = professorDao.stream()) {
+            stream.forEach(professor -> sink.accept(professor.getProfessorId(), professor.getName()));
+        } catch (DataAccessException e) {
+            throw e.getCause();
+        }
+    }
+}
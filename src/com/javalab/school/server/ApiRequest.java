@@ -0,0 +1,99 @@
+package com.javalab.school.server;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP 요청 한 건
+ * - path: 리소스 이름 뒤의 경로 조각(예: /students/S001 이면 ["S001"])
+ * - params: 쿼리 문자열과 form(application/x-www-form-urlencoded) 본문의 파라미터
+ */
+final class ApiRequest {
+
+    private final String method;
+    private final List<String> path;
+    private final Map<String, String> params;
+
+    ApiRequest(String method, List<String> path, Map<String, String> params) {
+        this.method = method;
+        this.path = Collections.unmodifiableList(path);
+        this.params = Collections.unmodifiableMap(params);
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    /**
+     * 경로 조각 수
+     */
+    int pathSize() {
+        return path.size();
+    }
+
+    String path(int index) {
+        return path.get(index);
+    }
+
+    /**
+     * 필수 파라미터. 없으면 IllegalArgumentException(400 응답)
+     */
+    String param(String name) {
+        String value = params.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("필수 항목이 없습니다: " + name);
+        }
+        return value;
+    }
+
+    /**
+     * 선택 파라미터. 없으면 기본값
+     */
+    String param(String name, String defaultValue) {
+        String value = params.get(name);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+    int intParam(String name) {
+        return toInt(name, param(name));
+    }
+
+    int intParam(String name, int defaultValue) {
+        String value = params.get(name);
+        return value == null || value.isEmpty() ? defaultValue : toInt(name, value);
+    }
+
+    static int toInt(String name, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + "은(는) 숫자여야 합니다: " + value);
+        }
+    }
+
+    /**
+     * "a=1&b=2" 형식의 문자열을 파싱하여 map에 넣는다.
+     */
+    static void parseForm(String form, Map<String, String> map) {
+        if (form == null || form.isEmpty()) {
+            return;
+        }
+        for (String pair : form.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            map.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+    }
+
+    static Map<String, String> newParams() {
+        return new HashMap<>();
+    }
+}
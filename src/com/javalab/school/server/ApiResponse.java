@@ -0,0 +1,49 @@
+package com.javalab.school.server;
+
+/**
+ * HTTP 응답 한 건(상태 코드와 JSON 본문)
+ */
+final class ApiResponse {
+
+    private final int status;
+    private final String body;
+
+    private ApiResponse(int status, String body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    static ApiResponse ok(Json json) {
+        return new ApiResponse(200, json.toString());
+    }
+
+    static ApiResponse created(int rows) {
+        return new ApiResponse(201, new Json().beginObject().field("rows", rows).endObject().toString());
+    }
+
+    /**
+     * 수정/삭제 결과: 대상 행이 없으면 404
+     */
+    static ApiResponse rows(int rows) {
+        if (rows == 0) {
+            return notFound();
+        }
+        return new ApiResponse(200, new Json().beginObject().field("rows", rows).endObject().toString());
+    }
+
+    static ApiResponse notFound() {
+        return error(404, "대상을 찾을 수 없습니다.");
+    }
+
+    static ApiResponse error(int status, String message) {
+        return new ApiResponse(status, new Json().beginObject().field("error", message).endObject().toString());
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    String getBody() {
+        return body;
+    }
+}
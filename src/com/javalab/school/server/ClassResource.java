@@ -0,0 +1,66 @@
+package com.javalab.school.server;
+
+import com.javalab.school.dao.ClassDao;
+import com.javalab.school.domain.CourseClass;
+
+import java.sql.SQLException;
+
+/**
+ * /classes 리소스(개설 수업)
+ */
+final class ClassResource extends Resource {
+
+    private final ClassDao classDao = new ClassDao();
+
+    @Override
+    ApiResponse list(ApiRequest request) throws SQLException {
+        Json json = new Json().beginArray();
+        for (CourseClass courseClass : classDao.findAll()) {
+            write(json, courseClass);
+        }
+        return ApiResponse.ok(json.endArray());
+    }
+
+    @Override
+    ApiResponse get(ApiRequest request) throws SQLException {
+        CourseClass courseClass = classDao.findById(request.path(0));
+        return courseClass == null ? ApiResponse.notFound() : ApiResponse.ok(write(new Json(), courseClass));
+    }
+
+    @Override
+    ApiResponse create(ApiRequest request) throws SQLException {
+        return ApiResponse.created(classDao.insert(read(request, request.param("classId"))));
+    }
+
+    @Override
+    ApiResponse update(ApiRequest request) throws SQLException {
+        return ApiResponse.rows(classDao.update(read(request, request.path(0))));
+    }
+
+    @Override
+    ApiResponse delete(ApiRequest request) throws SQLException {
+        return ApiResponse.rows(classDao.delete(request.path(0)));
+    }
+
+    private static CourseClass read(ApiRequest request, String classId) {
+        return new CourseClass(classId,
+                request.param("courseId"),
+                request.intParam("year"),
+                request.param("semester"),
+                request.param("professorId"),
+                request.param("classroom", null),
+                request.intParam("enroll"));
+    }
+
+    private static Json write(Json json, CourseClass courseClass) {
+        return json.beginObject()
+                .field("classId", courseClass.getClassId())
+                .field("courseId", courseClass.getCourseId())
+                .field("year", courseClass.getYear())
+                .field("semester", courseClass.getSemester())
+                .field("professorId", courseClass.getProfessorId())
+                .field("classroom", courseClass.getClassroom())
+                .field("enroll", courseClass.getEnroll())
+                .endObject();
+    }
+}
@@ -0,0 +1,67 @@
+package com.javalab.school.server;
+
+import com.javalab.school.dao.CourseDao;
+import com.javalab.school.domain.Course;
+import com.javalab.school.transcript.TranscriptService;
+
+import java.sql.SQLException;
+
+/**
+ * /courses 리소스
+ * - 강좌 정보를 수정하면 학점이 바뀌었을 수 있으므로 성적표 집계를 모두 버린다.
+ */
+final class CourseResource extends Resource {
+
+    private final CourseDao courseDao = new CourseDao();
+    private final TranscriptService transcriptService;
+
+    CourseResource(TranscriptService transcriptService) {
+        this.transcriptService = transcriptService;
+    }
+
+    @Override
+    ApiResponse list(ApiRequest request) throws SQLException {
+        Json json = new Json().beginArray();
+        for (Course course : courseDao.findAll()) {
+            write(json, course);
+        }
+        return ApiResponse.ok(json.endArray());
+    }
+
+    @Override
+    ApiResponse get(ApiRequest request) throws SQLException {
+        Course course = courseDao.findById(request.path(0));
+        return course == null ? ApiResponse.notFound() : ApiResponse.ok(write(new Json(), course));
+    }
+
+    @Override
+    ApiResponse create(ApiRequest request) throws SQLException {
+        return ApiResponse.created(courseDao.insert(read(request, request.param("courseId"))));
+    }
+
+    @Override
+    ApiResponse update(ApiRequest request) throws SQLException {
+        int rows = courseDao.update(read(request, request.path(0)));
+        transcriptService.invalidateAll();
+        return ApiResponse.rows(rows);
+    }
+
+    @Override
+    ApiResponse delete(ApiRequest request) throws SQLException {
+        return ApiResponse.rows(courseDao.delete(request.path(0)));
+    }
+
+    private static Course read(ApiRequest request, String courseId) {
+        return new Course(courseId, request.param("name"), request.intParam("credit"),
+                request.param("description", null));
+    }
+
+    private static Json write(Json json, Course course) {
+        return json.beginObject()
+                .field("courseId", course.getCourseId())
+                .field("name", course.getName())
+                .field("credit", course.getCredit())
+                .field("description", course.getDescription())
+                .endObject();
+    }
+}
@@ -0,0 +1,56 @@
+package com.javalab.school.server;
+
+import com.javalab.school.dao.DepartmentDao;
+import com.javalab.school.domain.Department;
+
+import java.sql.SQLException;
+
+/**
+ * /departments 리소스
+ */
+final class DepartmentResource extends Resource {
+
+    private final DepartmentDao departmentDao = new DepartmentDao();
+
+    @Override
+    ApiResponse list(ApiRequest request) throws SQLException {
+        Json json = new Json().beginArray();
+        for (Department department : departmentDao.findAll()) {
+            write(json, department);
+        }
+        return ApiResponse.ok(json.endArray());
+    }
+
+    @Override
+    ApiResponse get(ApiRequest request) throws SQLException {
+        Department department = departmentDao.findById(ApiRequest.toInt("departmentId", request.path(0)));
+        return department == null ? ApiResponse.notFound() : ApiResponse.ok(write(new Json(), department));
+    }
+
+    @Override
+    ApiResponse create(ApiRequest request) throws SQLException {
+        return ApiResponse.created(departmentDao.insert(read(request, request.intParam("departmentId"))));
+    }
+
+    @Override
+    ApiResponse update(ApiRequest request) throws SQLException {
+        return ApiResponse.rows(departmentDao.update(read(request, ApiRequest.toInt("departmentId", request.path(0)))));
+    }
+
+    @Override
+    ApiResponse delete(ApiRequest request) throws SQLException {
+        return ApiResponse.rows(departmentDao.delete(ApiRequest.toInt("departmentId", request.path(0))));
+    }
+
+    private static Department read(ApiRequest request, int departmentId) {
+        return new Department(departmentId, request.param("name"), request.param("office", null));
+    }
+
+    private static Json write(Json json, Department department) {
+        return json.beginObject()
+                .field("departmentId", department.getDepartmentId())
+                .field("name", department.getName())
+                .field("office", department.getOffice())
+                .endObject();
+    }
+}
@@ -0,0 +1,125 @@
+package com.javalab.school.server;
+
+/**
+ * 응답 본문용 간단한 JSON 작성기
+ * - beginObject()/name()/value()/endObject()를 순서대로 호출하면 쉼표는 자동으로 넣는다.
+ * - 외부 라이브러리 없이 도메인 객체 몇 종류를 직렬화하는 용도로만 쓴다.
+ */
+final class Json {
+
+    private final StringBuilder sb = new StringBuilder(256);
+    private boolean needComma;
+
+    Json beginObject() {
+        comma();
+        sb.append('{');
+        needComma = false;
+        return this;
+    }
+
+    Json endObject() {
+        sb.append('}');
+        needComma = true;
+        return this;
+    }
+
+    Json beginArray() {
+        comma();
+        sb.append('[');
+        needComma = false;
+        return this;
+    }
+
+    Json endArray() {
+        sb.append(']');
+        needComma = true;
+        return this;
+    }
+
+    Json name(String name) {
+        comma();
+        string(name);
+        sb.append(':');
+        needComma = false;
+        return this;
+    }
+
+    Json value(String value) {
+        comma();
+        if (value == null) {
+            sb.append("null");
+        } else {
+            string(value);
+        }
+        needComma = true;
+        return this;
+    }
+
+    Json value(long value) {
+        comma();
+        sb.append(value);
+        needComma = true;
+        return this;
+    }
+
+    Json value(double value) {
+        comma();
+        sb.append(value);
+        needComma = true;
+        return this;
+    }
+
+    Json field(String name, String value) {
+        return name(name).value(value);
+    }
+
+    Json field(String name, long value) {
+        return name(name).value(value);
+    }
+
+    Json field(String name, Integer value) {
+        return value == null ? field(name, (String) null) : field(name, value.longValue());
+    }
+
+    @Override
+    public String toString() {
+        return sb.toString();
+    }
+
+    private void comma() {
+        if (needComma) {
+            sb.append(',');
+        }
+    }
+
+    private void string(String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+}
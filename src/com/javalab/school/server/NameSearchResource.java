@@ -0,0 +1,53 @@
+package com.javalab.school.server;
+
+import com.javalab.school.search.NameIndex;
+import com.javalab.school.search.NameSearchService;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * /names 리소스(조회 전용, 입력하는 동안의 이름 자동 완성)
+ * - GET /names?q=김처&type=student|professor&limit=10
+ * - 메모리의 이름 색인에서 찾으며 초성(ㄱㅊ)이나 입력 중인 글자(김처)로도 찾을 수 있다.
+ */
+final class NameSearchResource extends Resource {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+
+    private final NameSearchService nameSearchService;
+
+    NameSearchResource(NameSearchService nameSearchService) {
+        this.nameSearchService = nameSearchService;
+    }
+
+    @Override
+    ApiResponse list(ApiRequest request) throws SQLException {
+        String query = request.param("q");
+        int limit = Math.min(request.intParam("limit", DEFAULT_LIMIT), MAX_LIMIT);
+        String type = request.param("type", "student");
+        List<NameIndex.Match> matches;
+        String keyName;
+        switch (type) {
+            case "student":
+                matches = nameSearchService.searchStudents(query, limit);
+                keyName = "studentId";
+                break;
+            case "professor":
+                matches = nameSearchService.searchProfessors(query, limit);
+                keyName = "professorId";
+                break;
+            default:
+                throw new IllegalArgumentException("type은 student 또는 professor여야 합니다: " + type);
+        }
+        Json json = new Json().beginArray();
+        for (NameIndex.Match match : matches) {
+            json.beginObject()
+                    .field(keyName, match.getKey())
+                    .field("name", match.getName())
+                    .endObject();
+        }
+        return ApiResponse.ok(json.endArray());
+    }
+}
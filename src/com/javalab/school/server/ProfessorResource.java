@@ -0,0 +1,85 @@
+package com.javalab.school.server;
+
+import com.javalab.school.dao.ProfessorDao;
+import com.javalab.school.domain.Professor;
+import com.javalab.school.search.NameSearchService;
+
+import java.sql.SQLException;
+
+/**
+ * /professors 리소스
+ * - 주민번호는 응답에 포함하지 않는다. 입사일(hiredate)은 YYYY-MM-DD 형식이다.
+ * - 등록/수정/삭제는 이름 검색 색인(/names)에도 반영한다.
+ */
+final class ProfessorResource extends Resource {
+
+    private final ProfessorDao professorDao = new ProfessorDao();
+    private final NameSearchService nameSearchService;
+
+    ProfessorResource(NameSearchService nameSearchService) {
+        this.nameSearchService = nameSearchService;
+    }
+
+    @Override
+    ApiResponse list(ApiRequest request) throws SQLException {
+        Json json = new Json().beginArray();
+        for (Professor professor : professorDao.findAll()) {
+            write(json, professor);
+        }
+        return ApiResponse.ok(json.endArray());
+    }
+
+    @Override
+    ApiResponse get(ApiRequest request) throws SQLException {
+        Professor professor = professorDao.findById(request.path(0));
+        return professor == null ? ApiResponse.notFound() : ApiResponse.ok(write(new Json(), professor));
+    }
+
+    @Override
+    ApiResponse create(ApiRequest request) throws SQLException {
+        Professor professor = read(request, request.param("professorId"));
+        int rows = professorDao.insert(professor);
+        if (rows > 0) {
+            nameSearchService.professorSaved(professor);
+        }
+        return ApiResponse.created(rows);
+    }
+
+    @Override
+    ApiResponse update(ApiRequest request) throws SQLException {
+        Professor professor = read(request, request.path(0));
+        int rows = professorDao.update(professor);
+        if (rows > 0) {
+            nameSearchService.professorSaved(professor);
+        }
+        return ApiResponse.rows(rows);
+    }
+
+    @Override
+    ApiResponse delete(ApiRequest request) throws SQLException {
+        int rows = professorDao.delete(request.path(0));
+        if (rows > 0) {
+            nameSearchService.professorDeleted(request.path(0));
+        }
+        return ApiResponse.rows(rows);
+    }
+
+    private static Professor read(ApiRequest request, String professorId) {
+        return new Professor(professorId,
+                request.param("jumin"),
+                request.param("name"),
+                request.intParam("departmentId"),
+                request.param("grade", null),
+                request.param("hiredate", null));
+    }
+
+    private static Json write(Json json, Professor professor) {
+        return json.beginObject()
+                .field("professorId", professor.getProfessorId())
+                .field("name", professor.getName())
+                .field("departmentId", professor.getDepartmentId())
+                .field("grade", professor.getGrade())
+                .field("hiredate", professor.getHiredate())
+                .endObject();
+    }
+}
@@ -0,0 +1,50 @@
+package com.javalab.school.server;
+
+import java.sql.SQLException;
+
+/**
+ * 테이블 하나에 대한 REST 리소스
+ * - GET /이름 → list, GET /이름/{id} → get, POST /이름 → create, PUT /이름/{id} → update, DELETE /이름/{id} → delete
+ * - 지원하지 않는 메소드는 405를 반환한다. 하위 클래스는 필요한 것만 재정의한다.
+ */
+abstract class Resource {
+
+    ApiResponse handle(ApiRequest request) throws SQLException {
+        switch (request.getMethod()) {
+            case "GET":
+                return request.pathSize() == 0 ? list(request) : get(request);
+            case "POST":
+                return request.pathSize() == 0 ? create(request) : notAllowed();
+            case "PUT":
+                return request.pathSize() == 0 ? notAllowed() : update(request);
+            case "DELETE":
+                return request.pathSize() == 0 ? notAllowed() : delete(request);
+            default:
+                return notAllowed();
+        }
+    }
+
+    ApiResponse list(ApiRequest request) throws SQLException {
+        return notAllowed();
+    }
+
+    ApiResponse get(ApiRequest request) throws SQLException {
+        return notAllowed();
+    }
+
+    ApiResponse create(ApiRequest request) throws SQLException {
+        return notAllowed();
+    }
+
+    ApiResponse update(ApiRequest request) throws SQLException {
+        return notAllowed();
+    }
+
+    ApiResponse delete(ApiRequest request) throws SQLException {
+        return notAllowed();
+    }
+
+    static ApiResponse notAllowed() {
+        return ApiResponse.error(405, "지원하지 않는 요청입니다.");
+    }
+}
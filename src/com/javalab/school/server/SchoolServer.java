@@ -0,0 +1,263 @@
+package com.javalab.school.server;
+
+import com.javalab.school.dao.ConnectionPool;
+import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.dao.PoolMetrics;
+import com.javalab.school.metrics.Metrics;
+import com.javalab.school.metrics.OperationMetrics;
+import com.javalab.school.search.NameSearchService;
+import com.javalab.school.transcript.TranscriptService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 학사 행정관리 서버(콘솔 메뉴 없이 HTTP로 요청을 받는 모드)
+ * - SchoolManagementMain의 학생/교수/학과/강좌/수업/성적 등록, 조회, 수정, 삭제를 JSON API로 제공한다.
+ * - GET /transcripts/{학번}: 성적표(학점 가중 평점, 학기별 집계)
+ * - GET /names?q=김처&type=student: 학생/교수 이름 자동 완성(메모리 색인)
+ * - GET /metrics: 경로/메소드별 처리 시간과 오류 수(예: "GET /students"), 커넥션 대여 대기 시간
+ * - 요청은 크기가 정해진 작업 스레드 풀에서 처리하고, DB 작업은 DAO를 통해 커넥션 풀을 공유한다.
+ * - 작업 큐가 가득 차면 요청을 받는 스레드가 직접 처리하므로 새 연결 수락이 늦춰진다(backpressure).
+ *
+ * 예) curl -d "studentId=S001&jumin=...&name=홍길동&year=1&departmentId=101" http://localhost:8080/students
+ */
+public class SchoolServer {
+
+    private static final int MAX_BODY_SIZE = 64 * 1024;
+
+    private final HttpServer server;
+    private final ThreadPoolExecutor executor;
+    private final TranscriptService transcriptService;
+
+    public SchoolServer(InetSocketAddress address, int threads, int queueSize) throws IOException {
+        if (threads <= 0 || queueSize <= 0) {
+            throw new IllegalArgumentException("threads와 queueSize는 1 이상이어야 합니다.");
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "school-http-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        server = HttpServer.create(address, queueSize);
+        server.setExecutor(executor);
+        NameSearchService nameSearchService = new NameSearchService();
+        route("/students", new StudentResource(nameSearchService));
+        route("/professors", new ProfessorResource(nameSearchService));
+        route("/departments", new DepartmentResource());
+        transcriptService = new TranscriptService();
+        route("/courses", new CourseResource(transcriptService));
+        route("/classes", new ClassResource());
+        route("/takes", new TakesResource(transcriptService));
+        route("/transcripts", new TranscriptResource(transcriptService));
+        route("/names", new NameSearchResource(nameSearchService));
+        server.createContext("/status", exchange -> send(exchange, status()));
+        server.createContext("/metrics", exchange -> send(exchange, metrics()));
+    }
+
+    public static void main(String[] args) throws IOException {
+        String host = InetAddress.getLoopbackAddress().getHostAddress();
+        int port = 8080;
+        int threads = 32;
+        int queueSize = 1000;
+        for (String arg : args) {
+            if (arg.startsWith("--host=")) {
+                host = arg.substring("--host=".length());
+            } else if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring("--port=".length()));
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring("--threads=".length()));
+            } else if (arg.startsWith("--queue=")) {
+                queueSize = Integer.parseInt(arg.substring("--queue=".length()));
+            } else {
+                System.out.println("사용법: SchoolServer [--host=127.0.0.1] [--port=8080] [--threads=32] [--queue=1000]");
+                return;
+            }
+        }
+
+        SchoolServer server = new SchoolServer(new InetSocketAddress(host, port), threads, queueSize);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "school-http-shutdown"));
+        server.start();
+        System.out.println("학사 행정관리 서버 시작: http://" + host + ":" + port + " (작업 스레드 " + threads + "개)");
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * 처리 중인 요청을 최대 1초 기다린 뒤 서버와 커넥션 풀을 종료한다.
+     * - 쓰기 지연 모드에서 모인 점수 수정은 커넥션 풀을 닫기 전에 반영한다.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            transcriptService.close();
+        } catch (SQLException e) {
+            e.printStackTrace();    // 반영하지 못한 수정은 저널에 남아 다음 시작 때 반영된다.
+        }
+        DatabaseConnection.shutdown();
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private void route(String contextPath, Resource resource) {
+        // 메소드별 지표 객체를 미리 만들어 두어 요청마다 이름을 만들지 않는다.
+        OperationMetrics get = Metrics.operation("GET " + contextPath);
+        OperationMetrics post = Metrics.operation("POST " + contextPath);
+        OperationMetrics put = Metrics.operation("PUT " + contextPath);
+        OperationMetrics delete = Metrics.operation("DELETE " + contextPath);
+        server.createContext(contextPath, exchange -> {
+            ApiResponse response;
+            long start = System.nanoTime();
+            try {
+                ApiRequest request = toRequest(exchange, contextPath);
+                response = request == null ? ApiResponse.notFound() : resource.handle(request);
+            } catch (IllegalArgumentException e) {
+                response = ApiResponse.error(400, e.getMessage());
+            } catch (SQLIntegrityConstraintViolationException e) {
+                response = ApiResponse.error(409, "무결성 제약 조건 위반으로 처리에 실패했습니다.");
+            } catch (SQLTransientConnectionException e) {
+                response = ApiResponse.error(503, "서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.");
+            } catch (SQLException | RuntimeException e) {
+                e.printStackTrace();
+                response = ApiResponse.error(500, "요청 처리 중 오류가 발생했습니다.");
+            }
+            OperationMetrics metrics;
+            switch (exchange.getRequestMethod()) {
+                case "GET": metrics = get; break;
+                case "POST": metrics = post; break;
+                case "PUT": metrics = put; break;
+                case "DELETE": metrics = delete; break;
+                default: metrics = null; break;
+            }
+            if (metrics != null) {
+                if (response.getStatus() >= 500) {
+                    metrics.recordError(start);
+                } else {
+                    metrics.record(start, 0);
+                }
+            }
+            send(exchange, response);
+        });
+    }
+
+    /**
+     * 경로 조각과 파라미터(쿼리 문자열 + form 본문)를 읽어 요청 객체를 만든다.
+     * @return 컨텍스트 경로와 일치하지 않으면 null (예: /studentsX)
+     */
+    private static ApiRequest toRequest(HttpExchange exchange, String contextPath) throws IOException {
+        String rawPath = exchange.getRequestURI().getRawPath();
+        String rest = rawPath.substring(contextPath.length());
+        if (!rest.isEmpty() && rest.charAt(0) != '/') {
+            return null;
+        }
+        List<String> path = new ArrayList<>();
+        for (String segment : rest.split("/")) {
+            if (!segment.isEmpty()) {
+                path.add(URLDecoder.decode(segment, StandardCharsets.UTF_8));
+            }
+        }
+        Map<String, String> params = ApiRequest.newParams();
+        ApiRequest.parseForm(exchange.getRequestURI().getRawQuery(), params);
+        ApiRequest.parseForm(readBody(exchange), params);
+        return new ApiRequest(exchange.getRequestMethod(), path, params);
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_SIZE + 1);
+            if (body.length > MAX_BODY_SIZE) {
+                throw new IllegalArgumentException("요청 본문이 너무 큽니다.");
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(HttpExchange exchange, ApiResponse response) throws IOException {
+        byte[] body = response.getBody().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(response.getStatus(), body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * 호출된 적이 있는 업무의 성능 지표(시간 단위: 마이크로초)
+     */
+    private static ApiResponse metrics() {
+        Json json = new Json().beginArray();
+        for (OperationMetrics metrics : Metrics.all()) {
+            if (metrics.getCount() == 0) {
+                continue;
+            }
+            json.beginObject()
+                    .field("operation", metrics.getName())
+                    .field("count", metrics.getCount())
+                    .field("errors", metrics.getErrorCount())
+                    .field("rows", metrics.getRowCount())
+                    .name("meanMicros").value(metrics.getMeanMicros())
+                    .field("p50Micros", metrics.getP50Micros())
+                    .field("p95Micros", metrics.getP95Micros())
+                    .field("p99Micros", metrics.getP99Micros())
+                    .field("maxMicros", metrics.getMaxMicros())
+                    .endObject();
+        }
+        return ApiResponse.ok(json.endArray());
+    }
+
+    /**
+     * 작업 스레드와 커넥션 풀 상태
+     */
+    private ApiResponse status() {
+        ConnectionPool pool = DatabaseConnection.getPool();
+        PoolMetrics metrics = pool.getMetrics();
+        Json json = new Json().beginObject()
+                .name("executor").beginObject()
+                .field("threads", executor.getPoolSize())
+                .field("active", executor.getActiveCount())
+                .field("queued", executor.getQueue().size())
+                .field("completed", executor.getCompletedTaskCount())
+                .endObject()
+                .name("pool").beginObject()
+                .field("active", pool.getActiveCount())
+                .field("idle", pool.getIdleCount())
+                .field("waiting", pool.getWaitingCount())
+                .field("borrowCount", metrics.getBorrowCount())
+                .field("timeoutCount", metrics.getTimeoutCount())
+                .name("avgWaitMicros").value(metrics.getAverageWaitMicros())
+                .endObject()
+                .endObject();
+        return ApiResponse.ok(json);
+    }
+}
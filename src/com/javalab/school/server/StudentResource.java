@@ -0,0 +1,107 @@
+package com.javalab.school.server;
+
+import com.javalab.school.dao.Page;
+import com.javalab.school.dao.StudentDao;
+import com.javalab.school.dao.StudentSearch;
+import com.javalab.school.domain.Student;
+import com.javalab.school.search.NameSearchService;
+
+import java.sql.SQLException;
+
+/**
+ * /students 리소스
+ * - 목록은 키셋 페이지 단위로 반환한다. (?cursor=마지막학번&size=50)
+ * - 검색 조건을 함께 줄 수 있다. (?departmentId=101&yearFrom=2&yearTo=3&name=김&address=서울)
+ * - 주민번호는 응답에 포함하지 않는다.
+ * - 등록/수정/삭제는 이름 검색 색인(/names)에도 반영한다.
+ */
+final class StudentResource extends Resource {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final StudentDao studentDao = new StudentDao();
+    private final NameSearchService nameSearchService;
+
+    StudentResource(NameSearchService nameSearchService) {
+        this.nameSearchService = nameSearchService;
+    }
+
+    @Override
+    ApiResponse list(ApiRequest request) throws SQLException {
+        int size = Math.min(request.intParam("size", DEFAULT_PAGE_SIZE), MAX_PAGE_SIZE);
+        StudentSearch search = new StudentSearch()
+                .namePrefix(request.param("name", null))
+                .addressPrefix(request.param("address", null));
+        if (request.param("departmentId", null) != null) {
+            search.departmentId(request.intParam("departmentId"));
+        }
+        String yearFrom = request.param("yearFrom", null);
+        String yearTo = request.param("yearTo", null);
+        if (yearFrom != null || yearTo != null) {
+            search.yearBetween(yearFrom == null ? null : ApiRequest.toInt("yearFrom", yearFrom),
+                    yearTo == null ? null : ApiRequest.toInt("yearTo", yearTo));
+        }
+        String cursor = request.param("cursor", null);
+        Page<Student> page = search.isEmpty() ? studentDao.findPage(cursor, size) : studentDao.search(search, cursor, size);
+        Json json = new Json().beginObject().name("items").beginArray();
+        for (Student student : page.getItems()) {
+            write(json, student);
+        }
+        return ApiResponse.ok(json.endArray().field("nextCursor", page.getNextCursor()).endObject());
+    }
+
+    @Override
+    ApiResponse get(ApiRequest request) throws SQLException {
+        Student student = studentDao.findById(request.path(0));
+        return student == null ? ApiResponse.notFound() : ApiResponse.ok(write(new Json(), student));
+    }
+
+    @Override
+    ApiResponse create(ApiRequest request) throws SQLException {
+        Student student = read(request, request.param("studentId"));
+        int rows = studentDao.insert(student);
+        if (rows > 0) {
+            nameSearchService.studentSaved(student);
+        }
+        return ApiResponse.created(rows);
+    }
+
+    @Override
+    ApiResponse update(ApiRequest request) throws SQLException {
+        Student student = read(request, request.path(0));
+        int rows = studentDao.update(student);
+        if (rows > 0) {
+            nameSearchService.studentSaved(student);
+        }
+        return ApiResponse.rows(rows);
+    }
+
+    @Override
+    ApiResponse delete(ApiRequest request) throws SQLException {
+        int rows = studentDao.delete(request.path(0));
+        if (rows > 0) {
+            nameSearchService.studentDeleted(request.path(0));
+        }
+        return ApiResponse.rows(rows);
+    }
+
+    private static Student read(ApiRequest request, String studentId) {
+        return new Student(studentId,
+                request.param("jumin"),
+                request.param("name"),
+                request.intParam("year"),
+                request.param("address", null),
+                request.intParam("departmentId"));
+    }
+
+    private static Json write(Json json, Student student) {
+        return json.beginObject()
+                .field("studentId", student.getStudentId())
+                .field("name", student.getName())
+                .field("year", student.getYear())
+                .field("address", student.getAddress())
+                .field("departmentId", student.getDepartmentId())
+                .endObject();
+    }
+}
@@ -0,0 +1,88 @@
+package com.javalab.school.server;
+
+import com.javalab.school.dao.EnrollmentResult;
+import com.javalab.school.dao.Page;
+import com.javalab.school.dao.TakesDao;
+import com.javalab.school.domain.Takes;
+import com.javalab.school.transcript.TranscriptService;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * /takes 리소스(성적)
+ * - GET /takes: 전체 성적을 키셋 페이지 단위로 반환한다. (?cursor=학번:수업코드&size=50)
+ * - GET /takes/{학번}: 한 학생의 성적 목록
+ * - PUT, DELETE /takes/{학번}/{수업코드}
+ * - 등록/수정/삭제는 TranscriptService를 거쳐서 성적표 집계도 함께 갱신한다.
+ * - 등록할 때 수업 정원이 찼으면 409, 수업이 없으면 404
+ */
+final class TakesResource extends Resource {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final TakesDao takesDao = new TakesDao();
+    private final TranscriptService transcriptService;
+
+    TakesResource(TranscriptService transcriptService) {
+        this.transcriptService = transcriptService;
+    }
+
+    @Override
+    ApiResponse list(ApiRequest request) throws SQLException {
+        int size = Math.min(request.intParam("size", DEFAULT_PAGE_SIZE), MAX_PAGE_SIZE);
+        Page<Takes> page = takesDao.findPage(request.param("cursor", null), size);
+        Json json = new Json().beginObject().name("items");
+        write(json, page.getItems());
+        return ApiResponse.ok(json.field("nextCursor", page.getNextCursor()).endObject());
+    }
+
+    @Override
+    ApiResponse get(ApiRequest request) throws SQLException {
+        return ApiResponse.ok(write(new Json(), takesDao.findByStudentId(request.path(0))));
+    }
+
+    @Override
+    ApiResponse create(ApiRequest request) throws SQLException {
+        EnrollmentResult result = transcriptService.enroll(
+                new Takes(request.param("studentId"), request.param("classId"), request.param("score", null)));
+        switch (result) {
+            case FULL:
+                return ApiResponse.error(409, "수업 정원이 가득 찼습니다.");
+            case NO_CLASS:
+                return ApiResponse.notFound();
+            default:
+                return ApiResponse.created(1);
+        }
+    }
+
+    @Override
+    ApiResponse update(ApiRequest request) throws SQLException {
+        if (request.pathSize() != 2) {
+            return notAllowed();
+        }
+        return ApiResponse.rows(transcriptService.updateTakes(
+                new Takes(request.path(0), request.path(1), request.param("score"))));
+    }
+
+    @Override
+    ApiResponse delete(ApiRequest request) throws SQLException {
+        if (request.pathSize() != 2) {
+            return notAllowed();
+        }
+        return ApiResponse.rows(transcriptService.deleteTakes(request.path(0), request.path(1)));
+    }
+
+    private static Json write(Json json, List<Takes> takesList) {
+        json.beginArray();
+        for (Takes takes : takesList) {
+            json.beginObject()
+                    .field("studentId", takes.getId())
+                    .field("classId", takes.getSubject())
+                    .field("score", takes.getScore())
+                    .endObject();
+        }
+        return json.endArray();
+    }
+}
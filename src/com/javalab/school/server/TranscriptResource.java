@@ -0,0 +1,42 @@
+package com.javalab.school.server;
+
+import com.javalab.school.transcript.SemesterSummary;
+import com.javalab.school.transcript.Transcript;
+import com.javalab.school.transcript.TranscriptService;
+
+import java.sql.SQLException;
+
+/**
+ * /transcripts 리소스(조회 전용)
+ * - GET /transcripts/{학번}: 학점 가중 평점과 학기별 집계
+ */
+final class TranscriptResource extends Resource {
+
+    private final TranscriptService transcriptService;
+
+    TranscriptResource(TranscriptService transcriptService) {
+        this.transcriptService = transcriptService;
+    }
+
+    @Override
+    ApiResponse get(ApiRequest request) throws SQLException {
+        Transcript transcript = transcriptService.getTranscript(request.path(0));
+        Json json = new Json().beginObject()
+                .field("studentId", transcript.getStudentId())
+                .field("courseCount", transcript.getCourseCount())
+                .field("attemptedCredits", transcript.getAttemptedCredits())
+                .field("earnedCredits", transcript.getEarnedCredits())
+                .name("gpa").value(transcript.getGpa())
+                .name("semesters").beginArray();
+        for (SemesterSummary semester : transcript.getSemesters()) {
+            json.beginObject()
+                    .field("year", semester.getYear())
+                    .field("semester", semester.getSemester())
+                    .field("attemptedCredits", semester.getAttemptedCredits())
+                    .field("earnedCredits", semester.getEarnedCredits())
+                    .name("gpa").value(semester.getGpa())
+                    .endObject();
+        }
+        return ApiResponse.ok(json.endArray().endObject());
+    }
+}
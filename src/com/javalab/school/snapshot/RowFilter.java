@@ -0,0 +1,29 @@
+package com.javalab.school.snapshot;
+
+/**
+ * 스냅샷 행 조건
+ * - 행 객체 대신 행 번호(row)를 받으므로 검사할 때 객체를 만들지 않는다.
+ */
+@FunctionalInterface
+public interface RowFilter {
+
+    boolean test(StudentSnapshot snapshot, int row);
+
+    /** 모든 행 */
+    RowFilter ALL = (snapshot, row) -> true;
+
+    default RowFilter and(RowFilter other) {
+        return (snapshot, row) -> test(snapshot, row) && other.test(snapshot, row);
+    }
+
+    static RowFilter yearBetween(int min, int max) {
+        return (snapshot, row) -> {
+            int year = snapshot.year(row);
+            return year >= min && year <= max;
+        };
+    }
+
+    static RowFilter departmentIs(int departmentId) {
+        return (snapshot, row) -> snapshot.departmentId(row) == departmentId;
+    }
+}
@@ -0,0 +1,51 @@
+package com.javalab.school.snapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문자열 사전(dictionary encoding)
+ * - 서로 다른 문자열마다 0부터 코드를 붙이고, 행에는 문자열 대신 int 코드만 저장한다.
+ * - 주소, 학과명처럼 값의 종류가 행 수보다 훨씬 적은 열에 쓴다. null은 코드 -1이다.
+ */
+final class StringDictionary {
+
+    static final int NULL_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * 문자열의 코드를 반환한다. 처음 보는 문자열이면 새 코드를 붙인다.
+     */
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * 등록된 문자열의 코드, 없으면 NULL_CODE
+     */
+    int codeOf(String value) {
+        Integer code = value == null ? null : codes.get(value);
+        return code == null ? NULL_CODE : code;
+    }
+
+    String decode(int code) {
+        return code == NULL_CODE ? null : values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+}
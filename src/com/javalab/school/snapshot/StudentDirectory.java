@@ -0,0 +1,393 @@
+package com.javalab.school.snapshot;
+
+import com.javalab.school.dao.DatabaseConnection;
+import com.javalab.school.domain.Student;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 메모리 매핑(MappedByteBuffer) 학생 명부 파일
+ * - 학기 중에는 거의 바뀌지 않는 학생 목록을 이진 파일로 내보내 두고, 실행할 때마다 DB 대신 이 파일을 읽는다.
+ * - 파일은 운영체제 페이지 캐시에 매핑되므로 힙에 Student 객체를 만들지 않고 필요한 필드만 읽는다.
+ * - 파일 구성: [헤더 32바이트][고정 길이 레코드 ...][학번순 오프셋 인덱스 ...]
+ *   - 레코드: 학번(1+10), 이름(1+30), 학년(4), 학과코드(4), 주소(1+100) 바이트, 문자열은 길이 1바이트 + UTF-8
+ *     (student 테이블의 VARCHAR2(30), VARCHAR2(100) 바이트 길이와 같다)
+ *   - 필드 폭을 넘는 이름/주소는 자르지 않는다. 그 학생은 명부에서 빼고 refresh() 결과에 학번을 남긴다.
+ *   - 인덱스: 학번(10바이트, 0으로 채움) + 레코드 오프셋(4바이트)을 학번 바이트순으로 정렬
+ * - 조회 결과의 "행 번호"는 인덱스 슬롯 번호(학번순)이다.
+ * - 주민번호는 싣지 않는다.
+ *
+ * 명령: StudentDirectory refresh|info|get 학번 [파일경로]
+ */
+public final class StudentDirectory implements AutoCloseable {
+
+    private static final int MAGIC = 0x53444952;    // "SDIR"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+
+    private static final int ID_WIDTH = 10;
+    private static final int NAME_WIDTH = 30;
+    private static final int ADDRESS_WIDTH = 100;
+    private static final int ID_OFFSET = 0;
+    private static final int NAME_OFFSET = ID_OFFSET + 1 + ID_WIDTH;
+    private static final int YEAR_OFFSET = NAME_OFFSET + 1 + NAME_WIDTH;
+    private static final int DEPARTMENT_OFFSET = YEAR_OFFSET + 4;
+    private static final int ADDRESS_OFFSET = DEPARTMENT_OFFSET + 4;
+    private static final int RECORD_SIZE = ADDRESS_OFFSET + 1 + ADDRESS_WIDTH + 1;  // 8바이트 단위로 맞춤
+    private static final int INDEX_ENTRY_SIZE = ID_WIDTH + 4;
+    private static final int NULL_LENGTH = 0xFF;
+
+    private static final String SELECT_SQL = "SELECT student_id, name, year, address, department_id FROM student " +
+            "ORDER BY student_id";
+    private static final int FETCH_SIZE = 1000;
+
+    /** 기본 파일 경로(시스템 프로퍼티 school.directory.path) */
+    public static final String DEFAULT_PATH = System.getProperty("school.directory.path", "student-directory.bin");
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int size;
+    private final int indexOffset;
+
+    private StudentDirectory(Path path, FileChannel channel, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("학생 명부 파일이 아닙니다: " + path);
+        }
+        if (buffer.getInt(4) != VERSION || buffer.getInt(12) != RECORD_SIZE) {
+            throw new IOException("지원하지 않는 학생 명부 파일 버전입니다: " + path);
+        }
+        this.size = buffer.getInt(8);
+        this.indexOffset = (int) buffer.getLong(16);
+        if ((long) indexOffset + (long) size * INDEX_ENTRY_SIZE > buffer.capacity()) {
+            throw new IOException("학생 명부 파일이 손상되었습니다: " + path);
+        }
+    }
+
+    /**
+     * refresh() 결과
+     */
+    public static final class RefreshResult {
+        private final int count;
+        private final List<String> rejected;
+
+        private RefreshResult(int count, List<String> rejected) {
+            this.count = count;
+            this.rejected = Collections.unmodifiableList(rejected);
+        }
+
+        /**
+         * 기록한 학생 수
+         */
+        public int getCount() {
+            return count;
+        }
+        /**
+         * 이름이나 주소가 필드 폭을 넘어 명부에서 뺀 학생(학번과 사유)
+         */
+        public List<String> getRejected() {
+            return rejected;
+        }
+        public boolean hasRejected() {
+            return !rejected.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "RefreshResult [count=" + count + ", rejected=" + rejected.size() + "]";
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("사용법: StudentDirectory refresh|info|get 학번 [파일경로]");
+            return;
+        }
+        try {
+            switch (args[0]) {
+                case "refresh": {
+                    Path file = Paths.get(args.length > 1 ? args[1] : DEFAULT_PATH);
+                    long start = System.nanoTime();
+                    RefreshResult result = refresh(file);
+                    System.out.println("학생 명부 파일 생성: " + file + " (" + result.getCount() + "명, "
+                            + (System.nanoTime() - start) / 1000000 + "ms)");
+                    if (result.hasRejected()) {
+                        System.out.println("필드 폭을 넘어 명부에서 뺀 학생 " + result.getRejected().size() + "명:");
+                        result.getRejected().forEach(r -> System.out.println("  " + r));
+                    }
+                    break;
+                }
+                case "info":
+                    try (StudentDirectory directory = open(Paths.get(args.length > 1 ? args[1] : DEFAULT_PATH))) {
+                        System.out.println(directory);
+                    }
+                    break;
+                case "get":
+                    try (StudentDirectory directory = open(Paths.get(args.length > 2 ? args[2] : DEFAULT_PATH))) {
+                        Student student = directory.get(args[1]);
+                        System.out.println(student == null ? "해당 학번의 학생이 없습니다." : student);
+                    }
+                    break;
+                default:
+                    System.out.println("알 수 없는 명령입니다: " + args[0]);
+            }
+        } catch (IOException | SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DatabaseConnection.shutdown();
+        }
+    }
+
+    /**
+     * DB의 학생 테이블로 명부 파일을 다시 만든다.
+     * - 임시 파일에 쓴 뒤 원래 파일과 바꾸므로, 이미 열려 있는 명부는 이전 내용을 계속 읽는다.
+     * - 이름이나 주소가 필드 폭을 넘는 학생은 잘라서 싣지 않고 빼며, 결과의 getRejected()로 알린다.
+     */
+    public static RefreshResult refresh(Path file) throws IOException, SQLException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        List<byte[]> ids = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        int count = 0;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+            out.position(HEADER_SIZE);
+            try (Connection conn = DatabaseConnection.borrow();
+                 PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL)) {
+                pstmt.setFetchSize(FETCH_SIZE);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        String studentId = rs.getString(1);
+                        byte[] id = studentId.getBytes(StandardCharsets.UTF_8);
+                        if (id.length > ID_WIDTH) {
+                            throw new IllegalStateException("학번이 " + ID_WIDTH + "바이트를 넘습니다: " + studentId);
+                        }
+                        byte[] name = toBytes(rs.getString(2));
+                        byte[] address = toBytes(rs.getString(4));
+                        if (name != null && name.length > NAME_WIDTH) {
+                            rejected.add(studentId + ": 이름 " + name.length + "바이트(최대 " + NAME_WIDTH + ")");
+                            continue;
+                        }
+                        if (address != null && address.length > ADDRESS_WIDTH) {
+                            rejected.add(studentId + ": 주소 " + address.length + "바이트(최대 " + ADDRESS_WIDTH + ")");
+                            continue;
+                        }
+                        Arrays.fill(record.array(), (byte) 0);
+                        putString(record, ID_OFFSET, id);
+                        putString(record, NAME_OFFSET, name);
+                        record.putInt(YEAR_OFFSET, rs.getInt(3));
+                        putString(record, ADDRESS_OFFSET, address);
+                        record.putInt(DEPARTMENT_OFFSET, rs.getInt(5));
+                        record.clear();
+                        writeFully(out, record);
+                        ids.add(id);
+                        count++;
+                    }
+                }
+            }
+
+            // 인덱스: 학번 바이트순(DB 정렬 규칙과 다를 수 있으므로 다시 정렬)
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(ids.get(a), ids.get(b)));
+            long indexOffset = HEADER_SIZE + (long) count * RECORD_SIZE;
+            if (indexOffset + (long) count * INDEX_ENTRY_SIZE > Integer.MAX_VALUE) {
+                throw new IllegalStateException("학생 수가 너무 많아 한 파일에 매핑할 수 없습니다: " + count);
+            }
+            ByteBuffer index = ByteBuffer.allocate(INDEX_ENTRY_SIZE * Math.max(1, Math.min(count, 4096)));
+            for (int i = 0; i < count; i++) {
+                if (!index.hasRemaining()) {
+                    index.flip();
+                    writeFully(out, index);
+                    index.clear();
+                }
+                byte[] id = ids.get(order[i]);
+                index.put(id).put(new byte[ID_WIDTH - id.length]);
+                index.putInt(HEADER_SIZE + order[i] * RECORD_SIZE);
+            }
+            index.flip();
+            writeFully(out, index);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(RECORD_SIZE).putLong(indexOffset);
+            header.clear();
+            out.position(0);
+            writeFully(out, header);
+            out.force(true);
+        } catch (IOException | SQLException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new RefreshResult(count, rejected);
+    }
+
+    /**
+     * 명부 파일을 읽기 전용으로 매핑한다.
+     */
+    public static StudentDirectory open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new StudentDirectory(file, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 학번으로 행 번호를 찾는다. 매핑된 인덱스의 바이트를 직접 비교하는 이진 탐색이다.
+     * @return 행 번호, 없으면 -1
+     */
+    public int indexOf(String studentId) {
+        byte[] key = studentId.getBytes(StandardCharsets.UTF_8);
+        if (key.length > ID_WIDTH) {
+            return -1;
+        }
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int c = compareKey(indexOffset + mid * INDEX_ENTRY_SIZE, key);
+            if (c < 0) {
+                low = mid + 1;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 학번으로 학생을 찾아 객체로 만든다.
+     * @return 학생 객체(주민번호 없음), 없으면 null
+     */
+    public Student get(String studentId) {
+        int row = indexOf(studentId);
+        return row < 0 ? null : new Student(studentId(row), name(row), year(row), address(row), departmentId(row));
+    }
+
+    public String studentId(int row) {
+        return getString(recordOffset(row) + ID_OFFSET);
+    }
+    public String name(int row) {
+        return getString(recordOffset(row) + NAME_OFFSET);
+    }
+    public int year(int row) {
+        return buffer.getInt(recordOffset(row) + YEAR_OFFSET);
+    }
+    public int departmentId(int row) {
+        return buffer.getInt(recordOffset(row) + DEPARTMENT_OFFSET);
+    }
+    public String address(int row) {
+        return getString(recordOffset(row) + ADDRESS_OFFSET);
+    }
+
+    /**
+     * 모든 행 번호를 학번순으로 넘긴다.
+     */
+    public void forEach(IntConsumer action) {
+        for (int row = 0; row < size; row++) {
+            action.accept(row);
+        }
+    }
+
+    /**
+     * 채널을 닫는다.
+     * - 매핑된 메모리는 GC가 버퍼를 회수할 때 해제된다(Java 11에는 명시적 해제 API가 없다).
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return "StudentDirectory [path=" + path + ", size=" + size + ", recordSize=" + RECORD_SIZE
+                + ", bytes=" + buffer.capacity() + "]";
+    }
+
+    private int recordOffset(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row: " + row);
+        }
+        return buffer.getInt(indexOffset + row * INDEX_ENTRY_SIZE + ID_WIDTH);
+    }
+
+    private int compareKey(int position, byte[] key) {
+        for (int i = 0; i < ID_WIDTH; i++) {
+            int a = buffer.get(position + i) & 0xFF;
+            int b = i < key.length ? key[i] & 0xFF : 0;
+            if (a != b) {
+                return a - b;
+            }
+        }
+        return 0;
+    }
+
+    private String getString(int position) {
+        int length = buffer.get(position) & 0xFF;
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(position + 1 + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] toBytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 길이 1바이트 + UTF-8 바이트를 쓴다(null이면 길이 0xFF). 폭은 호출부에서 확인한다.
+     */
+    private static void putString(ByteBuffer record, int position, byte[] bytes) {
+        if (bytes == null) {
+            record.put(position, (byte) NULL_LENGTH);
+            return;
+        }
+        record.put(position, (byte) bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            record.put(position + 1 + i, bytes[i]);
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
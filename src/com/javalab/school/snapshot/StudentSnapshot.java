@@ -0,0 +1,284 @@
+package com.javalab.school.snapshot;
+
+import com.javalab.school.dao.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+
+/**
+ * 학생 테이블의 읽기 전용 열(column) 단위 메모리 스냅샷
+ * - Student 객체를 행마다 만들지 않고 열마다 배열 하나에 담는다.
+ *   (학년, 학과코드는 int[], 주소와 학과명은 사전 인코딩한 int[] 코드)
+ * - 행은 학번순으로 정렬되어 있어 학번 배열이 그대로 정렬 인덱스가 된다(이진 탐색).
+ * - 조건 검사와 집계는 행 번호만 다루므로 스캔 중에 행마다 객체를 만들지 않는다.
+ * - 주민번호는 통계에 쓰지 않으므로 싣지 않는다.
+ *
+ * 예) StudentSnapshot snapshot = StudentSnapshot.load();
+ *     int[] byYear = snapshot.countByYear(snapshot.addressStartsWith("서울"));
+ */
+public final class StudentSnapshot {
+
+    private static final String SELECT_SQL = "SELECT s.student_id, s.name, s.year, s.address, s.department_id, " +
+            "d.name department_name " +
+            "FROM student s LEFT OUTER JOIN department d ON s.department_id = d.department_id " +
+            "ORDER BY s.student_id";
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int size;
+    private String[] studentIds = new String[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[] years = new int[INITIAL_CAPACITY];
+    private int[] departmentIds = new int[INITIAL_CAPACITY];
+    private int[] addressCodes = new int[INITIAL_CAPACITY];
+    private int[] departmentCodes = new int[INITIAL_CAPACITY];
+    private final StringDictionary addresses = new StringDictionary();
+    private final StringDictionary departments = new StringDictionary();
+
+    private StudentSnapshot() { }
+
+    /**
+     * 학생 테이블을 한 번 순차로 읽어 스냅샷을 만든다.
+     */
+    public static StudentSnapshot load() throws SQLException {
+        return load(DEFAULT_FETCH_SIZE);
+    }
+
+    public static StudentSnapshot load(int fetchSize) throws SQLException {
+        StudentSnapshot snapshot = new StudentSnapshot();
+        try (Connection conn = DatabaseConnection.borrow();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_SQL)) {
+            pstmt.setFetchSize(fetchSize);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    snapshot.append(
+                            rs.getString(1),
+                            rs.getString(2),
+                            rs.getInt(3),
+                            rs.getString(4),
+                            rs.getInt(5),
+                            rs.getString(6));
+                }
+            }
+        }
+        snapshot.trim();
+        snapshot.ensureSorted();
+        return snapshot;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 학번으로 행 번호를 찾는다(이진 탐색).
+     * @return 행 번호, 없으면 -1
+     */
+    public int indexOf(String studentId) {
+        int row = Arrays.binarySearch(studentIds, 0, size, studentId);
+        return row < 0 ? -1 : row;
+    }
+
+    public String studentId(int row) {
+        return studentIds[row];
+    }
+    public String name(int row) {
+        return names[row];
+    }
+    public int year(int row) {
+        return years[row];
+    }
+    public int departmentId(int row) {
+        return departmentIds[row];
+    }
+    public String address(int row) {
+        return addresses.decode(addressCodes[row]);
+    }
+    public String departmentName(int row) {
+        return departments.decode(departmentCodes[row]);
+    }
+
+    /**
+     * 학과명 사전의 크기(countByDepartment() 결과 배열의 길이)
+     */
+    public int departmentCount() {
+        return departments.size();
+    }
+
+    /**
+     * 학과명 사전 코드에 해당하는 학과명
+     */
+    public String departmentLabel(int code) {
+        return departments.decode(code);
+    }
+
+    /**
+     * 주소가 prefix로 시작하는 행의 조건
+     * - 이 스냅샷의 주소 사전 각 값을 한 번씩만 검사해 두고, 행마다는 코드로 표를 찾는다.
+     * - 사전 코드는 스냅샷마다 다르므로 다른 스냅샷에 쓰면 행마다 주소 문자열을 직접 비교한다.
+     */
+    public RowFilter addressStartsWith(String prefix) {
+        boolean[] matches = new boolean[addresses.size()];
+        for (int code = 0; code < matches.length; code++) {
+            matches[code] = addresses.decode(code).startsWith(prefix);
+        }
+        return (snapshot, row) -> {
+            if (snapshot != this) {
+                String address = snapshot.address(row);
+                return address != null && address.startsWith(prefix);
+            }
+            int code = addressCodes[row];
+            return code != StringDictionary.NULL_CODE && matches[code];
+        };
+    }
+
+    /**
+     * 학과명이 name인 행의 조건
+     * - addressStartsWith()와 같이 다른 스냅샷에 쓰면 학과명 문자열을 직접 비교한다.
+     */
+    public RowFilter departmentNameIs(String name) {
+        int target = departments.codeOf(name);
+        return (snapshot, row) -> {
+            if (snapshot != this) {
+                return name != null && name.equals(snapshot.departmentName(row));
+            }
+            return target != StringDictionary.NULL_CODE && departmentCodes[row] == target;
+        };
+    }
+
+    /**
+     * 조건에 맞는 행 수
+     */
+    public int count(RowFilter filter) {
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (filter.test(this, row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 조건에 맞는 행 번호를 학번순으로 넘긴다.
+     */
+    public void forEach(RowFilter filter, IntConsumer action) {
+        for (int row = 0; row < size; row++) {
+            if (filter.test(this, row)) {
+                action.accept(row);
+            }
+        }
+    }
+
+    /**
+     * 학년별 인원(결과 배열의 인덱스가 학년)
+     */
+    public int[] countByYear(RowFilter filter) {
+        int max = 0;
+        for (int row = 0; row < size; row++) {
+            max = Math.max(max, years[row]);
+        }
+        int[] counts = new int[max + 1];
+        for (int row = 0; row < size; row++) {
+            if (years[row] >= 0 && filter.test(this, row)) {
+                counts[years[row]]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 학과별 인원(결과 배열의 인덱스가 학과명 사전 코드, 학과명은 departmentLabel()로 찾는다)
+     * - 학과가 없는 학생은 세지 않는다.
+     */
+    public int[] countByDepartment(RowFilter filter) {
+        int[] counts = new int[departments.size()];
+        for (int row = 0; row < size; row++) {
+            int code = departmentCodes[row];
+            if (code != StringDictionary.NULL_CODE && filter.test(this, row)) {
+                counts[code]++;
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentSnapshot [size=" + size + ", addresses=" + addresses.size()
+                + ", departments=" + departments.size() + "]";
+    }
+
+    private void append(String studentId, String name, int year, String address, int departmentId,
+                        String departmentName) {
+        if (size == studentIds.length) {
+            resize(size * 2);
+        }
+        studentIds[size] = studentId;
+        names[size] = name;
+        years[size] = year;
+        departmentIds[size] = departmentId;
+        addressCodes[size] = addresses.encode(address);
+        departmentCodes[size] = departments.encode(departmentName);
+        size++;
+    }
+
+    private void trim() {
+        if (size < studentIds.length) {
+            resize(size);
+        }
+    }
+
+    private void resize(int capacity) {
+        studentIds = Arrays.copyOf(studentIds, capacity);
+        names = Arrays.copyOf(names, capacity);
+        years = Arrays.copyOf(years, capacity);
+        departmentIds = Arrays.copyOf(departmentIds, capacity);
+        addressCodes = Arrays.copyOf(addressCodes, capacity);
+        departmentCodes = Arrays.copyOf(departmentCodes, capacity);
+    }
+
+    /**
+     * DB의 정렬 규칙(NLS_SORT 등)이 String.compareTo와 다를 수 있으므로
+     * 순서를 확인하고, 어긋나 있으면 학번순으로 다시 정렬한다.
+     */
+    private void ensureSorted() {
+        boolean sorted = true;
+        for (int row = 1; row < size && sorted; row++) {
+            sorted = studentIds[row - 1].compareTo(studentIds[row]) < 0;
+        }
+        if (sorted) {
+            return;
+        }
+        Integer[] order = new Integer[size];
+        for (int row = 0; row < size; row++) {
+            order[row] = row;
+        }
+        Arrays.sort(order, Comparator.comparing(row -> studentIds[row]));
+        String[] sortedIds = new String[size];
+        String[] sortedNames = new String[size];
+        int[] sortedYears = new int[size];
+        int[] sortedDepartmentIds = new int[size];
+        int[] sortedAddressCodes = new int[size];
+        int[] sortedDepartmentCodes = new int[size];
+        for (int i = 0; i < size; i++) {
+            int row = order[i];
+            sortedIds[i] = studentIds[row];
+            sortedNames[i] = names[row];
+            sortedYears[i] = years[row];
+            sortedDepartmentIds[i] = departmentIds[row];
+            sortedAddressCodes[i] = addressCodes[row];
+            sortedDepartmentCodes[i] = departmentCodes[row];
+        }
+        studentIds = sortedIds;
+        names = sortedNames;
+        years = sortedYears;
+        departmentIds = sortedDepartmentIds;
+        addressCodes = sortedAddressCodes;
+        departmentCodes = sortedDepartmentCodes;
+    }
+}
@@ -0,0 +1,52 @@
+package com.javalab.school.transcript;
+
+/**
+ * 성적 등급을 평점(4.5 만점)으로 바꾸는 클래스
+ * - A+ 4.5, A0 4.0, B+ 3.5, B0 3.0, C+ 2.5, C0 2.0, D+ 1.5, D0 1.0, F 0
+ * - "A", "B"처럼 0을 생략한 등급도 허용한다. 대소문자와 앞뒤 공백은 무시한다.
+ * - 그 밖의 값(P, NP, 미입력 등)은 평점 계산에서 제외한다.
+ */
+public final class GradePoint {
+
+    /** 평점 계산에서 제외되는 성적 */
+    public static final double NOT_GRADED = -1;
+
+    private GradePoint() { }
+
+    public static double of(String score) {
+        if (score == null) {
+            return NOT_GRADED;
+        }
+        String s = score.trim().toUpperCase();
+        if (s.isEmpty() || s.length() > 2) {
+            return NOT_GRADED;
+        }
+        double base;
+        switch (s.charAt(0)) {
+            case 'A':
+                base = 4.0;
+                break;
+            case 'B':
+                base = 3.0;
+                break;
+            case 'C':
+                base = 2.0;
+                break;
+            case 'D':
+                base = 1.0;
+                break;
+            case 'F':
+                return s.length() == 1 ? 0 : NOT_GRADED;
+            default:
+                return NOT_GRADED;
+        }
+        if (s.length() == 1 || s.charAt(1) == '0') {
+            return base;
+        }
+        return s.charAt(1) == '+' ? base + 0.5 : NOT_GRADED;
+    }
+
+    public static boolean isGraded(String score) {
+        return of(score) != NOT_GRADED;
+    }
+}
@@ -0,0 +1,43 @@
+package com.javalab.school.transcript;
+
+/**
+ * 한 학기의 성적 집계(불변)
+ */
+public final class SemesterSummary {
+
+    private final int year;
+    private final String semester;
+    private final int attemptedCredits;     // 평점 계산에 들어간 학점
+    private final int earnedCredits;        // 취득 학점(F 제외)
+    private final double gpa;
+
+    SemesterSummary(int year, String semester, int attemptedCredits, int earnedCredits, double gpa) {
+        this.year = year;
+        this.semester = semester;
+        this.attemptedCredits = attemptedCredits;
+        this.earnedCredits = earnedCredits;
+        this.gpa = gpa;
+    }
+
+    public int getYear() {
+        return year;
+    }
+    public String getSemester() {
+        return semester;
+    }
+    public int getAttemptedCredits() {
+        return attemptedCredits;
+    }
+    public int getEarnedCredits() {
+        return earnedCredits;
+    }
+    public double getGpa() {
+        return gpa;
+    }
+
+    @Override
+    public String toString() {
+        return "SemesterSummary [year=" + year + ", semester=" + semester + ", attemptedCredits=" + attemptedCredits
+                + ", earnedCredits=" + earnedCredits + ", gpa=" + String.format("%.2f", gpa) + "]";
+    }
+}
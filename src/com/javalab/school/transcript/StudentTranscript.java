@@ -0,0 +1,150 @@
+package com.javalab.school.transcript;
+
+import com.javalab.school.domain.GradeRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 학생 한 명의 성적 집계(증분 갱신)
+ * - 수업별 성적을 보관하고, 학기별 학점/평점 합계를 더하고 빼는 방식으로 갱신한다.
+ * - 갱신할 때마다 불변 스냅샷(Transcript)을 새로 만들어 두므로 조회는 필드 하나를 읽는 것으로 끝난다.
+ * - 갱신은 TranscriptService가 학번별 잠금을 잡은 상태에서만 호출한다.
+ */
+final class StudentTranscript {
+
+    private final String studentId;
+    private final Map<String, GradeRecord> records = new HashMap<>();     // 수업코드 -> 성적
+    private final TreeMap<Term, Totals> terms = new TreeMap<>();
+    private volatile Transcript snapshot;
+
+    StudentTranscript(String studentId, List<GradeRecord> initial) {
+        this.studentId = studentId;
+        for (GradeRecord record : initial) {
+            add(record);
+        }
+        snapshot = buildSnapshot();
+    }
+
+    Transcript getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 수업 성적을 등록하거나 바꾼다.
+     */
+    void put(GradeRecord record) {
+        remove(record.getClassId(), false);
+        add(record);
+        snapshot = buildSnapshot();
+    }
+
+    /**
+     * 수업 성적을 지운다.
+     */
+    void remove(String classId) {
+        remove(classId, true);
+    }
+
+    private void add(GradeRecord record) {
+        records.put(record.getClassId(), record);
+        terms.computeIfAbsent(new Term(record.getYear(), record.getSemester()), t -> new Totals()).add(record, 1);
+    }
+
+    private void remove(String classId, boolean rebuild) {
+        GradeRecord old = records.remove(classId);
+        if (old != null) {
+            Term term = new Term(old.getYear(), old.getSemester());
+            Totals totals = terms.get(term);
+            totals.add(old, -1);
+            if (totals.count == 0) {
+                terms.remove(term);
+            }
+            if (rebuild) {
+                snapshot = buildSnapshot();
+            }
+        }
+    }
+
+    private Transcript buildSnapshot() {
+        List<SemesterSummary> semesters = new ArrayList<>(terms.size());
+        Totals all = new Totals();
+        for (Map.Entry<Term, Totals> entry : terms.entrySet()) {
+            Totals totals = entry.getValue();
+            semesters.add(new SemesterSummary(entry.getKey().year, entry.getKey().semester,
+                    totals.attemptedCredits, totals.earnedCredits, totals.gpa()));
+            all.count += totals.count;
+            all.attemptedCredits += totals.attemptedCredits;
+            all.earnedCredits += totals.earnedCredits;
+            all.pointTenths += totals.pointTenths;
+        }
+        return new Transcript(studentId, all.count, all.attemptedCredits, all.earnedCredits, all.gpa(),
+                Collections.unmodifiableList(semesters));
+    }
+
+    /**
+     * 학기별 합계. 평점은 소수 오차가 쌓이지 않도록 (평점 x 10 x 학점)의 정수 합으로 보관한다.
+     */
+    private static final class Totals {
+        int count;
+        int attemptedCredits;
+        int earnedCredits;
+        long pointTenths;
+
+        void add(GradeRecord record, int sign) {
+            count += sign;
+            double point = GradePoint.of(record.getScore());
+            if (point == GradePoint.NOT_GRADED) {
+                return;
+            }
+            int credit = record.getCredit();
+            attemptedCredits += sign * credit;
+            if (point > 0) {
+                earnedCredits += sign * credit;
+            }
+            pointTenths += sign * Math.round(point * 10) * credit;
+        }
+
+        double gpa() {
+            return attemptedCredits == 0 ? 0 : pointTenths / 10.0 / attemptedCredits;
+        }
+    }
+
+    /**
+     * 년도, 학기 순으로 정렬되는 학기 키
+     */
+    private static final class Term implements Comparable<Term> {
+        final int year;
+        final String semester;
+
+        Term(int year, String semester) {
+            this.year = year;
+            this.semester = semester == null ? "" : semester;
+        }
+
+        @Override
+        public int compareTo(Term o) {
+            int c = Integer.compare(year, o.year);
+            return c != 0 ? c : semester.compareTo(o.semester);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Term)) {
+                return false;
+            }
+            Term t = (Term) o;
+            return year == t.year && semester.equals(t.semester);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(year, semester);
+        }
+    }
+}
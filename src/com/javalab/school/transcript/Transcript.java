@@ -0,0 +1,53 @@
+package com.javalab.school.transcript;
+
+import java.util.List;
+
+/**
+ * 학생 한 명의 성적표(불변 스냅샷)
+ * - 평점(GPA)은 학점 가중 평균이며, 평점 계산에 들어간 학점이 없으면 0이다.
+ */
+public final class Transcript {
+
+    private final String studentId;
+    private final int courseCount;          // 성적이 있는 수업 수(평점 제외 성적 포함)
+    private final int attemptedCredits;
+    private final int earnedCredits;
+    private final double gpa;
+    private final List<SemesterSummary> semesters;  // 년도, 학기순
+
+    Transcript(String studentId, int courseCount, int attemptedCredits, int earnedCredits, double gpa,
+               List<SemesterSummary> semesters) {
+        this.studentId = studentId;
+        this.courseCount = courseCount;
+        this.attemptedCredits = attemptedCredits;
+        this.earnedCredits = earnedCredits;
+        this.gpa = gpa;
+        this.semesters = semesters;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+    public int getCourseCount() {
+        return courseCount;
+    }
+    public int getAttemptedCredits() {
+        return attemptedCredits;
+    }
+    public int getEarnedCredits() {
+        return earnedCredits;
+    }
+    public double getGpa() {
+        return gpa;
+    }
+    public List<SemesterSummary> getSemesters() {
+        return semesters;
+    }
+
+    @Override
+    public String toString() {
+        return "Transcript [studentId=" + studentId + ", courseCount=" + courseCount
+                + ", attemptedCredits=" + attemptedCredits + ", earnedCredits=" + earnedCredits
+                + ", gpa=" + String.format("%.2f", gpa) + ", semesters=" + semesters + "]";
+    }
+}
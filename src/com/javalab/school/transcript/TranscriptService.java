@@ -0,0 +1,215 @@
+package com.javalab.school.transcript;
+
+import com.javalab.school.dao.DataAccessException;
+import com.javalab.school.dao.EnrollmentResult;
+import com.javalab.school.dao.ScoreWriteBuffer;
+import com.javalab.school.dao.SeatCounter;
+import com.javalab.school.dao.TakesDao;
+import com.javalab.school.dao.TranscriptDao;
+import com.javalab.school.domain.GradeRecord;
+import com.javalab.school.domain.Takes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 성적표(학점 가중 평점, 학기별 집계) 서비스
+ * - 학생의 성적표를 처음 조회할 때 그 학생의 성적만 한 번 조인해서 읽고 메모리에 집계해 둔다.
+ * - 이후의 성적 등록/수정/삭제는 이 서비스를 거치면 DB 반영 후 집계도 바로 갱신되므로
+ *   다시 조회할 때 조인을 하지 않는다.
+ * - 같은 학생에 대한 적재와 갱신은 학번별 잠금으로 직렬화한다.
+ * - 강좌 학점이 바뀌는 등 집계 밖에서 데이터가 바뀌면 invalidate()/invalidateAll()을 호출해야 한다.
+ * - 성적 등록은 수업 정원(class.enroll)을 넘지 않도록 SeatCounter를 거친다.
+ * - 쓰기 지연 모드(-Dschool.score.writeBehind=true)에서는 점수 수정을 ScoreWriteBuffer에 모았다가 한꺼번에 반영한다.
+ *   그 학생의 성적표 조회, 성적 삭제 전에는 모인 수정을 먼저 반영한다. 종료할 때 close()를 호출해야 한다.
+ */
+public class TranscriptService {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final TakesDao takesDao = new TakesDao();
+    private final TranscriptDao transcriptDao = new TranscriptDao();
+    private final SeatCounter seatCounter = new SeatCounter();
+    private final ScoreWriteBuffer scoreBuffer;     // 쓰기 지연 모드가 아니면 null
+    private final ConcurrentHashMap<String, StudentTranscript> transcripts = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    /**
+     * 시스템 프로퍼티에 따라 쓰기 지연 모드를 켠다. 남은 저널이 있으면 먼저 반영한다.
+     */
+    public TranscriptService() {
+        this(openScoreBuffer());
+    }
+
+    /**
+     * @param scoreBuffer 점수 수정 쓰기 지연 버퍼, null이면 수정할 때마다 바로 반영한다.
+     */
+    public TranscriptService(ScoreWriteBuffer scoreBuffer) {
+        this.scoreBuffer = scoreBuffer;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 학생의 성적표를 반환한다. 성적이 없는 학생은 빈 성적표를 반환한다.
+     */
+    public Transcript getTranscript(String studentId) throws SQLException {
+        StudentTranscript transcript = transcripts.get(studentId);
+        if (transcript == null) {
+            synchronized (lockFor(studentId)) {
+                transcript = transcripts.get(studentId);
+                if (transcript == null) {
+                    flushPending(studentId);
+                    transcript = new StudentTranscript(studentId, transcriptDao.findByStudentId(studentId));
+                    transcripts.put(studentId, transcript);
+                }
+            }
+        }
+        return transcript.getSnapshot();
+    }
+
+    /**
+     * 성적 등록(수강 신청)
+     * - 수업 정원이 찼거나 수업이 없으면 등록하지 않는다.
+     */
+    public EnrollmentResult enroll(Takes takes) throws SQLException {
+        synchronized (lockFor(takes.getId())) {
+            EnrollmentResult result = seatCounter.enroll(takes);
+            if (result == EnrollmentResult.ENROLLED) {
+                refresh(takes.getId(), takes.getSubject());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 성적 등록
+     * @return 등록된 행의 수(정원 초과, 수업 없음이면 0)
+     */
+    public int registerTakes(Takes takes) throws SQLException {
+        return enroll(takes) == EnrollmentResult.ENROLLED ? 1 : 0;
+    }
+
+    /**
+     * 성적 수정
+     * - 쓰기 지연 모드에서는 저널에 기록하고 1을 반환한다(성적 행이 없으면 반영할 때 아무 행도 바뀌지 않는다).
+     * @return 수정된 행의 수
+     */
+    public int updateTakes(Takes takes) throws SQLException {
+        synchronized (lockFor(takes.getId())) {
+            if (scoreBuffer != null) {
+                scoreBuffer.update(takes);
+                transcripts.remove(takes.getId());  // 반영 후 다시 읽는다.
+                return 1;
+            }
+            int rows = takesDao.update(takes);
+            if (rows > 0) {
+                refresh(takes.getId(), takes.getSubject());
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * 성적 삭제
+     * @return 삭제된 행의 수
+     */
+    public int deleteTakes(String studentId, String classId) throws SQLException {
+        synchronized (lockFor(studentId)) {
+            // 모인 수정이 나중에 같은 키로 다시 등록된 성적에 반영되지 않도록 먼저 반영한다.
+            flushPending(studentId);
+            int rows = takesDao.delete(studentId, classId);    // 수업 카운터는 TakesDao가 버린다.
+            StudentTranscript transcript = transcripts.get(studentId);
+            if (rows > 0 && transcript != null) {
+                transcript.remove(classId);
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * 학생 한 명의 집계를 버린다. 다음 조회 때 DB에서 다시 읽는다.
+     */
+    public void invalidate(String studentId) {
+        transcripts.remove(studentId);
+    }
+
+    /**
+     * 모든 집계를 버린다. (강좌 학점 변경 등)
+     */
+    public void invalidateAll() {
+        transcripts.clear();
+    }
+
+    public SeatCounter getSeatCounter() {
+        return seatCounter;
+    }
+
+    /**
+     * 점수 수정 쓰기 지연 버퍼(쓰기 지연 모드가 아니면 null)
+     */
+    public ScoreWriteBuffer getScoreBuffer() {
+        return scoreBuffer;
+    }
+
+    /**
+     * 모인 점수 수정을 반영하고 쓰기 지연 버퍼를 닫는다.
+     */
+    public void close() throws SQLException {
+        if (scoreBuffer != null) {
+            scoreBuffer.close();
+        }
+    }
+
+    /**
+     * 메모리에 집계되어 있는 학생 수
+     */
+    public int size() {
+        return transcripts.size();
+    }
+
+    /**
+     * 방금 쓴 성적 한 건을 학점/학기와 함께 다시 읽어 집계에 반영한다.
+     * - 아직 적재되지 않은 학생이면 할 일이 없다(처음 조회할 때 전체를 읽는다).
+     * - DB 쓰기는 이미 끝났으므로 다시 읽기에 실패해도 예외를 던지지 않고 집계만 버린다.
+     */
+    private void refresh(String studentId, String classId) {
+        StudentTranscript transcript = transcripts.get(studentId);
+        if (transcript == null) {
+            return;
+        }
+        try {
+            GradeRecord record = transcriptDao.findOne(studentId, classId);
+            if (record == null) {
+                transcript.remove(classId);
+            } else {
+                transcript.put(record);
+            }
+        } catch (SQLException | RuntimeException e) {
+            transcripts.remove(studentId);
+        }
+    }
+
+    private void flushPending(String studentId) throws SQLException {
+        if (scoreBuffer != null && scoreBuffer.hasPending(studentId)) {
+            scoreBuffer.flush();
+        }
+    }
+
+    private static ScoreWriteBuffer openScoreBuffer() {
+        try {
+            return ScoreWriteBuffer.fromSystemProperties();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (SQLException e) {
+            throw new DataAccessException("성적 저널을 반영하지 못했습니다.", e);
+        }
+    }
+
+    private Object lockFor(String studentId) {
+        return locks[(studentId.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+}